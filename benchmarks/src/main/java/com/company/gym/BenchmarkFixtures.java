@@ -0,0 +1,75 @@
+package com.company.gym;
+
+import com.company.gym.dto.projection.TrainingListRow;
+import com.company.gym.entity.Trainee;
+import com.company.gym.entity.Trainer;
+import com.company.gym.entity.Training;
+import com.company.gym.entity.TrainingType;
+import com.company.gym.entity.User;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+// Detached entity graphs shaped like production data: one busy trainer, its trainees and one training per trainee.
+public final class BenchmarkFixtures {
+
+    private static final String[] FIRST_NAMES = {"John", "Anna", "Maria", "Ivan", "Olga", "Peter", "Elena", "Sergey"};
+    private static final String[] LAST_NAMES = {"Smith", "Ivanova", "Petrov", "Garcia", "Novak", "Kowalski", "Brown", "Sidorov"};
+    private static final String[] TYPES = {"Fitness", "Yoga", "Zumba", "Stretching", "Resistance"};
+
+    private BenchmarkFixtures() {}
+
+    public record TrainerGraph(Trainer trainer, List<Training> trainings, List<TrainingListRow> rows) {}
+
+    public static TrainerGraph trainerWithTrainees(int trainees) {
+        List<TrainingType> types = new ArrayList<>();
+        for (int i = 0; i < TYPES.length; i++) {
+            TrainingType type = new TrainingType(TYPES[i]);
+            type.setId((long) i + 1);
+            types.add(type);
+        }
+
+        Trainer trainer = new Trainer();
+        trainer.setId(1L);
+        trainer.setUser(user(1L, "Alex", "Coach"));
+        trainer.setSpecialization(types.get(0));
+
+        List<Training> trainings = new ArrayList<>(trainees);
+        List<TrainingListRow> rows = new ArrayList<>(trainees);
+        long day = 24L * 60 * 60 * 1000;
+        for (int i = 0; i < trainees; i++) {
+            Trainee trainee = new Trainee();
+            trainee.setId((long) i + 1);
+            trainee.setUser(user(i + 2L, FIRST_NAMES[i % FIRST_NAMES.length], LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length]));
+            trainee.setDateOfBirth(new Date(i * day));
+            trainee.setAddress("Street " + i);
+            trainer.addTrainee(trainee);
+
+            Training training = new Training();
+            training.setId((long) i + 1);
+            training.setTrainingName("Session " + i);
+            training.setTrainingDate(new Date(1_700_000_000_000L + i * day));
+            training.setTrainingDuration(30 + i % 90);
+            training.setTrainee(trainee);
+            training.setTrainer(trainer);
+            training.setTrainingType(types.get(i % types.size()));
+            trainings.add(training);
+
+            rows.add(new TrainingListRow(training.getId(), training.getTrainingName(), training.getTrainingDate(),
+                    training.getTrainingType().getName(), training.getTrainingDuration(),
+                    trainee.getUser().getFirstName() + " " + trainee.getUser().getLastName()));
+        }
+        return new TrainerGraph(trainer, trainings, rows);
+    }
+
+    private static User user(long id, String firstName, String lastName) {
+        User user = new User();
+        user.setId(id);
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setUsername(firstName.toLowerCase() + "." + lastName.toLowerCase() + id);
+        user.setIsActive(true);
+        return user;
+    }
+}
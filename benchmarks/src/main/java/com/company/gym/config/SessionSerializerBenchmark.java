@@ -0,0 +1,56 @@
+package com.company.gym.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+// Session attribute (de)serialisation per request: compact format against the JDK format it replaced.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SessionSerializerBenchmark {
+
+    @Param({"compact", "jdk"})
+    String format;
+
+    private CompactSessionSerializer serializer;
+    private SecurityContext context;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() {
+        serializer = new CompactSessionSerializer("compact".equals(format));
+        UserDetails principal = User.withUsername("john.smith").password("").roles("USER").build();
+        context = new SecurityContextImpl(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+        serialized = serializer.serialize(context);
+    }
+
+    @Benchmark
+    public byte[] serializeSecurityContext() {
+        return serializer.serialize(context);
+    }
+
+    @Benchmark
+    public Object deserializeSecurityContext() {
+        return serializer.deserialize(serialized);
+    }
+}
@@ -0,0 +1,199 @@
+package com.company.gym.dao;
+
+import com.company.gym.dto.response.TrainingListResponse;
+import com.company.gym.entity.Trainee;
+import com.company.gym.entity.Trainer;
+import com.company.gym.entity.Training;
+import com.company.gym.entity.TrainingType;
+import com.company.gym.entity.User;
+import com.company.gym.mapper.TraineeMapper;
+import com.company.gym.mapper.TraineeMapperImpl;
+import com.company.gym.mapper.TrainerMapper;
+import com.company.gym.mapper.TrainerMapperImpl;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * A trainee's whole trainings history read through a real persistence context (Hibernate on in-memory H2 in
+ * PostgreSQL mode, a Spring-managed shared EntityManager, one read-only transaction per call), from query to
+ * TrainingListResponse. Run with -prof gc for the allocation per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class TrainingHistoryBenchmark {
+
+    private static final String USERNAME = "history.owner";
+    private static final int TRAINERS = 5;
+    private static final String[] TYPES = {"Fitness", "Yoga", "Zumba", "Stretching", "Resistance"};
+
+    // Trainings list query before the flat projection.
+    private static final String ENTITY_HQL =
+            "SELECT t FROM Training t JOIN t.trainee tr JOIN FETCH t.trainer tn JOIN t.trainingType tt " +
+            "WHERE tr.user.username = :username ORDER BY t.trainingDate, t.id";
+
+    @Param({"10000"})
+    int trainings;
+
+    private HikariDataSource dataSource;
+    private SessionFactory sessionFactory;
+    private AnnotationConfigApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+    private TraineeDAO traineeDAO;
+    private TraineeMapper traineeMapper;
+    private TrainerMapper trainerMapper;
+
+    @Setup
+    public void setUp() throws SQLException {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:history;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH");
+        dataSource.setUsername("sa");
+
+        // Same second-level cache set-up as application.yml, so training types come from the cache on both paths.
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(TrainingType.class)
+                .addAnnotatedClass(Trainer.class)
+                .addAnnotatedClass(Trainee.class)
+                .addAnnotatedClass(Training.class)
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true")
+                .setProperty(AvailableSettings.CACHE_REGION_FACTORY, "jcache")
+                .setProperty("hibernate.javax.cache.provider", "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider")
+                .setProperty("hibernate.javax.cache.missing_cache_strategy", "create");
+        configuration.getProperties().put(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, dataSource);
+        sessionFactory = configuration.buildSessionFactory();
+        seed();
+
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(EntityManagerFactory.class, () -> sessionFactory);
+        // Hibernate dialect as Spring Boot configures it: read-only transactions skip the flush and its dirty checking.
+        JpaTransactionManager transactionManager = new JpaTransactionManager(sessionFactory);
+        transactionManager.setJpaDialect(new HibernateJpaDialect());
+        context.registerBean(PlatformTransactionManager.class, () -> transactionManager);
+        context.register(TraineeDAO.class, TraineeMapperImpl.class, TrainerMapperImpl.class);
+        context.refresh();
+
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(sessionFactory);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        traineeDAO = context.getBean(TraineeDAO.class);
+        traineeMapper = context.getBean(TraineeMapper.class);
+        trainerMapper = context.getBean(TrainerMapper.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        sessionFactory.close();
+        dataSource.close();
+    }
+
+    // Entity path: Training entities, their trainers and trainer profiles in the persistence context, then the entity mapper.
+    @Benchmark
+    public List<TrainingListResponse> entityPath() {
+        return readOnly.execute(status -> traineeMapper.toTrainingListResponse(
+                entityManager.unwrap(Session.class).createQuery(ENTITY_HQL, Training.class)
+                        .setParameter("username", USERNAME)
+                        .setMaxResults(trainings + 1)
+                        .list()));
+    }
+
+    // Projection path of the trainings list: TraineeDAO selects TrainingListRow, mapped by TrainerMapper.
+    @Benchmark
+    public List<TrainingListResponse> projectionPath() {
+        return readOnly.execute(status -> trainerMapper.toTrainingListResponseFromRows(
+                traineeDAO.getTraineeTrainingsList(USERNAME, null, null, null, null, null, trainings + 1)));
+    }
+
+    // One trainee linked to a few trainers, with the whole history spread over them and over the training types.
+    private void seed() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                for (int i = 0; i < TYPES.length; i++) {
+                    statement.execute("INSERT INTO training_type (id, training_type_name) VALUES (" + (i + 1) + ", '" + TYPES[i] + "')");
+                }
+            }
+            try (PreparedStatement profile = connection.prepareStatement(
+                    "INSERT INTO user_profile (id, first_name, last_name, full_name, username, password, is_active) VALUES (?, ?, ?, ?, ?, 'x', TRUE)");
+                 PreparedStatement trainer = connection.prepareStatement("INSERT INTO trainer (user_id, specialization_id) VALUES (?, ?)");
+                 PreparedStatement link = connection.prepareStatement("INSERT INTO trainee_trainer (trainee_id, trainer_id) VALUES (1, ?)")) {
+                insertProfile(profile, 1, "History", "Owner", USERNAME);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("INSERT INTO trainee (user_id, address) VALUES (1, 'Street 1')");
+                }
+                for (long id = 2; id < 2 + TRAINERS; id++) {
+                    insertProfile(profile, id, "Coach", "Number" + id, "coach." + id);
+                    trainer.setLong(1, id);
+                    trainer.setLong(2, 1 + id % TYPES.length);
+                    trainer.executeUpdate();
+                    link.setLong(1, id);
+                    link.executeUpdate();
+                }
+            }
+            try (PreparedStatement training = connection.prepareStatement(
+                    "INSERT INTO training (id, training_name, training_date, training_duration, trainee_id, trainer_id, training_type_id) " +
+                    "VALUES (?, ?, ?, ?, 1, ?, ?)")) {
+                LocalDate first = LocalDate.of(2020, 1, 1);
+                for (int i = 0; i < trainings; i++) {
+                    training.setLong(1, i + 1);
+                    training.setString(2, "Session " + i);
+                    training.setDate(3, Date.valueOf(first.plusDays(i / 3)));
+                    training.setInt(4, 30 + i % 90);
+                    training.setLong(5, 2 + i % TRAINERS);
+                    training.setLong(6, 1 + i % TYPES.length);
+                    training.addBatch();
+                }
+                training.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+
+    private static void insertProfile(PreparedStatement profile, long id, String firstName, String lastName, String username)
+            throws SQLException {
+        profile.setLong(1, id);
+        profile.setString(2, firstName);
+        profile.setString(3, lastName);
+        profile.setString(4, firstName + " " + lastName);
+        profile.setString(5, username);
+        profile.executeUpdate();
+    }
+}
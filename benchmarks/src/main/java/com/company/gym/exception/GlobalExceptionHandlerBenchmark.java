@@ -0,0 +1,58 @@
+package com.company.gym.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+// Error rendering end to end: handler method plus JSON serialisation of the response body.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private ObjectMapper objectMapper;
+    private NotFoundException notFound;
+    private MethodArgumentNotValidException invalidRequest;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler();
+        objectMapper = new ObjectMapper();
+        notFound = new NotFoundException("Trainee not found with username: john.smith");
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "request");
+        for (String field : new String[]{"firstName", "lastName", "dateOfBirth", "address", "username"}) {
+            bindingResult.addError(new FieldError("request", field, field + " must not be blank"));
+        }
+        MethodParameter parameter = new MethodParameter(Object.class.getMethod("equals", Object.class), 0);
+        invalidRequest = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public byte[] renderNotFound() throws Exception {
+        return objectMapper.writeValueAsBytes(handler.handleNotFoundException(notFound).getBody());
+    }
+
+    @Benchmark
+    public byte[] renderValidationFailure() throws Exception {
+        return objectMapper.writeValueAsBytes(handler.handleValidationExceptions(invalidRequest).getBody());
+    }
+}
@@ -0,0 +1,62 @@
+package com.company.gym.mapper;
+
+import com.company.gym.BenchmarkFixtures;
+import com.company.gym.dto.response.TrainerProfileResponse;
+import com.company.gym.dto.response.TrainingListResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Same package as the mappers so the generated implementations can be wired without Spring.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MapperBenchmark {
+
+    @Param({"100", "5000"})
+    int trainees;
+
+    private TraineeMapper traineeMapper;
+    private TrainerMapper trainerMapper;
+    private BenchmarkFixtures.TrainerGraph graph;
+
+    @Setup
+    public void setUp() {
+        traineeMapper = new TraineeMapperImpl();
+        trainerMapper = new TrainerMapperImpl();
+        traineeMapper.trainerMapper = trainerMapper;
+        trainerMapper.traineeMapper = traineeMapper;
+        graph = BenchmarkFixtures.trainerWithTrainees(trainees);
+    }
+
+    // Entity path of the trainee/trainer trainings list, as before the flat projection.
+    @Benchmark
+    public List<TrainingListResponse> traineeTrainingListFromEntities() {
+        return traineeMapper.toTrainingListResponse(graph.trainings());
+    }
+
+    // Projection path used by the trainings list since the DAOs select TrainingListRow.
+    @Benchmark
+    public List<TrainingListResponse> trainingListFromRows() {
+        return trainerMapper.toTrainingListResponseFromRows(graph.rows());
+    }
+
+    @Benchmark
+    public TrainerProfileResponse trainerProfileWithTrainees() {
+        return trainerMapper.toTrainerProfileResponse(graph.trainer());
+    }
+}
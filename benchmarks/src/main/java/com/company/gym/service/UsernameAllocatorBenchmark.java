@@ -0,0 +1,63 @@
+package com.company.gym.service;
+
+import com.company.gym.dao.UserDAO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// In-memory part of registration: gap search over the names returned by the single prefix query.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class UsernameAllocatorBenchmark {
+
+    @Param({"0", "50", "500"})
+    int collisions;
+
+    private UsernameAllocator allocator;
+
+    @Setup
+    public void setUp() {
+        List<String> existing = new ArrayList<>();
+        if (collisions > 0) {
+            existing.add("john.smith");
+            for (int i = 1; i < collisions; i++) {
+                existing.add("john.smith" + i);
+            }
+        }
+        allocator = new UsernameAllocator(new UserDAO() {
+            @Override
+            public List<String> findUsernamesByBase(String baseUsername) {
+                return existing;
+            }
+        });
+    }
+
+    @Benchmark
+    public String allocate() {
+        return allocator.allocate("john.smith");
+    }
+
+    // Same base name from several registration threads: contention on the lock stripe.
+    @Benchmark
+    @Threads(4)
+    public String allocateContended() {
+        return allocator.allocate("john.smith");
+    }
+}
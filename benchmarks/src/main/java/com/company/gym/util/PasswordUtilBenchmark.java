@@ -0,0 +1,41 @@
+package com.company.gym.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// BCrypt at the default cost; one check is tens of milliseconds, so few, long iterations.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordUtilBenchmark {
+
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        hash = PasswordUtil.hashPassword("s3cretPass");
+    }
+
+    @Benchmark
+    public boolean checkPasswordMatch() {
+        return PasswordUtil.checkPassword("s3cretPass", hash);
+    }
+
+    @Benchmark
+    public boolean checkPasswordMismatch() {
+        return PasswordUtil.checkPassword("wrongPass1", hash);
+    }
+}
@@ -0,0 +1,95 @@
+package com.company.gym.util;
+
+import com.company.gym.dto.projection.TrainingListRow;
+import com.company.gym.entity.Trainee;
+import com.company.gym.entity.Trainer;
+import com.company.gym.entity.Training;
+import com.company.gym.entity.TrainingType;
+import com.company.gym.entity.User;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.query.Query;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Builds the trainee trainings-list query the way TraineeDAO does. Hibernate runs against the
+ * PostgreSQL dialect with JDBC metadata access disabled, so no database is needed: the
+ * benchmark measures HQL assembly, the query plan cache lookup and parameter binding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class QueryUtilBenchmark {
+
+    private SessionFactory sessionFactory;
+    private Session session;
+    private final Date from = new Date(1_700_000_000_000L);
+    private final Date to = new Date(1_800_000_000_000L);
+    private final TrainingCursor cursor = new TrainingCursor(1_750_000_000_000L, 42L);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Trainee.class)
+                .addAnnotatedClass(Trainer.class)
+                .addAnnotatedClass(Training.class)
+                .addAnnotatedClass(TrainingType.class)
+                .setProperty("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect")
+                .setProperty("hibernate.boot.allow_jdbc_metadata_access", "false")
+                .setProperty("hibernate.hbm2ddl.auto", "none")
+                .buildSessionFactory();
+        session = sessionFactory.openSession();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        session.close();
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Query<TrainingListRow> firstPage() {
+        return traineeTrainingsQuery(null, null, null);
+    }
+
+    @Benchmark
+    public Query<TrainingListRow> filteredPageWithCursor() {
+        return traineeTrainingsQuery(from, to, cursor);
+    }
+
+    private Query<TrainingListRow> traineeTrainingsQuery(Date fromDate, Date toDate, TrainingCursor after) {
+        StringBuilder hql = new StringBuilder(
+                "SELECT new com.company.gym.dto.projection.TrainingListRow(" +
+                "t.id, t.trainingName, t.trainingDate, tt.name, t.trainingDuration, CONCAT(tnu.firstName, ' ', tnu.lastName)) " +
+                "FROM Training t JOIN t.trainer tn JOIN tn.user tnu JOIN t.trainingType tt " +
+                "WHERE t.id IN (SELECT p.id FROM Training p " +
+                "WHERE p.trainee.id = (SELECT tr.id FROM Trainee tr JOIN tr.user u WHERE u.username = :username)"
+        );
+        if (fromDate != null) hql.append(" AND p.trainingDate >= :fromDate");
+        if (toDate != null) hql.append(" AND p.trainingDate <= :toDate");
+        QueryUtil.appendKeyset(hql, after);
+
+        Query<TrainingListRow> query = QueryUtil.getTrainingQuery("john.smith", fromDate, toDate, session, hql, TrainingListRow.class);
+        QueryUtil.bindKeyset(query, after, 21);
+        return query;
+    }
+}
@@ -0,0 +1,37 @@
+package com.company.gym.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class UsernameUtilBenchmark {
+
+    private String firstName = "John";
+    private String lastName = "Smith";
+    private String spacedFirstName = "  Mary Ann ";
+    private String spacedLastName = "van der Berg";
+
+    @Benchmark
+    public String generateBaseUsername() {
+        return UsernameUtil.generateBaseUsername(firstName, lastName);
+    }
+
+    @Benchmark
+    public String generateBaseUsernameWithWhitespace() {
+        return UsernameUtil.generateBaseUsername(spacedFirstName, spacedLastName);
+    }
+}
@@ -0,0 +1,249 @@
+package com.company.gym.loadtest;
+
+import com.company.gym.util.PasswordUtil;
+import com.company.gym.util.UsernameUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/*
+ * Writes a synthetic dataset straight into an existing, empty schema (start the application once
+ * against the database so Hibernate creates it). Rows go through RowSink: COPY on PostgreSQL,
+ * batched INSERTs elsewhere. The training keyset indexes are dropped during the load and rebuilt
+ * afterwards, then the id sequences are moved past the generated ids.
+ *
+ *   mvn -f loadtest/pom.xml exec:java -Dexec.mainClass=com.company.gym.loadtest.DataGenerator \
+ *       -Dgen.url=jdbc:postgresql://localhost:5432/gym_db -Dgen.user=anastasiia -Dgen.trainings=10000000
+ *
+ * See GeneratorSpec for the distribution knobs. A short shape summary is logged at the end.
+ */
+public class DataGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataGenerator.class);
+
+    private static final String[] SYLLABLES = {
+            "al", "an", "ar", "bel", "bri", "ca", "cor", "da", "del", "el", "em", "fa", "fin", "ga", "har",
+            "is", "ja", "ka", "la", "len", "li", "ma", "mar", "mi", "na", "nor", "o", "pa", "ra", "ren",
+            "ri", "sa", "sel", "ta", "tor", "u", "va", "vin", "wil", "za"};
+    private static final String[] KEYSET_INDEXES = {
+            "idx_training_trainee_date_id ON training (trainee_id, training_date, id)",
+            "idx_training_trainer_date_id ON training (trainer_id, training_date, id)"};
+
+    private final Connection connection;
+    private final GeneratorSpec spec;
+    private final SplittableRandom random;
+
+    private long[] typeIds;
+    private long firstTrainerId;
+    private long firstTraineeId;
+    private int[][] links;
+
+    public DataGenerator(Connection connection, GeneratorSpec spec) {
+        this.connection = connection;
+        this.spec = spec;
+        this.random = new SplittableRandom(spec.seed());
+    }
+
+    public static void main(String[] args) throws Exception {
+        GeneratorSpec spec = GeneratorSpec.fromSystemProperties();
+        try (Connection connection = DriverManager.getConnection(
+                System.getProperty("gen.url", "jdbc:postgresql://localhost:5432/gym_db"),
+                System.getProperty("gen.user", "anastasiia"),
+                System.getProperty("gen.password", ""))) {
+            new DataGenerator(connection, spec).generate();
+        }
+    }
+
+    public void generate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (count(statement, "SELECT COUNT(*) FROM user_profile") > 0) {
+                throw new IllegalStateException("user_profile is not empty; the generator only fills an empty schema.");
+            }
+            long start = System.nanoTime();
+            typeIds = trainingTypes(statement);
+
+            generateUsers();
+            logger.info("Users, trainers, trainees and links written in {} s.", secondsSince(start));
+
+            for (String index : KEYSET_INDEXES) {
+                statement.execute("DROP INDEX IF EXISTS " + index.substring(0, index.indexOf(' ')));
+            }
+            generateTrainings(start);
+            for (String index : KEYSET_INDEXES) {
+                statement.execute("CREATE INDEX IF NOT EXISTS " + index);
+            }
+
+            long users = (long) spec.trainers() + spec.trainees();
+            statement.execute("ALTER SEQUENCE user_profile_seq RESTART WITH " + (users + 100));
+            statement.execute("ALTER SEQUENCE training_seq RESTART WITH " + (spec.trainings() + 100));
+            statement.execute("ANALYZE");
+            logger.info("Dataset generated in {} s.", secondsSince(start));
+        }
+    }
+
+    private long[] trainingTypes(Statement statement) throws SQLException {
+        if (count(statement, "SELECT COUNT(*) FROM training_type") == 0) {
+            for (int i = 0; i < Dataset.TRAINING_TYPES.length; i++) {
+                statement.executeUpdate("INSERT INTO training_type (id, training_type_name) VALUES (" + (i + 1) + ", '" + Dataset.TRAINING_TYPES[i] + "')");
+            }
+            statement.execute("ALTER SEQUENCE training_type_seq RESTART WITH 100");
+        }
+        List<Long> ids = new ArrayList<>();
+        try (ResultSet resultSet = statement.executeQuery("SELECT id FROM training_type ORDER BY id")) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong(1));
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // Trainers take ids 1..T and trainees T+1..T+N; popularity ranks are shuffled over the ids.
+    private void generateUsers() throws SQLException {
+        String password = PasswordUtil.hashPassword(Dataset.PASSWORD);
+        ZipfSampler firstNames = new ZipfSampler(spec.firstNames(), spec.nameSkew());
+        ZipfSampler lastNames = new ZipfSampler(spec.lastNames(), spec.nameSkew());
+        Map<String, Integer> usernameSuffixes = new HashMap<>();
+        firstTrainerId = 1;
+        firstTraineeId = firstTrainerId + spec.trainers();
+
+        try (RowSink users = RowSink.open(connection, "user_profile",
+                "id", "first_name", "last_name", "full_name", "username", "password", "is_active")) {
+            for (long id = 1; id <= (long) spec.trainers() + spec.trainees(); id++) {
+                String firstName = name(firstNames.sample(random));
+                String lastName = name(spec.firstNames() + lastNames.sample(random));
+                users.add(id, firstName, lastName, firstName + " " + lastName,
+                        username(usernameSuffixes, UsernameUtil.generateBaseUsername(firstName, lastName)), password, true);
+            }
+        }
+        int maxSuffix = usernameSuffixes.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        logger.info("{} distinct username bases for {} users; longest collision chain {}.",
+                usernameSuffixes.size(), spec.trainers() + spec.trainees(), maxSuffix + 1);
+
+        try (RowSink trainers = RowSink.open(connection, "trainer", "user_id", "specialization_id")) {
+            for (int i = 0; i < spec.trainers(); i++) {
+                trainers.add(firstTrainerId + i, typeIds[random.nextInt(typeIds.length)]);
+            }
+        }
+
+        LocalDate today = LocalDate.now();
+        try (RowSink trainees = RowSink.open(connection, "trainee", "user_id", "date_of_birth", "address")) {
+            for (int i = 0; i < spec.trainees(); i++) {
+                trainees.add(firstTraineeId + i, Date.valueOf(today.minusDays(6570 + random.nextInt(18000))), "Street " + (i + 1));
+            }
+        }
+
+        int[] trainerByRank = permutation(spec.trainers());
+        ZipfSampler trainerPopularity = new ZipfSampler(spec.trainers(), spec.trainerSkew());
+        links = new int[spec.trainees()][];
+        int[] traineesPerTrainer = new int[spec.trainers()];
+        try (RowSink traineeTrainers = RowSink.open(connection, "trainee_trainer", "trainee_id", "trainer_id")) {
+            for (int i = 0; i < spec.trainees(); i++) {
+                int wanted = Math.max(1, Math.min(spec.trainers(), spec.trainersPerTrainee().sample(random)));
+                int[] linked = new int[wanted];
+                int size = 0;
+                // Popular trainers come up repeatedly; give up on a slot after a few duplicate draws.
+                for (int attempt = 0; size < wanted && attempt < wanted * 8; attempt++) {
+                    int trainer = trainerByRank[trainerPopularity.sample(random)];
+                    if (!contains(linked, size, trainer)) {
+                        linked[size++] = trainer;
+                        traineesPerTrainer[trainer]++;
+                        traineeTrainers.add(firstTraineeId + i, firstTrainerId + trainer);
+                    }
+                }
+                links[i] = size == wanted ? linked : Arrays.copyOf(linked, size);
+            }
+        }
+        logger.info("Trainees per trainer: max {}, mean {}.", Arrays.stream(traineesPerTrainer).max().orElse(0),
+                String.format("%.1f", Arrays.stream(traineesPerTrainer).average().orElse(0)));
+    }
+
+    private void generateTrainings(long start) throws SQLException {
+        int[] traineeByRank = permutation(spec.trainees());
+        ZipfSampler activity = new ZipfSampler(spec.trainees(), spec.traineeActivitySkew());
+        int[] trainingsPerTrainee = new int[spec.trainees()];
+        LocalDate firstDay = LocalDate.now().minusDays(spec.historyDays() - 1);
+        long step = Math.max(1, spec.trainings() / 10);
+
+        try (RowSink trainings = RowSink.open(connection, "training",
+                "id", "training_name", "training_date", "training_duration", "trainee_id", "trainer_id", "training_type_id")) {
+            for (long id = 1; id <= spec.trainings(); id++) {
+                int trainee = traineeByRank[activity.sample(random)];
+                int[] linked = links[trainee];
+                int trainer = linked[random.nextInt(linked.length)];
+                trainingsPerTrainee[trainee]++;
+                trainings.add(id, "Session " + id, Date.valueOf(firstDay.plusDays(random.nextInt(spec.historyDays()))),
+                        30 + random.nextInt(90), firstTraineeId + trainee, firstTrainerId + trainer,
+                        typeIds[random.nextInt(typeIds.length)]);
+                if (id % step == 0) {
+                    logger.info("{} trainings written ({} s).", id, secondsSince(start));
+                }
+            }
+        }
+        logger.info("Trainings per trainee: max {}, mean {}.", Arrays.stream(trainingsPerTrainee).max().orElse(0),
+                String.format("%.1f", Arrays.stream(trainingsPerTrainee).average().orElse(0)));
+    }
+
+    // Same rule as UsernameAllocator for a fresh table: base, base1, base2, ...
+    private static String username(Map<String, Integer> suffixes, String base) {
+        Integer taken = suffixes.merge(base, 0, (previous, ignored) -> previous + 1);
+        return taken == 0 ? base : base + taken;
+    }
+
+    private static String name(int index) {
+        StringBuilder name = new StringBuilder();
+        int rest = index;
+        do {
+            name.append(SYLLABLES[rest % SYLLABLES.length]);
+            rest /= SYLLABLES.length;
+        } while (rest > 0);
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+        return name.toString();
+    }
+
+    private int[] permutation(int n) {
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+        return values;
+    }
+
+    private static boolean contains(int[] values, int size, int value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long count(Statement statement, String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static long secondsSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000_000L;
+    }
+}
@@ -0,0 +1,39 @@
+package com.company.gym.loadtest;
+
+/*
+ * Shape and naming of the seeded data, shared by the seeder and the scenario so that requests
+ * only use users and trainer links that exist. Trainers take user ids 1..trainers, trainees
+ * take the ids after them. Trainee i is linked to two trainers (see linkedTrainer).
+ */
+public record Dataset(int trainees, int trainers, long trainings) {
+
+    public static final String PASSWORD = "Passw0rd!";
+    public static final String[] TRAINING_TYPES = {"Potions", "Charms", "Transfiguration", "Herbology", "Duelling", "Flying"};
+
+    public Dataset {
+        if (trainers < 2 || trainees < 1 || trainings < 0) {
+            throw new IllegalArgumentException("Need at least 2 trainers and 1 trainee.");
+        }
+    }
+
+    public long trainerUserId(int trainer) {
+        return trainer;
+    }
+
+    public long traineeUserId(int trainee) {
+        return (long) trainers + trainee;
+    }
+
+    public String trainerUsername(int trainer) {
+        return "trainer" + trainer;
+    }
+
+    public String traineeUsername(int trainee) {
+        return "trainee" + trainee;
+    }
+
+    // which = 0 or 1; the two trainers are always distinct.
+    public int linkedTrainer(int trainee, int which) {
+        return which == 0 ? trainee % trainers + 1 : (trainee + trainers / 2) % trainers + 1;
+    }
+}
@@ -0,0 +1,41 @@
+package com.company.gym.loadtest;
+
+import java.util.SplittableRandom;
+
+/*
+ * Integer-valued distribution parsed from a short spec, used for per-row counts:
+ *   fixed:N        always N
+ *   uniform:A:B    A..B inclusive
+ *   zipf:S:MAX     1..MAX with P(k) ~ 1 / k^S (a few heavy rows, a long tail of light ones)
+ */
+public interface Distribution {
+
+    int sample(SplittableRandom random);
+
+    static Distribution parse(String spec) {
+        String[] parts = spec.trim().split(":");
+        try {
+            switch (parts[0]) {
+                case "fixed" -> {
+                    int value = Integer.parseInt(parts[1]);
+                    return random -> value;
+                }
+                case "uniform" -> {
+                    int min = Integer.parseInt(parts[1]);
+                    int max = Integer.parseInt(parts[2]);
+                    if (min > max) {
+                        throw new IllegalArgumentException("Empty range in distribution: " + spec);
+                    }
+                    return random -> random.nextInt(min, max + 1);
+                }
+                case "zipf" -> {
+                    ZipfSampler sampler = new ZipfSampler(Integer.parseInt(parts[2]), Double.parseDouble(parts[1]));
+                    return random -> sampler.sample(random) + 1;
+                }
+                default -> throw new IllegalArgumentException("Unknown distribution: " + spec);
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed distribution: " + spec, e);
+        }
+    }
+}
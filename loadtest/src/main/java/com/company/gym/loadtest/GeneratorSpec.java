@@ -0,0 +1,47 @@
+package com.company.gym.loadtest;
+
+/*
+ * Shape of a generated dataset, read from "gen.*" system properties:
+ *   gen.trainees / gen.trainers / gen.trainings   row counts (trainings is the total across trainees)
+ *   gen.trainers-per-trainee                      links per trainee, a Distribution spec
+ *   gen.trainer-skew                              Zipf exponent of trainer popularity when linking
+ *   gen.trainee-activity-skew                     Zipf exponent of trainings per trainee (0 = even)
+ *   gen.first-names / gen.last-names / gen.name-skew
+ *                                                 name pools and their Zipf exponent; small pools and a
+ *                                                 high skew give long john.smith, john.smith1, ... chains
+ *   gen.history-days                              trainings are spread over this many days up to today
+ *   gen.seed                                      same seed and spec give the same rows
+ */
+public record GeneratorSpec(int trainees,
+                            int trainers,
+                            long trainings,
+                            Distribution trainersPerTrainee,
+                            double trainerSkew,
+                            double traineeActivitySkew,
+                            int firstNames,
+                            int lastNames,
+                            double nameSkew,
+                            int historyDays,
+                            long seed) {
+
+    public GeneratorSpec {
+        if (trainees < 1 || trainers < 1 || trainings < 0 || firstNames < 1 || lastNames < 1 || historyDays < 1) {
+            throw new IllegalArgumentException("Dataset sizes must be positive.");
+        }
+    }
+
+    public static GeneratorSpec fromSystemProperties() {
+        return new GeneratorSpec(
+                Integer.getInteger("gen.trainees", 1_000_000),
+                Integer.getInteger("gen.trainers", 20_000),
+                Long.getLong("gen.trainings", 10_000_000L),
+                Distribution.parse(System.getProperty("gen.trainers-per-trainee", "uniform:1:4")),
+                Double.parseDouble(System.getProperty("gen.trainer-skew", "1.1")),
+                Double.parseDouble(System.getProperty("gen.trainee-activity-skew", "0.8")),
+                Integer.getInteger("gen.first-names", 2_000),
+                Integer.getInteger("gen.last-names", 20_000),
+                Double.parseDouble(System.getProperty("gen.name-skew", "1.0")),
+                Integer.getInteger("gen.history-days", 730),
+                Long.getLong("gen.seed", 42L));
+    }
+}
@@ -0,0 +1,147 @@
+package com.company.gym.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Latency histograms (microseconds, HdrHistogram) and error counts per operation and concurrency stage.
+public class LoadReport {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    public static final class Stage {
+        private final int concurrency;
+        private final Map<MondayPeakScenario.Operation, Histogram> latencies = new EnumMap<>(MondayPeakScenario.Operation.class);
+        private final Map<MondayPeakScenario.Operation, LongAdder> errors = new EnumMap<>(MondayPeakScenario.Operation.class);
+        private long elapsedNanos;
+
+        Stage(int concurrency) {
+            this.concurrency = concurrency;
+            for (MondayPeakScenario.Operation operation : MondayPeakScenario.Operation.values()) {
+                latencies.put(operation, new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3));
+                errors.put(operation, new LongAdder());
+            }
+        }
+
+        public void record(MondayPeakScenario.Operation operation, long nanos, boolean ok) {
+            latencies.get(operation).recordValue(Math.min(MAX_TRACKABLE_MICROS, TimeUnit.NANOSECONDS.toMicros(nanos)));
+            if (!ok) {
+                errors.get(operation).increment();
+            }
+        }
+
+        void finish(long elapsedNanos) {
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        long totalRequests() {
+            return latencies.values().stream().mapToLong(Histogram::getTotalCount).sum();
+        }
+
+        double throughput() {
+            return totalRequests() / (elapsedNanos / 1e9);
+        }
+
+        // Login is excluded: its latency is the BCrypt cost by design and is reported separately.
+        double worstP99Millis() {
+            return latencies.entrySet().stream()
+                    .filter(entry -> entry.getKey() != MondayPeakScenario.Operation.LOGIN)
+                    .map(Map.Entry::getValue)
+                    .filter(histogram -> histogram.getTotalCount() > 0)
+                    .mapToDouble(histogram -> histogram.getValueAtPercentile(99) / 1000.0)
+                    .max().orElse(0);
+        }
+    }
+
+    private final List<Stage> stages = new ArrayList<>();
+    private final Dataset dataset;
+    private final double p99BudgetMillis;
+
+    public LoadReport(Dataset dataset, double p99BudgetMillis) {
+        this.dataset = dataset;
+        this.p99BudgetMillis = p99BudgetMillis;
+    }
+
+    public Stage newStage(int concurrency) {
+        Stage stage = new Stage(concurrency);
+        stages.add(stage);
+        return stage;
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%n%-12s %-16s %10s %8s %9s %9s %9s %9s %9s%n",
+                "concurrency", "operation", "requests", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Stage stage : stages) {
+            for (MondayPeakScenario.Operation operation : MondayPeakScenario.Operation.values()) {
+                Histogram histogram = stage.latencies.get(operation);
+                out.printf("%-12d %-16s %10d %8d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                        stage.concurrency, operation.label(), histogram.getTotalCount(), stage.errors.get(operation).sum(),
+                        millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                        histogram.getMaxValue() / 1000.0);
+            }
+            out.printf("%-12d %-16s %10d   throughput %.1f req/s%n%n", stage.concurrency, "all", stage.totalRequests(), stage.throughput());
+        }
+        Integer sustainable = maxConcurrencyWithinBudget();
+        out.printf("p99 budget %.0f ms (excluding login): %s%n", p99BudgetMillis,
+                sustainable == null ? "exceeded at every stage" : "held up to concurrency " + sustainable);
+    }
+
+    public void write(File file) throws IOException {
+        List<Map<String, Object>> stageReports = new ArrayList<>();
+        for (Stage stage : stages) {
+            Map<String, Object> operations = new LinkedHashMap<>();
+            for (MondayPeakScenario.Operation operation : MondayPeakScenario.Operation.values()) {
+                Histogram histogram = stage.latencies.get(operation);
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("requests", histogram.getTotalCount());
+                row.put("errors", stage.errors.get(operation).sum());
+                row.put("p50Ms", millis(histogram, 50));
+                row.put("p90Ms", millis(histogram, 90));
+                row.put("p99Ms", millis(histogram, 99));
+                row.put("p999Ms", millis(histogram, 99.9));
+                row.put("maxMs", histogram.getMaxValue() / 1000.0);
+                operations.put(operation.label(), row);
+            }
+            Map<String, Object> stageReport = new LinkedHashMap<>();
+            stageReport.put("concurrency", stage.concurrency);
+            stageReport.put("throughputPerSecond", stage.throughput());
+            stageReport.put("operations", operations);
+            stageReports.add(stageReport);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("dataset", dataset);
+        report.put("p99BudgetMs", p99BudgetMillis);
+        report.put("maxConcurrencyWithinBudget", maxConcurrencyWithinBudget());
+        report.put("stages", stageReports);
+        file.getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+    }
+
+    private Integer maxConcurrencyWithinBudget() {
+        Integer sustainable = null;
+        for (Stage stage : stages) {
+            if (stage.worstP99Millis() > p99BudgetMillis) {
+                break;
+            }
+            sustainable = stage.concurrency;
+        }
+        return sustainable;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,91 @@
+package com.company.gym.loadtest;
+
+import com.company.gym.GymApplication;
+import com.company.gym.service.TrainingTypeRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * Boots the application with the "loadtest" profile (H2 file database, in-memory sessions), seeds
+ * it if needed and drives the Monday-peak scenario at increasing concurrency. Each stage runs a
+ * warmup that is not recorded, then a measured window. Results go to stdout and
+ * target/loadtest-report.json.
+ *
+ * Volumes and stages are system properties, e.g.
+ *   mvn -f loadtest/pom.xml exec:java -Dloadtest.trainees=1000 -Dloadtest.trainings=10000 -Dloadtest.stages=4,8
+ */
+public class LoadTestHarness {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestHarness.class);
+
+    public static void main(String[] args) throws Exception {
+        Dataset dataset = new Dataset(
+                Integer.getInteger("loadtest.trainees", 100_000),
+                Integer.getInteger("loadtest.trainers", 5_000),
+                Long.getLong("loadtest.trainings", 10_000_000L));
+        int[] stages = Arrays.stream(System.getProperty("loadtest.stages", "8,16,32,64").split(","))
+                .map(String::trim).mapToInt(Integer::parseInt).toArray();
+        long stageSeconds = Long.getLong("loadtest.stage-seconds", 60L);
+        long warmupSeconds = Long.getLong("loadtest.warmup-seconds", 15L);
+        double p99BudgetMillis = Double.parseDouble(System.getProperty("loadtest.p99-budget-ms", "250"));
+
+        SpringApplication application = new SpringApplication(GymApplication.class);
+        application.setAdditionalProfiles("loadtest");
+        ConfigurableApplicationContext context = application.run(args);
+        try {
+            new LoadTestSeeder(context.getBean(DataSource.class), dataset).seedIfEmpty();
+            // The registry warmed up on ApplicationReadyEvent, before a fresh database had any training types.
+            context.getBean(TrainingTypeRegistry.class).invalidate();
+
+            WebServer server = ((ServletWebServerApplicationContext) context).getWebServer();
+            MondayPeakScenario scenario = new MondayPeakScenario("http://localhost:" + server.getPort(), dataset);
+            LoadReport report = new LoadReport(dataset, p99BudgetMillis);
+
+            for (int concurrency : stages) {
+                runStage(scenario, report, concurrency, warmupSeconds, stageSeconds);
+            }
+
+            report.print(System.out);
+            File output = new File("target/loadtest-report.json");
+            report.write(output);
+            logger.info("Report written to {}.", output.getAbsolutePath());
+        } finally {
+            context.close();
+        }
+    }
+
+    private static void runStage(MondayPeakScenario scenario, LoadReport report, int concurrency,
+                                 long warmupSeconds, long stageSeconds) throws InterruptedException {
+        logger.info("Stage: {} concurrent members, {}s warmup, {}s measured.", concurrency, warmupSeconds, stageSeconds);
+        AtomicReference<LoadReport.Stage> current = new AtomicReference<>();
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long deadline = measureFrom + TimeUnit.SECONDS.toNanos(stageSeconds);
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            workers.submit(scenario.worker(current, deadline));
+        }
+        workers.shutdown();
+
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, measureFrom - System.nanoTime()));
+        LoadReport.Stage stage = report.newStage(concurrency);
+        current.set(stage);
+        long started = System.nanoTime();
+        if (!workers.awaitTermination(stageSeconds + 60, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+        stage.finish(System.nanoTime() - started);
+    }
+}
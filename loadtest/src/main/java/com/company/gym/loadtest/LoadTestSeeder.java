@@ -0,0 +1,113 @@
+package com.company.gym.loadtest;
+
+import com.company.gym.util.PasswordUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/*
+ * Fills the H2 stand-in with set-based INSERT ... SELECT FROM SYSTEM_RANGE statements (no per-row
+ * round trips), then recreates the indexes data.sql creates on PostgreSQL. The database file is
+ * kept between runs; delete target/loadtest-db to reseed with different volumes.
+ */
+public class LoadTestSeeder {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestSeeder.class);
+
+    private static final long TRAINING_CHUNK = 1_000_000;
+
+    private final DataSource dataSource;
+    private final Dataset dataset;
+
+    public LoadTestSeeder(DataSource dataSource, Dataset dataset) {
+        this.dataSource = dataSource;
+        this.dataset = dataset;
+    }
+
+    public void seedIfEmpty() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            long existingUsers = count(statement, "SELECT COUNT(*) FROM user_profile");
+            if (existingUsers > 0) {
+                logger.info("Reusing seeded database: {} users, {} trainings.", existingUsers, count(statement, "SELECT COUNT(*) FROM training"));
+                return;
+            }
+
+            long start = System.nanoTime();
+            int trainers = dataset.trainers();
+            int trainees = dataset.trainees();
+
+            for (int i = 0; i < Dataset.TRAINING_TYPES.length; i++) {
+                statement.executeUpdate("INSERT INTO training_type (id, training_type_name) VALUES (" + (i + 1) + ", '" + Dataset.TRAINING_TYPES[i] + "')");
+            }
+
+            // One BCrypt hash for everyone: logins still pay the full check cost.
+            try (PreparedStatement users = connection.prepareStatement(
+                    "INSERT INTO user_profile (id, first_name, last_name, full_name, username, password, is_active) " +
+                    "SELECT X, 'Coach', 'No' || X, 'Coach No' || X, 'trainer' || X, ?, TRUE FROM " + range(1, trainers))) {
+                users.setString(1, PasswordUtil.hashPassword(Dataset.PASSWORD));
+                users.executeUpdate();
+            }
+            statement.executeUpdate("INSERT INTO trainer (user_id, specialization_id) " +
+                    "SELECT X, MOD(X, " + Dataset.TRAINING_TYPES.length + ") + 1 FROM " + range(1, trainers));
+
+            try (PreparedStatement users = connection.prepareStatement(
+                    "INSERT INTO user_profile (id, first_name, last_name, full_name, username, password, is_active) " +
+                    "SELECT " + trainers + " + X, 'Member', 'No' || X, 'Member No' || X, 'trainee' || X, ?, TRUE FROM " + range(1, trainees))) {
+                users.setString(1, PasswordUtil.hashPassword(Dataset.PASSWORD));
+                users.executeUpdate();
+            }
+            statement.executeUpdate("INSERT INTO trainee (user_id, date_of_birth, address) " +
+                    "SELECT " + trainers + " + X, DATEADD('DAY', -MOD(X, 15000) - 6570, CURRENT_DATE), 'Street ' || X FROM " + range(1, trainees));
+            statement.executeUpdate("INSERT INTO trainee_trainer (trainee_id, trainer_id) " +
+                    "SELECT " + trainers + " + X, MOD(X, " + trainers + ") + 1 FROM " + range(1, trainees));
+            statement.executeUpdate("INSERT INTO trainee_trainer (trainee_id, trainer_id) " +
+                    "SELECT " + trainers + " + X, MOD(X + " + trainers / 2 + ", " + trainers + ") + 1 FROM " + range(1, trainees));
+            logger.info("Seeded {} trainers and {} trainees in {} ms.", trainers, trainees, millisSince(start));
+
+            // Training k belongs to trainee (k mod N) + 1 and alternates between that trainee's two trainers.
+            for (long from = 1; from <= dataset.trainings(); from += TRAINING_CHUNK) {
+                long to = Math.min(dataset.trainings(), from + TRAINING_CHUNK - 1);
+                statement.executeUpdate("INSERT INTO training (id, training_name, training_date, training_duration, trainee_id, trainer_id, training_type_id) " +
+                        "SELECT X, 'Session ' || X, DATEADD('DAY', MOD(X, 730), DATE '2024-01-01'), 30 + MOD(X, 90), " +
+                        trainers + " + MOD(X, " + trainees + ") + 1, " +
+                        "CASE WHEN MOD(X / " + trainees + ", 2) = 0 THEN MOD(MOD(X, " + trainees + ") + 1, " + trainers + ") + 1 " +
+                        "ELSE MOD(MOD(X, " + trainees + ") + 1 + " + trainers / 2 + ", " + trainers + ") + 1 END, " +
+                        "MOD(X, " + Dataset.TRAINING_TYPES.length + ") + 1 " +
+                        "FROM " + range(from, to));
+                logger.info("Seeded trainings up to {} ({} ms).", to, millisSince(start));
+            }
+
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_training_trainee_date_id ON training (trainee_id, training_date, id)");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_training_trainer_date_id ON training (trainer_id, training_date, id)");
+
+            // Pooled sequences must start past the explicit ids used above.
+            statement.execute("ALTER SEQUENCE user_profile_seq RESTART WITH " + (trainers + trainees + 100L));
+            statement.execute("ALTER SEQUENCE training_seq RESTART WITH " + (dataset.trainings() + 100L));
+            statement.execute("ALTER SEQUENCE training_type_seq RESTART WITH 100");
+            statement.execute("ANALYZE");
+            logger.info("Seeding finished in {} s.", millisSince(start) / 1000);
+        }
+    }
+
+    // SYSTEM_RANGE exposes an upper-case X, which DATABASE_TO_LOWER would not resolve unquoted.
+    private static String range(long from, long to) {
+        return "(SELECT \"X\" AS X FROM SYSTEM_RANGE(" + from + ", " + to + ")) r";
+    }
+
+    private static long count(Statement statement, String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static long millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,149 @@
+package com.company.gym.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * "Monday 6pm": members log in, look at their profile and training history, and book sessions.
+ * Each worker is a closed loop over real HTTP against the embedded server, keeping its own small pool
+ * of logged-in members (SESSION cookies). Latency is measured per request, so a slow server lowers
+ * throughput instead of piling up requests (no coordinated-omission correction).
+ */
+public class MondayPeakScenario {
+
+    public enum Operation {
+        LOGIN("login", 15),
+        PROFILE("profile", 35),
+        TRAININGS_LIST("trainings-list", 35),
+        CREATE_TRAINING("create-training", 15);
+
+        private final String label;
+        private final int weight;
+
+        Operation(String label, int weight) {
+            this.label = label;
+            this.weight = weight;
+        }
+
+        public String label() {
+            return label;
+        }
+    }
+
+    private static final int TOTAL_WEIGHT = Arrays.stream(Operation.values()).mapToInt(o -> o.weight).sum();
+    private static final int MEMBERS_PER_WORKER = 32;
+
+    private record Member(int index, String username, String cookie) {}
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final Dataset dataset;
+
+    public MondayPeakScenario(String baseUrl, Dataset dataset) {
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public Runnable worker(AtomicReference<LoadReport.Stage> currentStage, long deadlineNanos) {
+        return () -> {
+            List<Member> members = new ArrayList<>(MEMBERS_PER_WORKER);
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (System.nanoTime() < deadlineNanos) {
+                Operation operation = pick(random.nextInt(TOTAL_WEIGHT));
+                if (members.isEmpty()) {
+                    operation = Operation.LOGIN;
+                }
+                long start = System.nanoTime();
+                boolean ok;
+                try {
+                    ok = execute(operation, members, random);
+                } catch (IOException e) {
+                    ok = false;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                LoadReport.Stage stage = currentStage.get();
+                if (stage != null) {
+                    stage.record(operation, System.nanoTime() - start, ok);
+                }
+            }
+        };
+    }
+
+    private boolean execute(Operation operation, List<Member> members, ThreadLocalRandom random)
+            throws IOException, InterruptedException {
+        if (operation == Operation.LOGIN) {
+            return login(members, random);
+        }
+        Member member = members.get(random.nextInt(members.size()));
+        HttpRequest.Builder request = switch (operation) {
+            case PROFILE -> HttpRequest.newBuilder(uri("/api/v1/trainees/" + member.username())).GET();
+            case TRAININGS_LIST -> HttpRequest.newBuilder(uri("/api/v1/trainees/" + member.username() + "/trainings?size=20")).GET();
+            case CREATE_TRAINING -> HttpRequest.newBuilder(uri("/api/v1/trainings"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(trainingJson(member, random)));
+            default -> throw new IllegalStateException("Unexpected operation " + operation);
+        };
+        HttpResponse<Void> response = client.send(request.header("Cookie", member.cookie()).build(),
+                HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() / 100 == 2;
+    }
+
+    private boolean login(List<Member> members, ThreadLocalRandom random) throws IOException, InterruptedException {
+        int index = random.nextInt(dataset.trainees()) + 1;
+        String username = dataset.traineeUsername(index);
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"" + username + "\",\"password\":\"" + Dataset.PASSWORD + "\"}"))
+                .build();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        String cookie = response.headers().firstValue("Set-Cookie").map(value -> value.split(";", 2)[0]).orElse(null);
+        if (response.statusCode() != 200 || cookie == null) {
+            return false;
+        }
+        Member member = new Member(index, username, cookie);
+        if (members.size() < MEMBERS_PER_WORKER) {
+            members.add(member);
+        } else {
+            members.set(random.nextInt(MEMBERS_PER_WORKER), member);
+        }
+        return true;
+    }
+
+    private String trainingJson(Member member, ThreadLocalRandom random) {
+        String trainer = dataset.trainerUsername(dataset.linkedTrainer(member.index(), random.nextInt(2)));
+        LocalDate date = LocalDate.now().plusDays(1 + random.nextInt(30));
+        return "{\"traineeUsername\":\"" + member.username() + "\",\"trainerUsername\":\"" + trainer + "\"," +
+                "\"trainingName\":\"Evening session\",\"trainingDate\":\"" + date + "\",\"trainingDuration\":" + (30 + random.nextInt(60)) + "}";
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static Operation pick(int roll) {
+        for (Operation operation : Operation.values()) {
+            roll -= operation.weight;
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        return Operation.PROFILE;
+    }
+}
@@ -0,0 +1,306 @@
+package com.company.gym.loadtest;
+
+import com.company.gym.GymApplication;
+import com.company.gym.dao.TraineeDAO;
+import com.company.gym.dto.projection.TrainingListRow;
+import com.company.gym.entity.Trainee;
+import com.company.gym.entity.Trainer;
+import com.company.gym.entity.Training;
+import com.company.gym.service.TrainingService;
+import com.company.gym.util.QueryUtil;
+import com.company.gym.util.RequestPersistenceCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.HdrHistogram.Histogram;
+import org.hibernate.Session;
+import org.hibernate.query.Query;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/*
+ * Times persistence paths in-process against a database filled by DataGenerator, old query next to
+ * the current one on the same sampled inputs, one call at a time. Latency (HdrHistogram) and JDBC
+ * statements per call (RequestPersistenceCounter) are printed per case.
+ *
+ *   mvn -f loadtest/pom.xml exec:java -Dexec.mainClass=com.company.gym.loadtest.QueryPathBenchmark \
+ *       -Dgen.url=jdbc:postgresql://localhost:5432/gym_db -Dgen.user=anastasiia -Dbench.calls=200
+ *
+ * Cases:
+ *   trainer-name filter: the first page of a trainee's history filtered by a trainer name fragment, for
+ *   uniformly sampled trainees and for the busiest ones, with a fragment of a linked trainer's name
+ *   (rows match) and of a random trainer's name (usually none do). "before" is the LIKE on the
+ *   concatenated names of every training's trainer; "after" is TraineeDAO.getTraineeTrainingsList.
+ *   create training: booking a training for a sampled trainee and one of their linked trainers, flushed and
+ *   rolled back. "before" loads both profiles as entities (the trainee with all its trainers) and checks
+ *   the link in memory; "after" is TrainingService.createTraining.
+ */
+public class QueryPathBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryPathBenchmark.class);
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int PAGE_SIZE = 51;
+    private static final int BUSIEST = 20;
+
+    // Trainer name filter before the fullName column and its trigram index.
+    private static final String TRAINER_NAME_BEFORE_HQL =
+            "SELECT new com.company.gym.dto.projection.TrainingListRow(" +
+            "t.id, t.trainingName, t.trainingDate, tt.name, t.trainingDuration, CONCAT(tnu.firstName, ' ', tnu.lastName)) " +
+            "FROM Training t JOIN t.trainer tn JOIN tn.user tnu JOIN t.trainingType tt " +
+            "WHERE t.id IN (SELECT p.id FROM Training p " +
+            "WHERE p.trainee.id = (SELECT tr.id FROM Trainee tr JOIN tr.user u WHERE u.username = :username)" +
+            " AND CONCAT(p.trainer.user.firstName, ' ', p.trainer.user.lastName) LIKE :trainerName";
+
+    static final class Result {
+        private final String name;
+        private final Histogram latency = new Histogram(MAX_TRACKABLE_MICROS, 3);
+        private long statements;
+
+        Result(String name) {
+            this.name = name;
+        }
+
+        void record(long nanos, int statements) {
+            latency.recordValue(Math.min(MAX_TRACKABLE_MICROS, TimeUnit.NANOSECONDS.toMicros(nanos)));
+            this.statements += statements;
+        }
+
+        double statementsPerCall() {
+            return latency.getTotalCount() == 0 ? 0 : (double) statements / latency.getTotalCount();
+        }
+    }
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnly;
+    private final TransactionTemplate readWrite;
+    private final JdbcTemplate jdbcTemplate;
+    private final TraineeDAO traineeDAO;
+    private final TrainingService trainingService;
+    private final SplittableRandom random;
+    private final int calls;
+    private final int warmupCalls;
+    private final List<Result> results = new ArrayList<>();
+
+    QueryPathBenchmark(ConfigurableApplicationContext context, long seed, int calls, int warmupCalls) {
+        this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        this.readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        this.readOnly.setReadOnly(true);
+        this.readWrite = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        this.traineeDAO = context.getBean(TraineeDAO.class);
+        this.trainingService = context.getBean(TrainingService.class);
+        this.random = new SplittableRandom(seed);
+        this.calls = calls;
+        this.warmupCalls = warmupCalls;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String[] applicationArgs = {
+                "--spring.datasource.url=" + System.getProperty("gen.url", "jdbc:postgresql://localhost:5432/gym_db"),
+                "--spring.datasource.username=" + System.getProperty("gen.user", "anastasiia"),
+                "--spring.datasource.password=" + System.getProperty("gen.password", ""),
+                "--spring.sql.init.mode=never",
+                "--spring.jpa.hibernate.ddl-auto=none",
+                "--spring.jpa.show-sql=false",
+                "--gym.session.store=memory",
+                "--management.health.redis.enabled=false",
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--logging.level.com.company.gym=WARN",
+                "--logging.level.com.company.gym.loadtest=INFO"};
+
+        ConfigurableApplicationContext context = new SpringApplication(GymApplication.class).run(applicationArgs);
+        try {
+            QueryPathBenchmark benchmark = new QueryPathBenchmark(context, Long.getLong("bench.seed", 42L),
+                    Integer.getInteger("bench.calls", 200), Integer.getInteger("bench.warmup-calls", 50));
+            benchmark.trainerNameFilter();
+            benchmark.createTraining();
+            benchmark.print(System.out);
+        } finally {
+            context.close();
+        }
+    }
+
+    void trainerNameFilter() {
+        List<String> trainerNames = jdbcTemplate.queryForList(
+                "SELECT u.full_name FROM trainer tn JOIN user_profile u ON u.id = tn.user_id", String.class);
+        Map<String, List<String>> samples = new LinkedHashMap<>();
+        samples.put("uniform", sample(traineeUsernames()));
+        samples.put("busiest", sample(jdbcTemplate.queryForList(
+                "SELECT u.username FROM user_profile u JOIN (SELECT trainee_id, COUNT(*) c FROM training " +
+                "GROUP BY trainee_id ORDER BY c DESC LIMIT " + BUSIEST + ") b ON b.trainee_id = u.id", String.class)));
+
+        for (Map.Entry<String, List<String>> sample : samples.entrySet()) {
+            List<String> linkedFragments = new ArrayList<>();
+            List<String> randomFragments = new ArrayList<>();
+            for (String username : sample.getValue()) {
+                linkedFragments.add(fragment(linkedTrainer(username, "full_name")));
+                randomFragments.add(fragment(trainerNames.get(random.nextInt(trainerNames.size()))));
+            }
+            compareTrainerNameFilter(sample.getKey() + ", linked trainer", sample.getValue(), linkedFragments);
+            compareTrainerNameFilter(sample.getKey() + ", random trainer", sample.getValue(), randomFragments);
+        }
+    }
+
+    private void compareTrainerNameFilter(String label, List<String> usernames, List<String> fragments) {
+        logger.info("Trainer name filter, {}: {} calls per path.", label, calls);
+        Result before = result("trainer-name filter, " + label + ", before");
+        Result after = result("trainer-name filter, " + label + ", after");
+        // Alternating per call, so drift in the database's cache state is shared by both paths.
+        for (int i = 0; i < warmupCalls + calls; i++) {
+            String username = usernames.get(i % usernames.size());
+            String fragment = fragments.get(i % fragments.size());
+            boolean measured = i >= warmupCalls;
+            time(before, measured, () -> trainerNameBefore(username, fragment));
+            time(after, measured, () -> readOnly.execute(status ->
+                    traineeDAO.getTraineeTrainingsList(username, null, null, fragment, null, null, PAGE_SIZE)));
+        }
+    }
+
+    private List<TrainingListRow> trainerNameBefore(String username, String fragment) {
+        return readOnly.execute(status -> {
+            StringBuilder hql = new StringBuilder(TRAINER_NAME_BEFORE_HQL);
+            QueryUtil.appendKeyset(hql, null);
+            Query<TrainingListRow> query = QueryUtil.getTrainingQuery(username, null, null,
+                    entityManager.unwrap(Session.class), hql, TrainingListRow.class);
+            query.setParameter("trainerName", "%" + fragment + "%");
+            QueryUtil.bindKeyset(query, null, PAGE_SIZE);
+            return query.list();
+        });
+    }
+
+    void createTraining() {
+        List<String> trainees = sample(traineeUsernames());
+        List<String> trainers = new ArrayList<>();
+        for (String username : trainees) {
+            trainers.add(linkedTrainer(username, "username"));
+        }
+
+        logger.info("Create training: {} calls per path.", calls);
+        Result before = result("create training, before");
+        Result after = result("create training, after");
+        Date date = new Date();
+        for (int i = 0; i < warmupCalls + calls; i++) {
+            String trainee = trainees.get(i % trainees.size());
+            String trainer = trainers.get(i % trainers.size());
+            boolean measured = i >= warmupCalls;
+            time(before, measured, () -> rolledBack(() -> createTrainingBefore(trainee, trainer, date)));
+            time(after, measured, () -> rolledBack(() ->
+                    trainingService.createTraining(trainee, trainer, "Benchmark session", date, 60)));
+        }
+    }
+
+    // The booking path before TrainingDAO.resolveTrainingLink: both profiles as entities, link checked in memory.
+    private Training createTrainingBefore(String traineeUsername, String trainerUsername, Date date) {
+        Session session = entityManager.unwrap(Session.class);
+        Trainee trainee = session.createQuery(
+                        "SELECT DISTINCT t FROM Trainee t JOIN FETCH t.user u LEFT JOIN FETCH t.trainers tr " +
+                        "LEFT JOIN FETCH tr.user WHERE u.username = :username", Trainee.class)
+                .setParameter("username", traineeUsername)
+                .uniqueResult();
+        Trainer trainer = session.createQuery(
+                        "SELECT t FROM Trainer t JOIN FETCH t.user u WHERE u.username = :username", Trainer.class)
+                .setParameter("username", trainerUsername)
+                .uniqueResult();
+        if (!trainee.getTrainers().contains(trainer)) {
+            throw new IllegalStateException(trainerUsername + " is not linked to " + traineeUsername);
+        }
+
+        Training training = new Training();
+        training.setTrainee(trainee);
+        training.setTrainer(trainer);
+        training.setTrainingName("Benchmark session");
+        training.setTrainingDate(date);
+        training.setTrainingDuration(60);
+        training.setTrainingType(trainer.getSpecialization());
+        session.persist(training);
+        return training;
+    }
+
+    // Flushed so the INSERT is part of the call, then rolled back to leave the dataset unchanged.
+    private Object rolledBack(Supplier<?> call) {
+        return readWrite.execute(status -> {
+            Object result = call.get();
+            entityManager.flush();
+            status.setRollbackOnly();
+            return result;
+        });
+    }
+
+    private List<String> traineeUsernames() {
+        return jdbcTemplate.queryForList(
+                "SELECT u.username FROM trainee tr JOIN user_profile u ON u.id = tr.user_id", String.class);
+    }
+
+    private String linkedTrainer(String traineeUsername, String column) {
+        List<String> linked = jdbcTemplate.queryForList(
+                "SELECT u." + column + " FROM trainee_trainer l JOIN user_profile u ON u.id = l.trainer_id " +
+                "JOIN user_profile m ON m.id = l.trainee_id WHERE m.username = ?", String.class, traineeUsername);
+        return linked.get(random.nextInt(linked.size()));
+    }
+
+    // Warmup calls run the whole path but are not recorded.
+    private static void time(Result result, boolean measured, Supplier<?> call) {
+        RequestPersistenceCounter.reset();
+        long start = System.nanoTime();
+        call.get();
+        long nanos = System.nanoTime() - start;
+        if (measured) {
+            result.record(nanos, RequestPersistenceCounter.statements());
+        }
+    }
+
+    private Result result(String name) {
+        Result result = new Result(name);
+        results.add(result);
+        return result;
+    }
+
+    private List<String> sample(List<String> usernames) {
+        List<String> sample = new ArrayList<>();
+        for (int i = 0; i < Math.min(calls, usernames.size() * 4); i++) {
+            sample.add(usernames.get(random.nextInt(usernames.size())));
+        }
+        return sample;
+    }
+
+    // Three to five letters from inside one of the name's words, the way a member types part of a name.
+    private String fragment(String fullName) {
+        String[] words = fullName.split(" ");
+        String word = words[random.nextInt(words.length)];
+        int length = Math.min(word.length(), 3 + random.nextInt(3));
+        int from = random.nextInt(word.length() - length + 1);
+        return word.substring(from, from + length);
+    }
+
+    void print(PrintStream out) {
+        out.printf("%n%-52s %7s %9s %9s %9s %9s %11s%n",
+                "case", "calls", "p50 ms", "p90 ms", "p99 ms", "max ms", "statements");
+        for (Result result : results) {
+            Histogram latency = result.latency;
+            out.printf("%-52s %7d %9.2f %9.2f %9.2f %9.2f %11.2f%n",
+                    result.name, latency.getTotalCount(), millis(latency, 50), millis(latency, 90),
+                    millis(latency, 99), latency.getMaxValue() / 1000.0, result.statementsPerCall());
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,130 @@
+package com.company.gym.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/*
+ * Bulk writer for one table. PostgreSQL gets a streamed COPY ... FROM STDIN (CSV); any other
+ * database gets batched prepared INSERTs committed every COMMIT_EVERY rows.
+ */
+public abstract class RowSink implements AutoCloseable {
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final int COMMIT_EVERY = 200_000;
+
+    protected long rows;
+
+    public abstract void add(Object... values) throws SQLException;
+
+    public long rows() {
+        return rows;
+    }
+
+    @Override
+    public abstract void close() throws SQLException;
+
+    public static RowSink open(Connection connection, String table, String... columns) throws SQLException {
+        if (connection.isWrapperFor(PGConnection.class)) {
+            return new Copy(connection.unwrap(PGConnection.class), table, columns);
+        }
+        return new Batch(connection, table, columns);
+    }
+
+    private static final class Copy extends RowSink {
+
+        private static final int BUFFER_BYTES = 1 << 20;
+
+        private final CopyIn copy;
+        private final StringBuilder buffer = new StringBuilder(BUFFER_BYTES + 1024);
+
+        private Copy(PGConnection connection, String table, String[] columns) throws SQLException {
+            this.copy = connection.getCopyAPI().copyIn(
+                    "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)");
+        }
+
+        @Override
+        public void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                appendCsv(values[i]);
+            }
+            buffer.append('\n');
+            rows++;
+            if (buffer.length() >= BUFFER_BYTES) {
+                flush();
+            }
+        }
+
+        private void appendCsv(Object value) {
+            if (value == null) {
+                return;
+            }
+            String text = value.toString();
+            if (text.isEmpty() || text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0) {
+                buffer.append('"').append(text.replace("\"", "\"\"")).append('"');
+            } else {
+                buffer.append(text);
+            }
+        }
+
+        private void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copy.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            flush();
+            copy.endCopy();
+        }
+    }
+
+    private static final class Batch extends RowSink {
+
+        private final Connection connection;
+        private final PreparedStatement statement;
+        private final boolean autoCommit;
+
+        private Batch(Connection connection, String table, String[] columns) throws SQLException {
+            this.connection = connection;
+            this.autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            this.statement = connection.prepareStatement("INSERT INTO " + table + " (" + String.join(", ", columns) +
+                    ") VALUES (" + "?, ".repeat(columns.length - 1) + "?)");
+        }
+
+        @Override
+        public void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            statement.addBatch();
+            rows++;
+            if (rows % BATCH_SIZE == 0) {
+                statement.executeBatch();
+            }
+            if (rows % COMMIT_EVERY == 0) {
+                connection.commit();
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                statement.executeBatch();
+                connection.commit();
+            } finally {
+                statement.close();
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.company.gym.loadtest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * Runs the generator against in-memory H2 schemas (the batched INSERT path of RowSink) with the
+ * columns the application's entities map to.
+ */
+public class DataGeneratorTest {
+
+    private static final AtomicInteger databases = new AtomicInteger();
+
+    private final List<Connection> connections = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        connections.clear();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        for (Connection connection : connections) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void generate_WritesRequestedRowCounts() throws SQLException {
+        Connection connection = schema();
+
+        new DataGenerator(connection, spec(300, 20, 5_000, "uniform:1:3", 0.8, 42)).generate();
+
+        assertEquals(320, count(connection, "SELECT COUNT(*) FROM user_profile"));
+        assertEquals(20, count(connection, "SELECT COUNT(*) FROM trainer"));
+        assertEquals(300, count(connection, "SELECT COUNT(*) FROM trainee"));
+        assertEquals(5_000, count(connection, "SELECT COUNT(*) FROM training"));
+        assertEquals(Dataset.TRAINING_TYPES.length, count(connection, "SELECT COUNT(*) FROM training_type"));
+        assertEquals(1, count(connection, "SELECT MIN(c) FROM (SELECT COUNT(*) c FROM trainee_trainer GROUP BY trainee_id) x"));
+        assertEquals(3, count(connection, "SELECT MAX(c) FROM (SELECT COUNT(*) c FROM trainee_trainer GROUP BY trainee_id) x"));
+        assertEquals(300, count(connection, "SELECT COUNT(DISTINCT trainee_id) FROM trainee_trainer"));
+    }
+
+    @Test
+    void generate_BooksTrainingsOnlyWithLinkedTrainers() throws SQLException {
+        Connection connection = schema();
+
+        new DataGenerator(connection, spec(200, 15, 3_000, "zipf:1.2:5", 0.8, 42)).generate();
+
+        assertEquals(0, count(connection, "SELECT COUNT(*) FROM training t WHERE NOT EXISTS " +
+                "(SELECT 1 FROM trainee_trainer l WHERE l.trainee_id = t.trainee_id AND l.trainer_id = t.trainer_id)"));
+    }
+
+    @Test
+    void generate_SkewsTrainingsPerTraineeByActivityExponent() throws SQLException {
+        Connection skewed = schema();
+        Connection even = schema();
+
+        new DataGenerator(skewed, spec(300, 20, 6_000, "fixed:2", 0.8, 42)).generate();
+        new DataGenerator(even, spec(300, 20, 6_000, "fixed:2", 0.0, 42)).generate();
+
+        // Mean is 20 trainings per trainee; with exponent 0.8 the busiest trainee takes about 9% of them.
+        assertTrue(maxTrainingsPerTrainee(skewed) > 10 * 20, "skewed max " + maxTrainingsPerTrainee(skewed));
+        assertTrue(maxTrainingsPerTrainee(even) < 3 * 20, "even max " + maxTrainingsPerTrainee(even));
+    }
+
+    @Test
+    void generate_SameSeedGivesSameRows() throws SQLException {
+        Connection first = schema();
+        Connection second = schema();
+        Connection otherSeed = schema();
+
+        new DataGenerator(first, spec(150, 10, 2_000, "uniform:1:4", 0.8, 7)).generate();
+        new DataGenerator(second, spec(150, 10, 2_000, "uniform:1:4", 0.8, 7)).generate();
+        new DataGenerator(otherSeed, spec(150, 10, 2_000, "uniform:1:4", 0.8, 8)).generate();
+
+        for (String sql : new String[] {
+                "SELECT id, username, full_name FROM user_profile ORDER BY id",
+                "SELECT trainee_id, trainer_id FROM trainee_trainer ORDER BY trainee_id, trainer_id",
+                "SELECT id, training_date, trainee_id, trainer_id, training_type_id FROM training ORDER BY id"}) {
+            assertEquals(rows(first, sql), rows(second, sql), sql);
+        }
+        String trainings = "SELECT id, trainee_id, trainer_id FROM training ORDER BY id";
+        assertNotEquals(rows(first, trainings), rows(otherSeed, trainings));
+    }
+
+    @Test
+    void generate_SuffixesCollidingUsernames() throws SQLException {
+        Connection connection = schema();
+
+        // Two first names and three last names for 120 users: every base username repeats.
+        new DataGenerator(connection, new GeneratorSpec(100, 20, 100, Distribution.parse("fixed:1"),
+                1.1, 0.8, 2, 3, 1.0, 30, 42)).generate();
+
+        assertEquals(120, count(connection, "SELECT COUNT(DISTINCT username) FROM user_profile"));
+        assertTrue(count(connection, "SELECT COUNT(*) FROM user_profile WHERE username LIKE '%1'") > 0);
+    }
+
+    @Test
+    void generate_RefusesNonEmptySchema() throws SQLException {
+        Connection connection = schema();
+        new DataGenerator(connection, spec(10, 2, 10, "fixed:1", 0.8, 42)).generate();
+
+        assertThrows(IllegalStateException.class,
+                () -> new DataGenerator(connection, spec(10, 2, 10, "fixed:1", 0.8, 42)).generate());
+    }
+
+    private static GeneratorSpec spec(int trainees, int trainers, long trainings, String trainersPerTrainee,
+                                      double activitySkew, long seed) {
+        return new GeneratorSpec(trainees, trainers, trainings, Distribution.parse(trainersPerTrainee),
+                1.1, activitySkew, 50, 200, 1.0, 90, seed);
+    }
+
+    private Connection schema() throws SQLException {
+        Connection connection = DriverManager.getConnection("jdbc:h2:mem:generator-" + databases.incrementAndGet()
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE", "sa", "");
+        connections.add(connection);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SEQUENCE training_type_seq START WITH 1 INCREMENT BY 50");
+            statement.execute("CREATE SEQUENCE user_profile_seq START WITH 1 INCREMENT BY 50");
+            statement.execute("CREATE SEQUENCE training_seq START WITH 1 INCREMENT BY 50");
+            statement.execute("CREATE TABLE training_type (id BIGINT PRIMARY KEY, training_type_name VARCHAR(255) NOT NULL UNIQUE)");
+            statement.execute("CREATE TABLE user_profile (id BIGINT PRIMARY KEY, first_name VARCHAR(255) NOT NULL, " +
+                    "last_name VARCHAR(255) NOT NULL, full_name VARCHAR(511), username VARCHAR(255) NOT NULL UNIQUE, " +
+                    "password VARCHAR(255) NOT NULL, is_active BOOLEAN NOT NULL)");
+            statement.execute("CREATE TABLE trainer (user_id BIGINT PRIMARY KEY REFERENCES user_profile (id), " +
+                    "specialization_id BIGINT NOT NULL REFERENCES training_type (id))");
+            statement.execute("CREATE TABLE trainee (user_id BIGINT PRIMARY KEY REFERENCES user_profile (id), " +
+                    "date_of_birth DATE, address VARCHAR(255), deleted_at TIMESTAMP)");
+            statement.execute("CREATE TABLE trainee_trainer (trainee_id BIGINT NOT NULL REFERENCES trainee (user_id), " +
+                    "trainer_id BIGINT NOT NULL REFERENCES trainer (user_id), PRIMARY KEY (trainee_id, trainer_id))");
+            statement.execute("CREATE TABLE training (id BIGINT PRIMARY KEY, training_name VARCHAR(255) NOT NULL, " +
+                    "training_date DATE NOT NULL, training_duration INT NOT NULL, " +
+                    "trainee_id BIGINT NOT NULL REFERENCES trainee (user_id), trainer_id BIGINT NOT NULL REFERENCES trainer (user_id), " +
+                    "training_type_id BIGINT NOT NULL REFERENCES training_type (id))");
+        }
+        return connection;
+    }
+
+    private static long maxTrainingsPerTrainee(Connection connection) throws SQLException {
+        return count(connection, "SELECT MAX(c) FROM (SELECT COUNT(*) c FROM training GROUP BY trainee_id) x");
+    }
+
+    private static long count(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static List<String> rows(Connection connection, String sql) throws SQLException {
+        List<String> rows = new ArrayList<>();
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            int columns = resultSet.getMetaData().getColumnCount();
+            while (resultSet.next()) {
+                StringBuilder row = new StringBuilder();
+                for (int i = 1; i <= columns; i++) {
+                    row.append(resultSet.getString(i)).append('|');
+                }
+                rows.add(row.toString());
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,59 @@
+package com.company.gym.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DistributionTest {
+
+    private final SplittableRandom random = new SplittableRandom(3);
+
+    @Test
+    void parse_Fixed() {
+        Distribution distribution = Distribution.parse("fixed:4");
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(4, distribution.sample(random));
+        }
+    }
+
+    @Test
+    void parse_UniformCoversBothBounds() {
+        Distribution distribution = Distribution.parse(" uniform:1:4 ");
+        int[] counts = new int[6];
+
+        for (int i = 0; i < 40_000; i++) {
+            counts[distribution.sample(random)]++;
+        }
+
+        assertEquals(0, counts[0]);
+        assertEquals(0, counts[5]);
+        for (int value = 1; value <= 4; value++) {
+            assertEquals(10_000, counts[value], 500, "value " + value);
+        }
+    }
+
+    @Test
+    void parse_ZipfStartsAtOneAndFavoursSmallValues() {
+        Distribution distribution = Distribution.parse("zipf:1.5:20");
+        int[] counts = new int[22];
+
+        for (int i = 0; i < 50_000; i++) {
+            counts[distribution.sample(random)]++;
+        }
+
+        assertEquals(0, counts[0]);
+        assertEquals(0, counts[21]);
+        assertTrue(counts[1] > counts[2] && counts[2] > counts[4] && counts[4] > counts[16]);
+        assertEquals(Math.pow(2, 1.5), (double) counts[1] / counts[2], 0.2);
+    }
+
+    @Test
+    void parse_RejectsMalformedSpecs() {
+        for (String spec : new String[] {"poisson:3", "fixed", "fixed:x", "uniform:5:1", "uniform:1", "zipf:1.0", "zipf:-1:10"}) {
+            assertThrows(IllegalArgumentException.class, () -> Distribution.parse(spec), spec);
+        }
+    }
+}
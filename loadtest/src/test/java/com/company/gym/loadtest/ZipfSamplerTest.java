@@ -0,0 +1,76 @@
+package com.company.gym.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ZipfSamplerTest {
+
+    private static final int DRAWS = 200_000;
+
+    @Test
+    void sample_FollowsThePowerLaw() {
+        int n = 1_000;
+        double exponent = 1.1;
+        int[] counts = draw(new ZipfSampler(n, exponent), n, new SplittableRandom(7));
+
+        double harmonic = 0;
+        for (int k = 1; k <= n; k++) {
+            harmonic += 1 / Math.pow(k, exponent);
+        }
+        for (int rank = 0; rank < 5; rank++) {
+            double expected = DRAWS / Math.pow(rank + 1, exponent) / harmonic;
+            assertEquals(expected, counts[rank], expected * 0.05, "rank " + rank);
+        }
+        // P(rank 0) / P(rank 1) = 2^exponent
+        assertEquals(Math.pow(2, exponent), (double) counts[0] / counts[1], 0.1);
+    }
+
+    @Test
+    void sample_ZeroExponentIsUniform() {
+        int[] counts = draw(new ZipfSampler(10, 0), 10, new SplittableRandom(7));
+
+        for (int count : counts) {
+            assertEquals(DRAWS / 10.0, count, DRAWS / 10.0 * 0.05);
+        }
+    }
+
+    @Test
+    void sample_StaysWithinRanks() {
+        ZipfSampler sampler = new ZipfSampler(3, 2.0);
+        SplittableRandom random = new SplittableRandom(1);
+
+        for (int i = 0; i < 10_000; i++) {
+            int rank = sampler.sample(random);
+            assertTrue(rank >= 0 && rank < 3, "rank " + rank);
+        }
+        assertEquals(0, new ZipfSampler(1, 1.0).sample(random));
+    }
+
+    @Test
+    void sample_SameSeedGivesSameSequence() {
+        ZipfSampler sampler = new ZipfSampler(500, 0.8);
+        SplittableRandom first = new SplittableRandom(42);
+        SplittableRandom second = new SplittableRandom(42);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(sampler.sample(first), sampler.sample(second));
+        }
+    }
+
+    @Test
+    void constructor_RejectsInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new ZipfSampler(0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfSampler(10, -0.5));
+    }
+
+    private static int[] draw(ZipfSampler sampler, int n, SplittableRandom random) {
+        int[] counts = new int[n];
+        for (int i = 0; i < DRAWS; i++) {
+            counts[sampler.sample(random)]++;
+        }
+        return counts;
+    }
+}
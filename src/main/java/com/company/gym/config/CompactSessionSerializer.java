@@ -0,0 +1,135 @@
+package com.company.gym.config;
+
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/*
+ * Session attribute codec for Spring Session Redis. An authenticated SecurityContext is stored as
+ * username + authority names, and the session's own String/Long/Integer fields as tagged primitives.
+ * Anything else falls back to JDK serialization.
+ *
+ * Reads both formats regardless of writeCompact: JDK payloads start with 0xACED and compact ones
+ * with MAGIC, so sessions written before the switch (or by nodes still writing JDK) stay valid.
+ */
+public class CompactSessionSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = 0x47;
+    private static final byte TAG_SECURITY_CONTEXT = 1;
+    private static final byte TAG_STRING = 2;
+    private static final byte TAG_LONG = 3;
+    private static final byte TAG_INTEGER = 4;
+
+    private final JdkSerializationRedisSerializer jdk = new JdkSerializationRedisSerializer();
+    private final boolean writeCompact;
+
+    public CompactSessionSerializer(boolean writeCompact) {
+        this.writeCompact = writeCompact;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (!writeCompact) {
+            return jdk.serialize(value);
+        }
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+            DataOutputStream out = new DataOutputStream(bytes);
+            if (value instanceof String s) {
+                out.writeByte(MAGIC);
+                out.writeByte(TAG_STRING);
+                out.writeUTF(s);
+            } else if (value instanceof Long l) {
+                out.writeByte(MAGIC);
+                out.writeByte(TAG_LONG);
+                out.writeLong(l);
+            } else if (value instanceof Integer i) {
+                out.writeByte(MAGIC);
+                out.writeByte(TAG_INTEGER);
+                out.writeInt(i);
+            } else if (isCompactContext(value)) {
+                Authentication authentication = ((SecurityContext) value).getAuthentication();
+                Collection<? extends GrantedAuthority> authorities = authentication.getAuthorities();
+                out.writeByte(MAGIC);
+                out.writeByte(TAG_SECURITY_CONTEXT);
+                out.writeUTF(authentication.getName());
+                out.writeShort(authorities.size());
+                for (GrantedAuthority authority : authorities) {
+                    out.writeUTF(authority.getAuthority());
+                }
+            } else {
+                return jdk.serialize(value);
+            }
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Could not write session attribute", e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return jdk.deserialize(bytes);
+        }
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1));
+            byte tag = in.readByte();
+            return switch (tag) {
+                case TAG_STRING -> in.readUTF();
+                case TAG_LONG -> in.readLong();
+                case TAG_INTEGER -> in.readInt();
+                case TAG_SECURITY_CONTEXT -> readSecurityContext(in);
+                default -> throw new SerializationException("Unknown session attribute tag: " + tag);
+            };
+        } catch (IOException e) {
+            throw new SerializationException("Could not read session attribute", e);
+        }
+    }
+
+    // Only an authenticated username/password login carries nothing beyond name and authorities worth keeping.
+    private static boolean isCompactContext(Object value) {
+        if (value.getClass() != SecurityContextImpl.class) {
+            return false;
+        }
+        Authentication authentication = ((SecurityContext) value).getAuthentication();
+        return authentication != null
+                && authentication.getClass() == UsernamePasswordAuthenticationToken.class
+                && authentication.isAuthenticated()
+                && (authentication.getPrincipal() instanceof UserDetails || authentication.getPrincipal() instanceof String)
+                && authentication.getAuthorities().size() <= Short.MAX_VALUE;
+    }
+
+    private static SecurityContext readSecurityContext(DataInputStream in) throws IOException {
+        String username = in.readUTF();
+        int count = in.readUnsignedShort();
+        List<GrantedAuthority> authorities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            authorities.add(new SimpleGrantedAuthority(in.readUTF()));
+        }
+        UserDetails principal = new User(username, "", authorities);
+        return new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(principal, null, authorities));
+    }
+}
@@ -0,0 +1,41 @@
+package com.company.gym.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * Logback AsyncAppender that counts what it throws away. With neverBlock=true a full queue
+ * drops the event instead of stalling the request thread; below discardingThreshold the
+ * parent also discards TRACE/DEBUG/INFO first. Both cases are counted here and published
+ * as gym.logging.events.dropped by LoggingConfig.
+ *
+ * The overflow check runs just before the offer, so under contention the count is approximate.
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+    private static final LongAdder DISCARDED = new LongAdder();
+    private static final LongAdder OVERFLOWED = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        int remaining = getRemainingCapacity();
+        if (remaining < getDiscardingThreshold() && isDiscardable(event)) {
+            DISCARDED.increment();
+        } else if (remaining == 0 && isNeverBlock()) {
+            OVERFLOWED.increment();
+        }
+        super.append(event);
+    }
+
+    // Lower-level events dropped because the queue was above its discarding threshold.
+    public static long discarded() {
+        return DISCARDED.sum();
+    }
+
+    // Events of any level dropped because the queue was full.
+    public static long overflowed() {
+        return OVERFLOWED.sum();
+    }
+}
@@ -1,10 +1,14 @@
 package com.company.gym.config;
 
 import com.company.gym.dto.request.LoginRequest;
+import com.company.gym.dto.response.AccessTokenResponse;
+import com.company.gym.exception.ServiceUnavailableException;
+import com.company.gym.service.AccessTokenService;
 import com.company.gym.service.AuthService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -13,6 +17,7 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.stereotype.Component;
 
@@ -21,21 +26,36 @@ import java.io.IOException;
 @Component
 public class CustomUsernamePasswordAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
+    private static final String RETRY_AFTER_SECONDS = "1";
+
     private final AuthService authService;
     private final ObjectMapper objectMapper;
 
     public CustomUsernamePasswordAuthenticationFilter(AuthService authService,
                                                       ObjectMapper objectMapper,
-                                                      AuthenticationManager authenticationManager) {
+                                                      AuthenticationManager authenticationManager,
+                                                      AccessTokenService accessTokenService) {
         this.authService = authService;
         this.objectMapper = objectMapper;
         setAuthenticationManager(authenticationManager);
         setRequiresAuthenticationRequestMatcher(new AntPathRequestMatcher("/api/v1/auth/login", "POST"));
-        setSecurityContextRepository(new HttpSessionSecurityContextRepository());
 
-        this.setAuthenticationSuccessHandler((request, response, authentication) -> {
-            response.setStatus(HttpServletResponse.SC_OK);
-        });
+        if (accessTokenService.isEnabled()) {
+            // Stateless: the token in the body is the only credential handed back to the client.
+            setSecurityContextRepository(new RequestAttributeSecurityContextRepository());
+            this.setAuthenticationSuccessHandler((request, response, authentication) -> {
+                AccessTokenService.IssuedToken token = accessTokenService.issue(authentication.getName());
+                response.setStatus(HttpServletResponse.SC_OK);
+                response.setContentType("application/json");
+                objectMapper.writeValue(response.getWriter(),
+                        new AccessTokenResponse(token.value(), "Bearer", token.expiresInSeconds()));
+            });
+        } else {
+            setSecurityContextRepository(new HttpSessionSecurityContextRepository());
+            this.setAuthenticationSuccessHandler((request, response, authentication) -> {
+                response.setStatus(HttpServletResponse.SC_OK);
+            });
+        }
 
         this.setAuthenticationFailureHandler((request, response, exception) -> {
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -63,7 +83,16 @@ public class CustomUsernamePasswordAuthenticationFilter extends UsernamePassword
             password = "";
         }
 
-        if (authService.authenticateUser(username, password)) {
+        boolean authenticated;
+        try {
+            authenticated = authService.authenticateUser(username, password);
+        } catch (ServiceUnavailableException e) {
+            rejectOverloaded(response);
+            // null tells the parent filter the response is already committed.
+            return null;
+        }
+
+        if (authenticated) {
             UserDetails userDetails = User.withUsername(username)
                     .password("")
                     .roles("USER")
@@ -74,4 +103,17 @@ public class CustomUsernamePasswordAuthenticationFilter extends UsernamePassword
 
         throw new BadCredentialsException("Invalid username or password");
     }
+
+    private void rejectOverloaded(HttpServletResponse response) {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType("application/json");
+        try {
+            response.getWriter().write(
+                    "{\"error\": \"Service Unavailable\", \"message\": \"Too many concurrent logins. Please retry shortly.\"}"
+            );
+        } catch (IOException e) {
+            logger.debug("Could not write 503 response body", e);
+        }
+    }
 }
\ No newline at end of file
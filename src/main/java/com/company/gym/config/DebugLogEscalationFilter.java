@@ -0,0 +1,50 @@
+package com.company.gym.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/*
+ * Raises the log level for a single request. A request carrying "X-Debug-Log: <token>" gets
+ * logLevel=DEBUG in its MDC, and the DynamicThresholdFilter in logback-spring.xml lets that
+ * request's DEBUG events through, whatever the configured logger levels are.
+ * Escalation is off when no token is configured.
+ */
+public class DebugLogEscalationFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "X-Debug-Log";
+    static final String MDC_KEY = "logLevel";
+
+    private final byte[] token;
+
+    public DebugLogEscalationFilter(String token) {
+        this.token = token == null ? new byte[0] : token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!isEscalated(request.getHeader(HEADER))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        MDC.put(MDC_KEY, "DEBUG");
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    private boolean isEscalated(String header) {
+        return token.length > 0 && header != null
+                && MessageDigest.isEqual(token, header.getBytes(StandardCharsets.UTF_8));
+    }
+}
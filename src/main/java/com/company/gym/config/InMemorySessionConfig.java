@@ -0,0 +1,24 @@
+package com.company.gym.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.session.MapSessionRepository;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Single-node session store for local stacks and load tests (gym.session.store=memory); replaces RedisConfig.
+@Configuration
+@ConditionalOnProperty(name = "gym.session.store", havingValue = "memory")
+@EnableSpringHttpSession
+public class InMemorySessionConfig {
+
+    @Bean
+    public MapSessionRepository sessionRepository() {
+        MapSessionRepository repository = new MapSessionRepository(new ConcurrentHashMap<>());
+        repository.setDefaultMaxInactiveInterval(Duration.ofMinutes(30));
+        return repository;
+    }
+}
@@ -1,17 +1,25 @@
 package com.company.gym.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import jakarta.servlet.http.HttpServletRequest;
-import java.util.UUID;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Aspect
 @Component
@@ -19,37 +27,85 @@ public class LoggingAspect {
 
     private static final Logger logger = LoggerFactory.getLogger(LoggingAspect.class);
     private static final String TRANSACTION_ID_KEY = "transactionId";
+    private static final String METRIC_NAME = "gym.http.endpoint";
 
-    @Around("execution(public * com.company.gym.controller.*.*(..))")
-    public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
+    // Per-endpoint timers, resolved once per join point; recording afterwards is allocation-free.
+    private record EndpointMeters(String name, Timer success, Timer error) {}
+
+    private final MeterRegistry meterRegistry;
+    private final Map<JoinPoint.StaticPart, EndpointMeters> meters = new ConcurrentHashMap<>();
+    private final boolean logAll;
+    private final long sampleEvery;
+
+    // Transaction ids: random per-process prefix plus a counter, instead of a SecureRandom UUID per call.
+    private final String transactionPrefix = Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, 36) + "-";
+    private final AtomicLong transactionSequence = new AtomicLong();
 
-        String transactionId = UUID.randomUUID().toString();
-        MDC.put(TRANSACTION_ID_KEY, transactionId);
+    public LoggingAspect(MeterRegistry meterRegistry,
+                         @Value("${gym.logging.requests.mode:sampled}") String mode,
+                         @Value("${gym.logging.requests.sample-every:100}") long sampleEvery) {
+        this.meterRegistry = meterRegistry;
+        this.logAll = "all".equalsIgnoreCase(mode);
+        this.sampleEvery = "none".equalsIgnoreCase(mode) ? 0 : Math.max(1, sampleEvery);
+    }
 
-        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
-        long startTime = System.currentTimeMillis();
+    @Around("execution(public * com.company.gym.controller.*.*(..))")
+    public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
 
-        String methodName = joinPoint.getSignature().toShortString();
-        String endpoint = request.getMethod() + " " + request.getRequestURI();
+        long sequence = transactionSequence.incrementAndGet();
+        MDC.put(TRANSACTION_ID_KEY, transactionPrefix + Long.toString(sequence, 36));
 
-        logger.info("REST CALL START: [Endpoint: {} | Method: {} | Request: {}]", endpoint, methodName, request.getParameterMap());
+        EndpointMeters endpointMeters = meters.computeIfAbsent(joinPoint.getStaticPart(), this::register);
+        boolean logged = logAll || (sampleEvery > 0 && sequence % sampleEvery == 0);
+        HttpServletRequest request = logged ? currentRequest() : null;
+        if (logged) {
+            logger.info("REST CALL START: [Endpoint: {} {} | Method: {} | Request: {}]",
+                    request.getMethod(), request.getRequestURI(), endpointMeters.name(), request.getParameterMap());
+        }
 
-        Object result;
+        long startTime = System.nanoTime();
         try {
-            result = joinPoint.proceed();
+            Object result = joinPoint.proceed();
+            long executionTime = System.nanoTime() - startTime;
+            endpointMeters.success().record(executionTime, TimeUnit.NANOSECONDS);
+            if (logged) {
+                logger.info("REST CALL END: [Endpoint: {} {} | Method: {} | Duration: {}ms] -> Response Status: OK",
+                        request.getMethod(), request.getRequestURI(), endpointMeters.name(),
+                        TimeUnit.NANOSECONDS.toMillis(executionTime));
+            }
+            return result;
         } catch (Throwable ex) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            logger.error("REST CALL FAILED: [Endpoint: {} | Method: {} | Duration: {}ms | Error: {}] -> Stack Trace in DEBUG",
-                    endpoint, methodName, executionTime, ex.getMessage(), ex);
+            long executionTime = System.nanoTime() - startTime;
+            endpointMeters.error().record(executionTime, TimeUnit.NANOSECONDS);
+            // Failures are always logged, sampled or not.
+            HttpServletRequest failed = request != null ? request : currentRequest();
+            logger.error("REST CALL FAILED: [Endpoint: {} {} | Method: {} | Duration: {}ms | Error: {}] -> Stack Trace in DEBUG",
+                    failed.getMethod(), failed.getRequestURI(), endpointMeters.name(),
+                    TimeUnit.NANOSECONDS.toMillis(executionTime), ex.getMessage(), ex);
             throw ex;
         } finally {
-            if (MDC.get(TRANSACTION_ID_KEY) != null) {
-                long executionTime = System.currentTimeMillis() - startTime;
-                logger.info("REST CALL END: [Endpoint: {} | Method: {} | Duration: {}ms] -> Response Status: OK/Error",
-                        endpoint, methodName, executionTime);
-                MDC.remove(TRANSACTION_ID_KEY);
-            }
+            MDC.remove(TRANSACTION_ID_KEY);
         }
-        return result;
     }
-}
\ No newline at end of file
+
+    private EndpointMeters register(JoinPoint.StaticPart staticPart) {
+        String name = staticPart.getSignature().getDeclaringType().getSimpleName() + "." + staticPart.getSignature().getName();
+        return new EndpointMeters(name, timer(name, "success"), timer(name, "error"));
+    }
+
+    // Percentiles come from Micrometer's HdrHistogram-backed distribution; the histogram buckets are
+    // published too so percentiles can be aggregated across nodes.
+    private Timer timer(String endpoint, String outcome) {
+        return Timer.builder(METRIC_NAME)
+                .description("Controller method latency, request count and error count per endpoint")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+    }
+}
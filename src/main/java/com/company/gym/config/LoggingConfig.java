@@ -0,0 +1,38 @@
+package com.company.gym.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class LoggingConfig {
+
+    // Ahead of everything else so the escalated level also covers security and session handling.
+    @Bean
+    public FilterRegistrationBean<DebugLogEscalationFilter> debugLogEscalationFilter(
+            @Value("${gym.logging.debug-header.token:}") String token) {
+        FilterRegistrationBean<DebugLogEscalationFilter> registration =
+                new FilterRegistrationBean<>(new DebugLogEscalationFilter(token));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    // Counters stay at 0 unless the async appender is in use (prod profile).
+    @Bean
+    public MeterBinder asyncLoggingMetrics() {
+        return registry -> {
+            FunctionCounter.builder("gym.logging.events.dropped", CountingAsyncAppender.class, ignored -> CountingAsyncAppender.overflowed())
+                    .description("Log events dropped by the async appender")
+                    .tag("reason", "overflow")
+                    .register(registry);
+            FunctionCounter.builder("gym.logging.events.dropped", CountingAsyncAppender.class, ignored -> CountingAsyncAppender.discarded())
+                    .description("Log events dropped by the async appender")
+                    .tag("reason", "discarded")
+                    .register(registry);
+        };
+    }
+}
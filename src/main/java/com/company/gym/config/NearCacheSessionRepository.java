@@ -0,0 +1,247 @@
+package com.company.gym.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/*
+ * Local, short-lived copy of recently used sessions in front of the Redis repository.
+ *
+ * A request that only reads its session is served from the near cache and its last-access time is
+ * written back to Redis at most once per touchInterval. Any attribute, id or timeout change loads the
+ * Redis session, applies the change to it and saves it as before. Deletes and writes are published so
+ * other nodes drop their copy.
+ */
+public class NearCacheSessionRepository implements SessionRepository<NearCacheSessionRepository.NearCachedSession> {
+
+    private static final Logger logger = LoggerFactory.getLogger(NearCacheSessionRepository.class);
+
+    private record Entry(MapSession session, Instant flushedAccessTime) {}
+
+    private final SessionRepository<Session> delegate;
+    private final Cache<String, Entry> cache;
+    private final Duration touchInterval;
+    private final Consumer<String> invalidationPublisher;
+    private final Counter roundTripsSaved;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public NearCacheSessionRepository(SessionRepository<? extends Session> delegate,
+                                      long maxSize,
+                                      Duration ttl,
+                                      Consumer<String> invalidationPublisher,
+                                      MeterRegistry meterRegistry) {
+        this.delegate = (SessionRepository) delegate;
+        this.touchInterval = ttl;
+        this.invalidationPublisher = invalidationPublisher;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "sessions");
+        this.roundTripsSaved = Counter.builder("gym.session.redis.round-trips.saved")
+                .description("Redis session reads and writes avoided by the near cache")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public NearCachedSession createSession() {
+        Session live = delegate.createSession();
+        return new NearCachedSession(new MapSession(live), live, null);
+    }
+
+    @Override
+    public NearCachedSession findById(String id) {
+        Entry entry = cache.getIfPresent(id);
+        if (entry != null && !entry.session().isExpired()) {
+            roundTripsSaved.increment();
+            return new NearCachedSession(copyOf(entry.session()), null, entry.flushedAccessTime());
+        }
+
+        Session live = delegate.findById(id);
+        if (live == null) {
+            cache.invalidate(id);
+            return null;
+        }
+        MapSession snapshot = new MapSession(live);
+        cache.put(id, new Entry(copyOf(snapshot), live.getLastAccessedTime()));
+        return new NearCachedSession(snapshot, live, live.getLastAccessedTime());
+    }
+
+    @Override
+    public void save(NearCachedSession session) {
+        if (session.live == null) {
+            if (!isTouchDue(session)) {
+                roundTripsSaved.increment();
+                cache.put(session.getId(), new Entry(copyOf(session.snapshot), session.flushedAccessTime));
+                return;
+            }
+            if (session.loadLive() == null) {
+                return;
+            }
+        }
+
+        delegate.save(session.live);
+        if (!session.originalId.equals(session.getId())) {
+            evict(session.originalId);
+        }
+        if (session.changed) {
+            invalidationPublisher.accept(session.getId());
+        }
+        cache.put(session.getId(), new Entry(copyOf(session.snapshot), session.getLastAccessedTime()));
+    }
+
+    @Override
+    public void deleteById(String id) {
+        delegate.deleteById(id);
+        evict(id);
+    }
+
+    // Called for invalidations published by other nodes.
+    public void evictLocal(String id) {
+        cache.invalidate(id);
+    }
+
+    private void evict(String id) {
+        cache.invalidate(id);
+        invalidationPublisher.accept(id);
+        logger.debug("Session {} evicted from the near cache.", id);
+    }
+
+    private boolean isTouchDue(NearCachedSession session) {
+        return session.flushedAccessTime == null
+                || Duration.between(session.flushedAccessTime, session.getLastAccessedTime()).compareTo(touchInterval) >= 0;
+    }
+
+    // Each request gets its own copy; a SecurityContext is re-wrapped because logout clears it in place.
+    private static MapSession copyOf(MapSession source) {
+        MapSession copy = new MapSession(source);
+        for (String name : source.getAttributeNames()) {
+            Object value = source.getAttribute(name);
+            if (value instanceof SecurityContext context) {
+                copy.setAttribute(name, new SecurityContextImpl(context.getAuthentication()));
+            }
+        }
+        return copy;
+    }
+
+    public final class NearCachedSession implements Session {
+
+        private final MapSession snapshot;
+        private final String originalId;
+        private Session live;
+        private final Instant flushedAccessTime;
+        private boolean changed;
+
+        private NearCachedSession(MapSession snapshot, Session live, Instant flushedAccessTime) {
+            this.snapshot = snapshot;
+            this.originalId = snapshot.getId();
+            this.live = live;
+            this.flushedAccessTime = flushedAccessTime;
+        }
+
+        private Session loadLive() {
+            if (live == null) {
+                live = delegate.findById(originalId);
+                if (live == null) {
+                    cache.invalidate(originalId);
+                    logger.debug("Session {} is gone from Redis; near cache entry dropped.", originalId);
+                    return null;
+                }
+                live.setLastAccessedTime(snapshot.getLastAccessedTime());
+            }
+            return live;
+        }
+
+        private Session liveForWrite() {
+            Session current = loadLive();
+            if (current == null) {
+                throw new IllegalStateException("Session " + originalId + " no longer exists.");
+            }
+            changed = true;
+            return current;
+        }
+
+        @Override
+        public String getId() {
+            return snapshot.getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            String newId = liveForWrite().changeSessionId();
+            snapshot.setId(newId);
+            return newId;
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return snapshot.getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return snapshot.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            liveForWrite().setAttribute(attributeName, attributeValue);
+            snapshot.setAttribute(attributeName, attributeValue);
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            liveForWrite().removeAttribute(attributeName);
+            snapshot.removeAttribute(attributeName);
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return snapshot.getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            snapshot.setLastAccessedTime(lastAccessedTime);
+            if (live != null) {
+                live.setLastAccessedTime(lastAccessedTime);
+            }
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return snapshot.getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            liveForWrite().setMaxInactiveInterval(interval);
+            snapshot.setMaxInactiveInterval(interval);
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return snapshot.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return snapshot.isExpired();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.company.gym.config;
+
+import com.company.gym.util.RequestPersistenceCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class PersistenceConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sessionEventsCustomizer() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                PersistenceSessionEventListener.class.getName());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(
+            @Value("${gym.persistence.capture-sql:false}") boolean captureSql) {
+        RequestPersistenceCounter.setCaptureSql(captureSql);
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCountingInspector());
+    }
+
+    // Right after DebugLogEscalationFilter, so its over-budget warnings follow an escalated log level,
+    // and ahead of security and session handling, whose statements belong to the request too.
+    @Bean
+    public FilterRegistrationBean<PersistenceMetricsFilter> persistenceMetricsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<PersistenceMetricsFilter> registration =
+                new FilterRegistrationBean<>(new PersistenceMetricsFilter(meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,84 @@
+package com.company.gym.config;
+
+import com.company.gym.controller.QueryBudget;
+import com.company.gym.util.RequestPersistenceCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+public class PersistenceMetricsFilter extends OncePerRequestFilter {
+
+    // Set on the request after the chain: the statements it issued, in order (empty unless SQL capture is on).
+    public static final String STATEMENTS_ATTRIBUTE = PersistenceMetricsFilter.class.getName() + ".STATEMENTS";
+
+    private static final Logger logger = LoggerFactory.getLogger(PersistenceMetricsFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary sessionsPerRequest;
+    private final DistributionSummary connectionsPerRequest;
+    private final DistributionSummary statementsPerRequest;
+
+    public PersistenceMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.sessionsPerRequest = DistributionSummary.builder("gym.persistence.sessions.per.request")
+                .description("Hibernate sessions opened while serving one HTTP request")
+                .register(meterRegistry);
+        this.connectionsPerRequest = DistributionSummary.builder("gym.persistence.connections.per.request")
+                .description("JDBC connections acquired while serving one HTTP request")
+                .register(meterRegistry);
+        this.statementsPerRequest = DistributionSummary.builder("gym.persistence.statements.per.request")
+                .description("SQL statements prepared while serving one HTTP request")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestPersistenceCounter.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int sessions = RequestPersistenceCounter.sessions();
+            int connections = RequestPersistenceCounter.connections();
+            int statements = RequestPersistenceCounter.statements();
+            sessionsPerRequest.record(sessions);
+            connectionsPerRequest.record(connections);
+            statementsPerRequest.record(statements);
+            logger.debug("{} {} used {} session(s), {} connection(s) and {} statement(s).",
+                    request.getMethod(), request.getRequestURI(), sessions, connections, statements);
+            checkBudget(request, response, statements);
+            request.setAttribute(STATEMENTS_ATTRIBUTE, RequestPersistenceCounter.statementLog());
+            RequestPersistenceCounter.clear();
+        }
+    }
+
+    // Budgets describe the happy path; error responses stop early or fail differently and are not judged.
+    private void checkBudget(HttpServletRequest request, HttpServletResponse response, int statements) {
+        if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler)
+                || response.getStatus() >= 400) {
+            return;
+        }
+        QueryBudget budget = handler.getMethodAnnotation(QueryBudget.class);
+        if (budget != null && statements > budget.value()) {
+            String endpoint = handler.getBeanType().getSimpleName() + "." + handler.getMethod().getName();
+            Counter.builder("gym.persistence.query.budget.exceeded")
+                    .description("Requests that issued more SQL statements than their endpoint's @QueryBudget")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry)
+                    .increment();
+            logger.warn("{} {} issued {} SQL statement(s); {} allows {}.",
+                    request.getMethod(), request.getRequestURI(), statements, endpoint, budget.value());
+        }
+    }
+}
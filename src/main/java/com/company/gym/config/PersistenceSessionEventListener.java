@@ -0,0 +1,17 @@
+package com.company.gym.config;
+
+import com.company.gym.util.RequestPersistenceCounter;
+import org.hibernate.SessionEventListener;
+
+// Hibernate creates one instance per opened Session (see hibernate.session.events.auto).
+public class PersistenceSessionEventListener implements SessionEventListener {
+
+    public PersistenceSessionEventListener() {
+        RequestPersistenceCounter.sessionOpened();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        RequestPersistenceCounter.connectionAcquired();
+    }
+}
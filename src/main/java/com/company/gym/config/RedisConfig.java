@@ -1,10 +1,100 @@
 package com.company.gym.config;
 
+import com.company.gym.service.TokenRevocationList;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.session.data.redis.RedisSessionRepository;
 import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisHttpSession;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
 @Configuration
+@ConditionalOnProperty(name = "gym.session.store", havingValue = "redis", matchIfMissing = true)
 @EnableRedisHttpSession(maxInactiveIntervalInSeconds = 1800) // Session is during 30 minutes
 public class RedisConfig {
 
-}
\ No newline at end of file
+    static final String SESSION_INVALIDATION_CHANNEL = "gym:session:invalidations";
+    static final String TOKEN_REVOCATION_CHANNEL = "gym:token:revocations";
+    // username -> revokedAtMillis, so a node that starts later still honours recent revocations.
+    static final String TOKEN_REVOCATION_HASH = "gym:token:revocations";
+
+    // Messages are "<node>:<sessionId>" so a node ignores its own invalidations.
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // Picked up by Spring Session by bean name; "jdk" keeps writing the old format but still reads compact values.
+    @Bean("springSessionDefaultRedisSerializer")
+    public RedisSerializer<Object> springSessionDefaultRedisSerializer(
+            @Value("${gym.session.serializer:compact}") String format) {
+        return new CompactSessionSerializer(!"jdk".equalsIgnoreCase(format));
+    }
+
+    // @Primary: the session filter takes this wrapper instead of the plain Redis repository.
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "gym.session.near-cache.enabled", havingValue = "true")
+    public NearCacheSessionRepository nearCacheSessionRepository(
+            RedisSessionRepository sessionRepository,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${gym.session.near-cache.max-size:10000}") long maxSize,
+            @Value("${gym.session.near-cache.ttl:10s}") Duration ttl) {
+        return new NearCacheSessionRepository(sessionRepository, maxSize, ttl,
+                sessionId -> redisTemplate.convertAndSend(SESSION_INVALIDATION_CHANNEL, nodeId + ":" + sessionId),
+                meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "gym.session.near-cache.enabled", havingValue = "true")
+    public RedisMessageListenerContainer sessionInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                     NearCacheSessionRepository nearCacheSessionRepository) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.indexOf(':');
+            if (separator > 0 && !body.startsWith(nodeId + ":")) {
+                nearCacheSessionRepository.evictLocal(body.substring(separator + 1));
+            }
+        }, new ChannelTopic(SESSION_INVALIDATION_CHANNEL));
+        return container;
+    }
+
+    // Token mode: revocations are written to a hash and published; verification itself never calls Redis.
+    @Bean
+    @ConditionalOnProperty(name = "gym.security.auth-mode", havingValue = "token")
+    public RedisMessageListenerContainer tokenRevocationListener(RedisConnectionFactory connectionFactory,
+                                                                 StringRedisTemplate redisTemplate,
+                                                                 TokenRevocationList tokenRevocationList,
+                                                                 @Value("${gym.security.token.ttl:15m}") Duration ttl) {
+        redisTemplate.<String, String>opsForHash().entries(TOKEN_REVOCATION_HASH)
+                .forEach((username, revokedAt) -> tokenRevocationList.apply(username, Long.parseLong(revokedAt)));
+
+        tokenRevocationList.addListener((username, revokedAt) -> {
+            redisTemplate.opsForHash().put(TOKEN_REVOCATION_HASH, username, Long.toString(revokedAt));
+            redisTemplate.expire(TOKEN_REVOCATION_HASH, ttl);
+            redisTemplate.convertAndSend(TOKEN_REVOCATION_CHANNEL, username + ":" + revokedAt);
+        });
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.lastIndexOf(':');
+            if (separator > 0) {
+                tokenRevocationList.apply(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+            }
+        }, new ChannelTopic(TOKEN_REVOCATION_CHANNEL));
+        return container;
+    }
+}
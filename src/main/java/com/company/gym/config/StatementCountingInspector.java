@@ -0,0 +1,14 @@
+package com.company.gym.config;
+
+import com.company.gym.util.RequestPersistenceCounter;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Sees every SQL statement Hibernate prepares (queries, lazy loads, flushes; one per JDBC batch).
+public class StatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestPersistenceCounter.statementPrepared(sql);
+        return sql;
+    }
+}
@@ -1,6 +1,9 @@
 package com.company.gym.config;
 
+import com.company.gym.service.AccessTokenService;
 import com.company.gym.service.AuthService;
+import com.company.gym.service.PrincipalCache;
+import com.company.gym.service.TokenRevocationList;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -8,12 +11,15 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.logout.HeaderWriterLogoutHandler;
+import org.springframework.security.web.authentication.logout.LogoutFilter;
 import org.springframework.security.web.header.writers.ClearSiteDataHeaderWriter;
 
 import static org.springframework.security.web.header.writers.ClearSiteDataHeaderWriter.Directive.COOKIES;
@@ -23,9 +29,11 @@ import static org.springframework.security.web.header.writers.ClearSiteDataHeade
 public class WebSecurityConfig {
 
     private final AuthService authService;
+    private final PrincipalCache principalCache;
 
-    public WebSecurityConfig(AuthService authService) {
+    public WebSecurityConfig(AuthService authService, PrincipalCache principalCache) {
         this.authService = authService;
+        this.principalCache = principalCache;
     }
 
     @Bean
@@ -34,7 +42,10 @@ public class WebSecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, CustomUsernamePasswordAuthenticationFilter filter) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   CustomUsernamePasswordAuthenticationFilter filter,
+                                                   AccessTokenService accessTokenService,
+                                                   TokenRevocationList tokenRevocationList) throws Exception {
         http.csrf(AbstractHttpConfigurer::disable)
                 .cors(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(authorize -> authorize
@@ -42,6 +53,7 @@ public class WebSecurityConfig {
                         .requestMatchers("/api/v1/auth/login").anonymous()
                         .requestMatchers("/v2/api-docs", "/v3/api-docs/**", "/swagger-resources/**",
                                          "/swagger-ui/**", "/swagger-ui.html", "/webjars/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
                         .anyRequest().authenticated()
                 )
                 .logout(logout -> logout
@@ -52,19 +64,34 @@ public class WebSecurityConfig {
                 );
         http.addFilterAt(filter, UsernamePasswordAuthenticationFilter.class);
 
+        // Token mode: no session is created or read; logout revokes every token issued to the user so far.
+        if (accessTokenService.isEnabled()) {
+            http.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                    .logout(logout -> logout.addLogoutHandler((request, response, authentication) -> {
+                        if (authentication != null) {
+                            tokenRevocationList.revoke(authentication.getName());
+                        }
+                    }));
+            http.addFilterBefore(new TokenAuthenticationFilter(accessTokenService), LogoutFilter.class);
+        }
+
         return http.build();
     }
 
     @Bean
     public UserDetailsService userDetailsService() {
-        return username -> {
-            if (!authService.isUsernameTaken(username)) {
-                throw new UsernameNotFoundException("User " + username + " not found.");
-            }
-            return User.withUsername(username)
-                    .password("{noop}N/A")
-                    .roles("USER")
-                    .build();
-        };
+        return username -> principalCache.get(username, this::loadPrincipal);
+    }
+
+    private UserDetails loadPrincipal(String username) {
+        var user = authService.findUser(username);
+        if (user == null) {
+            throw new UsernameNotFoundException("User " + username + " not found.");
+        }
+        return User.withUsername(username)
+                .password("{noop}N/A")
+                .disabled(!Boolean.TRUE.equals(user.getIsActive()))
+                .roles("USER")
+                .build();
     }
 }
\ No newline at end of file
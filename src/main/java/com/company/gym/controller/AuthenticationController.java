@@ -13,6 +13,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
@@ -46,6 +47,7 @@ public class AuthenticationController {
 
     // №1 Trainee Registration - POST /api/v1/auth/trainee/register
     @PostMapping("/trainee/register")
+    @QueryBudget(4)
     @ResponseStatus(HttpStatus.CREATED)
     @Operation(summary = "1. Trainee Registration", description = "Возвращает сгенерированные Username и Password.")
     public AuthResponse registerTrainee(@Valid @RequestBody TraineeRegistrationRequest request) {
@@ -59,6 +61,7 @@ public class AuthenticationController {
 
     // №2 Trainer Registration - POST /api/v1/auth/trainer/register
     @PostMapping("/trainer/register")
+    @QueryBudget(4)
     @ResponseStatus(HttpStatus.CREATED)
     @Operation(summary = "2. Trainer Registration", description = "Возвращает сгенерированные Username и Password.")
     public AuthResponse registerTrainer(@Valid @RequestBody TrainerRegistrationRequest request) {
@@ -80,11 +83,12 @@ public class AuthenticationController {
 
     // №4 Change Login (Password) - PUT /api/v1/auth/change-password
     @PutMapping("/change-password")
+    @QueryBudget(2)
     @Operation(summary = "4. Change Login (Password)", description = "Требуется аутентификация. Idempotent.")
     public ResponseEntity<Void> changePassword(
             @AuthenticationPrincipal UserDetails userDetails,
             @Valid @RequestBody ChangePasswordRequest request,
-            HttpSession session) {
+            HttpServletRequest httpRequest) {
 
         if (userDetails == null || !userDetails.getUsername().equals(request.getUsername())) {
             throw new AuthenticationException("Forbidden. You can only change your own password.");
@@ -97,7 +101,11 @@ public class AuthenticationController {
         );
 
         SecurityContextHolder.clearContext();
-        session.invalidate();
+        // Token mode has no session; its tokens are revoked by the password change itself.
+        HttpSession session = httpRequest.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
 
         return ResponseEntity.ok().build();
     }
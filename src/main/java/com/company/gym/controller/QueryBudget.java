@@ -0,0 +1,20 @@
+package com.company.gym.controller;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+ * Maximum number of SQL statements one request to this endpoint may issue on the happy path,
+ * counted by PersistenceMetricsFilter from request start to response. Exceeding it is logged and
+ * counted (gym.persistence.query.budget.exceeded); EndpointQueryBudgetTest fails on it.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface QueryBudget {
+
+    int value();
+}
@@ -5,7 +5,7 @@ import com.company.gym.dto.request.UpdateTraineeTrainersRequest;
 import com.company.gym.dto.request.UserStatusUpdateRequest;
 import com.company.gym.dto.response.TraineeProfileResponse;
 import com.company.gym.dto.response.TrainerShortResponse;
-import com.company.gym.dto.response.TrainingListResponse;
+import com.company.gym.dto.response.TrainingPageResponse;
 import com.company.gym.exception.AuthenticationException;
 import com.company.gym.service.TraineeServiceFacade;
 import io.swagger.v3.oas.annotations.Operation;
@@ -48,6 +48,7 @@ public class TraineeController {
 
     // №5 Get Trainee Profile - GET /api/v1/trainees/{username}
     @GetMapping("/{username}")
+    @QueryBudget(1)
     @Operation(summary = "5. Get Trainee Profile", description = "Требуется аутентификация. Idempotent.")
     public TraineeProfileResponse getProfile(
             @PathVariable String username,
@@ -59,6 +60,7 @@ public class TraineeController {
 
     // №6 Update Trainee Profile - PUT /api/v1/trainees/{username}
     @PutMapping("/{username}")
+    @QueryBudget(3)
     @Operation(summary = "6. Update Trainee Profile", description = "Требуется аутентификация. Idempotent.")
     public TraineeProfileResponse updateProfile(
             @PathVariable String username,
@@ -71,8 +73,10 @@ public class TraineeController {
 
     // №7 Delete Trainee Profile - DELETE /api/v1/trainees/{username}
     @DeleteMapping("/{username}")
-    @ResponseStatus(HttpStatus.NO_CONTENT) // 204 No Content
-    @Operation(summary = "7. Delete Trainee Profile", description ="Требуется аутентификация. Hard Delete (Cascade). Idempotent.")
+    @QueryBudget(5)
+    @ResponseStatus(HttpStatus.NO_CONTENT) // 204 No Content; 202 Accepted в режиме gym.trainees.deletion.mode: async
+    @Operation(summary = "7. Delete Trainee Profile", description ="Требуется аутентификация. Hard Delete (тренировки и связи удаляются пакетно). " +
+            "Учётная запись деактивируется, выданные токены отзываются. В режиме async профиль скрывается сразу (202), история удаляется в фоне. Idempotent.")
     public ResponseEntity<Void> deleteProfile(
             @PathVariable String username,
             @AuthenticationPrincipal UserDetails principal
@@ -83,6 +87,7 @@ public class TraineeController {
 
     // №11 Update Trainee's Trainer List - PUT /api/v1/trainees/{username}/trainers
     @PutMapping("/{username}/trainers")
+    @QueryBudget(4)
     @Operation(summary = "11. Update Trainee's Trainer List", description ="Требуется аутентификация. Idempotent (полная замена списка).")
     public List<TrainerShortResponse> updateTrainers(
             @PathVariable String username,
@@ -95,21 +100,25 @@ public class TraineeController {
 
     // №12 Get Trainee Trainings List - GET /api/v1/trainees/{username}/trainings
     @GetMapping("/{username}/trainings")
-    @Operation(summary = "12. Get Trainee Trainings List", description ="Требуется аутентификация. Idempotent.")
-    public List<TrainingListResponse> getTrainings(
+    @QueryBudget(1)
+    @Operation(summary = "12. Get Trainee Trainings List", description ="Требуется аутентификация. Idempotent. Постраничная выдача по курсору (nextCursor).")
+    public TrainingPageResponse getTrainings(
             @PathVariable String username,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date fromDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date toDate,
             @RequestParam(required = false) String trainerName,
             @RequestParam(required = false) String trainingTypeName,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             @AuthenticationPrincipal UserDetails principal
     ) {
         checkAuthorization(username, principal);
-        return traineeService.getTrainings(username, fromDate, toDate, trainerName, trainingTypeName);
+        return traineeService.getTrainings(username, fromDate, toDate, trainerName, trainingTypeName, cursor, size);
     }
 
     // №15 Activate/De-Activate Trainee - PATCH /api/v1/trainees/{username}/status
     @PatchMapping("/{username}/status")
+    @QueryBudget(2)
     @Operation(summary = "15. Activate/De-Activate Trainee", description ="Требуется аутентификация. Non-Idempotent (изменение статуса на основе тела запроса).")
     public void updateStatus(
             @PathVariable String username,
@@ -4,14 +4,22 @@ import com.company.gym.dto.request.TrainerProfileUpdateRequest;
 import com.company.gym.dto.request.UserStatusUpdateRequest;
 import com.company.gym.dto.response.TrainerProfileResponse;
 import com.company.gym.dto.response.TrainerShortResponse;
-import com.company.gym.dto.response.TrainingListResponse;
+import com.company.gym.dto.response.TrainingPageResponse;
 import com.company.gym.dto.response.TrainingTypeResponse;
 import com.company.gym.exception.AuthenticationException;
 import com.company.gym.service.TrainerServiceFacade;
+import com.company.gym.service.TrainingTypeCatalog;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -45,6 +53,7 @@ public class TrainerController {
 
     // №8 Get Trainer Profile - GET /api/v1/trainers/{username}
     @GetMapping("/trainers/{username}")
+    @QueryBudget(2)
     @Operation(summary = "8. Get Trainer Profile", description = "Требуется аутентификация. Idempotent.")
     public TrainerProfileResponse getProfile(
             @PathVariable String username,
@@ -56,6 +65,7 @@ public class TrainerController {
 
     // №9 Update Trainer Profile - PUT /api/v1/trainers/{username}
     @PutMapping("/trainers/{username}")
+    @QueryBudget(2)
     @Operation(summary = "9. Update Trainer Profile", description = "Требуется аутентификация. Specialization - read-only. Idempotent.")
     public TrainerProfileResponse updateProfile(
             @PathVariable String username,
@@ -68,6 +78,7 @@ public class TrainerController {
 
     // №10 Get not assigned active trainers - GET /api/v1/trainees/{traineeUsername}/unassigned-trainers
     @GetMapping("/trainees/{traineeUsername}/unassigned-trainers")
+    @QueryBudget(2)
     @Operation(summary = "10. Get not assigned active trainers", description = "Требуется аутентификация клиента. Idempotent.")
     public List<TrainerShortResponse> getUnassignedTrainers(
             @PathVariable String traineeUsername,
@@ -81,19 +92,23 @@ public class TrainerController {
 
     // №13 Get Trainer Trainings List - GET /api/v1/trainers/{username}/trainings
     @GetMapping("/trainers/{username}/trainings")
-    @Operation(summary = "13. Get Trainer Trainings List", description = "Требуется аутентификация. Idempotent.")
-    public List<TrainingListResponse> getTrainings(
+    @QueryBudget(1)
+    @Operation(summary = "13. Get Trainer Trainings List", description = "Требуется аутентификация. Idempotent. Постраничная выдача по курсору (nextCursor).")
+    public TrainingPageResponse getTrainings(
             @PathVariable String username,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date fromDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date toDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             @AuthenticationPrincipal UserDetails principal
     ) {
         checkAuthorization(username, principal);
-        return trainerService.getTrainings(username, fromDate, toDate);
+        return trainerService.getTrainings(username, fromDate, toDate, cursor, size);
     }
 
     // №16 Activate/De-Activate Trainer - PATCH /api/v1/trainers/{username}/status
     @PatchMapping("/trainers/{username}/status")
+    @QueryBudget(2)
     @Operation(summary = "16. Activate/De-Activate Trainer", description = "Требуется аутентификация. Non-Idempotent.")
     public void updateStatus(
             @PathVariable String username,
@@ -105,9 +120,18 @@ public class TrainerController {
     }
 
     // №17 Get Training types - GET /api/v1/training-types
-    @GetMapping("/training-types")
-    @Operation(summary = "17. Get Training types", description = "Не требует аутентификации. Idempotent.")
-    public List<TrainingTypeResponse> getAllTrainingTypes() {
-        return trainerService.getAllTrainingTypes();
+    // Pre-rendered body with a strong ETag; a matching If-None-Match gets 304 without a body.
+    @GetMapping(value = "/training-types", produces = MediaType.APPLICATION_JSON_VALUE)
+    @QueryBudget(1)
+    @Operation(summary = "17. Get Training types", description = "Не требует аутентификации. Idempotent. Поддерживает ETag / If-None-Match.")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = TrainingTypeResponse.class))))
+    public ResponseEntity<byte[]> getAllTrainingTypes() {
+        TrainingTypeCatalog.Payload payload = trainerService.getTrainingTypesPayload();
+        return ResponseEntity.ok()
+                .eTag(payload.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(payload.body());
     }
 }
\ No newline at end of file
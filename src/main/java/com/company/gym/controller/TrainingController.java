@@ -1,11 +1,17 @@
 package com.company.gym.controller;
 
 import com.company.gym.dto.request.TrainingRequest;
+import com.company.gym.dto.response.TrainingBatchError;
+import com.company.gym.dto.response.TrainingBatchResponse;
 import com.company.gym.exception.AuthenticationException;
+import com.company.gym.exception.ValidationException;
 import com.company.gym.service.TrainingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -16,19 +22,32 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @RestController
 @RequestMapping("/api/v1/trainings")
 @Tag(name = "Training Management")
 public class TrainingController {
 
     private final TrainingService trainingService;
+    private final Validator validator;
+    private final int maxBatchItems;
 
-    public TrainingController(TrainingService trainingService) {
+    public TrainingController(TrainingService trainingService,
+                              Validator validator,
+                              @Value("${gym.trainings.batch.max-items:1000}") int maxBatchItems) {
         this.trainingService = trainingService;
+        this.validator = validator;
+        this.maxBatchItems = maxBatchItems;
     }
 
     // №14 Add Training - POST /api/v1/trainings
     @PostMapping
+    @QueryBudget(3)
     @ResponseStatus(HttpStatus.CREATED)
     @Operation(summary= "14. Add Training", description = "Требуется аутентификация. Non-Idempotent. Аутентифицированный пользователь должен быть Trainee или Trainer из запроса.")
     public ResponseEntity<Void> createTraining(
@@ -55,4 +74,60 @@ public class TrainingController {
 
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
-}
\ No newline at end of file
+
+    // Bulk Add Trainings - POST /api/v1/trainings/batch
+    @PostMapping("/batch")
+    @QueryBudget(3)
+    @Operation(summary= "Bulk Add Trainings", description = "Требуется аутентификация. Non-Idempotent. Некорректные элементы возвращаются в errors, остальные создаются.")
+    public ResponseEntity<TrainingBatchResponse> createTrainings(
+            @RequestBody List<TrainingRequest> requests,
+            @AuthenticationPrincipal UserDetails principal
+    ) {
+        if (principal == null) {
+            throw new AuthenticationException("Authentication required.");
+        }
+        if (requests == null || requests.isEmpty() || requests.size() > maxBatchItems) {
+            throw new ValidationException("Batch must contain between 1 and " + maxBatchItems + " trainings.");
+        }
+
+        String principalUsername = principal.getUsername();
+        List<TrainingBatchError> errors = new ArrayList<>();
+        List<TrainingRequest> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            String problem = checkBatchItem(requests.get(i), principalUsername);
+            if (problem != null) {
+                errors.add(new TrainingBatchError(i, problem));
+            } else {
+                accepted.add(requests.get(i));
+                acceptedIndexes.add(i);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            trainingService.createTrainings(accepted).forEach((position, message) ->
+                    errors.add(new TrainingBatchError(acceptedIndexes.get(position), message)));
+        }
+        errors.sort(Comparator.comparingInt(TrainingBatchError::getIndex));
+
+        return ResponseEntity.ok(new TrainingBatchResponse(requests.size() - errors.size(), errors));
+    }
+
+    private String checkBatchItem(TrainingRequest request, String principalUsername) {
+        if (request == null) {
+            return "Item is empty.";
+        }
+        Set<ConstraintViolation<TrainingRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (!principalUsername.equals(request.getTraineeUsername()) && !principalUsername.equals(request.getTrainerUsername())) {
+            return "Access denied. Training must be created by one of the involved parties (Trainee or Trainer).";
+        }
+        return null;
+    }
+}
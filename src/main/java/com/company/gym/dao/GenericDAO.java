@@ -1,11 +1,13 @@
 package com.company.gym.dao;
 
-import com.company.gym.util.HibernateUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.hibernate.Session;
-import org.hibernate.Transaction;
 import org.hibernate.query.Query;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.io.Serializable;
 import java.util.List;
@@ -16,79 +18,100 @@ public abstract class GenericDAO<T, ID extends Serializable> {
 
     private final Class<T> entityClass;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Matches hibernate.jdbc.batch_size so each flush sends full JDBC batches.
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int flushInterval;
+
     public GenericDAO(Class<T> entityClass) {
         this.entityClass = entityClass;
     }
 
     protected abstract ID getEntityId(T entity);
 
+    // Shared, transaction-bound Session: every DAO call in a request joins the same persistence context.
+    protected Session currentSession() {
+        return entityManager.unwrap(Session.class);
+    }
+
+    @Transactional
     public T save(T entity) {
-        Transaction transaction = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            transaction = session.beginTransaction();
-            session.persist(entity);
-            transaction.commit();
+        try {
+            currentSession().persist(entity);
             logger.info("{} saved successfully. ID: {}", entityClass.getSimpleName(), getEntityId(entity));
             return entity;
         } catch (Exception e) {
-            if (transaction != null) {
-                transaction.rollback();
-                logger.error("Transaction rolled back for {} save.", entityClass.getSimpleName(), e);
-            }
+            logger.error("Could not save {}.", entityClass.getSimpleName(), e);
             throw new RuntimeException("Could not save " + entityClass.getSimpleName(), e);
         }
     }
 
+    // Bulk insert: flushes and clears every flushInterval entities so the persistence context stays bounded.
+    @Transactional
+    public void saveAll(List<T> entities) {
+        try {
+            Session session = currentSession();
+            for (int i = 0; i < entities.size(); i++) {
+                session.persist(entities.get(i));
+                if (flushInterval > 0 && (i + 1) % flushInterval == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            session.flush();
+            logger.info("{} {} entities saved.", entities.size(), entityClass.getSimpleName());
+        } catch (Exception e) {
+            logger.error("Could not save {} batch.", entityClass.getSimpleName(), e);
+            throw new RuntimeException("Could not save " + entityClass.getSimpleName() + " batch", e);
+        }
+    }
+
+    @Transactional
     public T update(T entity) {
-        Transaction transaction = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            transaction = session.beginTransaction();
-            var updatedEntity = session.merge(entity);
-            transaction.commit();
+        try {
+            var updatedEntity = currentSession().merge(entity);
             logger.info("{} updated successfully. ID: {}", entityClass.getSimpleName(), getEntityId(updatedEntity));
             return updatedEntity;
         } catch (Exception e) {
-            if (transaction != null) {
-                transaction.rollback();
-                logger.error("Transaction rolled back for {} update.", entityClass.getSimpleName(), e);
-            }
+            logger.error("Could not update {}.", entityClass.getSimpleName(), e);
             throw new RuntimeException("Could not update " + entityClass.getSimpleName(), e);
         }
     }
 
+    @Transactional
     public void delete(T entity) {
-        Transaction transaction = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            transaction = session.beginTransaction();
+        try {
+            Session session = currentSession();
             session.remove(session.contains(entity) ? entity : session.merge(entity));
-            transaction.commit();
             logger.info("{} deleted successfully. ID: {}", entityClass.getSimpleName(), getEntityId(entity));
         } catch (Exception e) {
-            if (transaction != null) {
-                transaction.rollback();
-                logger.error("Transaction rolled back for {} delete.", entityClass.getSimpleName(), e);
-            }
+            logger.error("Could not delete {}.", entityClass.getSimpleName(), e);
             throw new RuntimeException("Could not delete " + entityClass.getSimpleName(), e);
         }
     }
 
+    @Transactional(readOnly = true)
     public T findById(ID id) {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            T entity = session.find(entityClass, id);
-            if (entity != null) {
-                logger.debug("Found {} with ID: {}", entityClass.getSimpleName(), id);
-            } else {
-                logger.warn("Could not find {} with ID: {}", entityClass.getSimpleName(), id);
-            }
-            return entity;
+        T entity = currentSession().find(entityClass, id);
+        if (entity != null) {
+            logger.debug("Found {} with ID: {}", entityClass.getSimpleName(), id);
+        } else {
+            logger.warn("Could not find {} with ID: {}", entityClass.getSimpleName(), id);
         }
+        return entity;
+    }
+
+    // Uninitialised proxy for a row known to exist; lets associations be set without a SELECT.
+    public T getReference(ID id) {
+        return currentSession().getReference(entityClass, id);
     }
 
+    @Transactional(readOnly = true)
     public List<T> findAll() {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            String hql = "FROM " + entityClass.getSimpleName();
-            Query<T> query = session.createQuery(hql, entityClass);
-            return query.list();
-        }
+        String hql = "FROM " + entityClass.getSimpleName();
+        Query<T> query = currentSession().createQuery(hql, entityClass);
+        return query.list();
     }
-}
\ No newline at end of file
+}
@@ -1,15 +1,17 @@
 package com.company.gym.dao;
 
+import com.company.gym.dto.projection.TrainingListRow;
 import com.company.gym.entity.Trainee;
-import com.company.gym.entity.Training;
-import com.company.gym.util.HibernateUtil;
 import com.company.gym.util.QueryUtil;
+import com.company.gym.util.TrainingCursor;
 import org.hibernate.Session;
 import org.hibernate.query.Query;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -27,71 +29,143 @@ public class TraineeDAO extends GenericDAO<Trainee, Long> {
         return trainee.getId();
     }
 
+    @Transactional(readOnly = true)
     public Trainee findByUsername(String username) {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            Query<Trainee> query = session.createQuery(
-                    "SELECT t FROM Trainee t JOIN FETCH t.user u WHERE u.username = :username", Trainee.class);
-            query.setParameter("username", username);
-            Trainee trainee = query.uniqueResult();
-
-            if (trainee == null) {
-                logger.warn("Trainee not found with username: {}", username);
-            } else {
-                logger.debug("Found Trainee with username: {}", username);
-            }
-            return trainee;
+        Query<Trainee> query = currentSession().createQuery(
+                "SELECT t FROM Trainee t JOIN FETCH t.user u WHERE u.username = :username", Trainee.class);
+        query.setParameter("username", username);
+        Trainee trainee = query.uniqueResult();
+
+        if (trainee == null) {
+            logger.warn("Trainee not found with username: {}", username);
+        } else {
+            logger.debug("Found Trainee with username: {}", username);
         }
+        return trainee;
     }
 
+    @Transactional(readOnly = true)
     public Trainee findByUsernameWithTrainers(String username) {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            Query<Trainee> query = session.createQuery(
-                    "SELECT DISTINCT t FROM Trainee t " +
-                    "JOIN FETCH t.user u " +
-                    "LEFT JOIN FETCH t.trainers tr " +
-                    "LEFT JOIN FETCH tr.user " +
-                    "WHERE u.username = :username", Trainee.class);
-            query.setParameter("username", username);
-            Trainee trainee = query.uniqueResult();
-
-            if (trainee == null) {
-                logger.warn("Trainee not found with username: {}", username);
-            } else {
-                logger.debug("Found Trainee with username: {}", username);
-            }
-            return trainee;
+        Query<Trainee> query = currentSession().createQuery(
+                "SELECT DISTINCT t FROM Trainee t " +
+                "JOIN FETCH t.user u " +
+                "LEFT JOIN FETCH t.trainers tr " +
+                "LEFT JOIN FETCH tr.user " +
+                "WHERE u.username = :username", Trainee.class);
+        query.setParameter("username", username);
+        Trainee trainee = query.uniqueResult();
+
+        if (trainee == null) {
+            logger.warn("Trainee not found with username: {}", username);
+        } else {
+            logger.debug("Found Trainee with username: {}", username);
         }
+        return trainee;
     }
 
 
     @Override
+    @Transactional
     public void delete(Trainee trainee) {
         super.delete(trainee);
         logger.info("Trainee profile and associated trainings cascade deleted. ID: {}", trainee.getId());
     }
 
-    public List<Training> getTraineeTrainingsList(String username, Date fromDate, Date toDate, String trainerName, String trainingTypeName) {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            StringBuilder hql = new StringBuilder(
-                    "SELECT t FROM Training t JOIN t.trainee tr JOIN FETCH t.trainer tn JOIN t.trainingType tt WHERE tr.user.username = :username"
-            );
+    @Transactional(readOnly = true)
+    public Long findIdByUsername(String username) {
+        Query<Long> query = currentSession().createQuery(
+                "SELECT t.id FROM Trainee t JOIN t.user u WHERE u.username = :username", Long.class);
+        query.setParameter("username", username);
+        Long id = query.uniqueResult();
 
-            if (fromDate != null) hql.append(" AND t.trainingDate >= :fromDate");
-            if (toDate != null) hql.append(" AND t.trainingDate <= :toDate");
+        if (id == null) {
+            logger.warn("Trainee not found with username: {}", username);
+        }
+        return id;
+    }
 
-            if (trainerName != null && !trainerName.isEmpty()) {
-                hql.append(" AND CONCAT(tn.user.firstName, ' ', tn.user.lastName) LIKE :trainerName");
-            }
-            if (trainingTypeName != null && !trainingTypeName.isEmpty()) hql.append(" AND tt.name = :trainingTypeName");
+    // Set-based removal of the trainee row, its trainer links and its trainings; nothing is loaded into the session.
+    // Native statements for the trainee tables so a profile already marked deleted is still reachable.
+    @Transactional
+    public int deleteWithHistory(Long traineeId) {
+        Session session = currentSession();
+        int trainings = session.createMutationQuery("DELETE FROM Training t WHERE t.trainee.id = :traineeId")
+                .setParameter("traineeId", traineeId)
+                .executeUpdate();
+        // Declared query spaces keep a native statement from evicting every second-level cache region.
+        int links = session.createNativeQuery("DELETE FROM trainee_trainer WHERE trainee_id = :traineeId")
+                .addSynchronizedQuerySpace("trainee_trainer")
+                .setParameter("traineeId", traineeId)
+                .executeUpdate();
+        session.createNativeQuery("DELETE FROM trainee WHERE user_id = :traineeId")
+                .addSynchronizedEntityClass(Trainee.class)
+                .setParameter("traineeId", traineeId)
+                .executeUpdate();
+
+        logger.info("Trainee {} deleted with {} trainings and {} trainer links.", traineeId, trainings, links);
+        return trainings;
+    }
 
-            Query<Training> query = QueryUtil.getTrainingQuery(username,fromDate,toDate,session,hql);
+    @Transactional
+    public void markDeleted(Long traineeId, Date deletedAt) {
+        currentSession().createMutationQuery("UPDATE Trainee t SET t.deletedAt = :deletedAt WHERE t.id = :traineeId")
+                .setParameter("deletedAt", deletedAt)
+                .setParameter("traineeId", traineeId)
+                .executeUpdate();
+        logger.info("Trainee {} marked deleted.", traineeId);
+    }
 
-            if (trainerName != null && !trainerName.isEmpty()) query.setParameter("trainerName", "%" + trainerName + "%");
-            if (trainingTypeName != null && !trainingTypeName.isEmpty()) query.setParameter("trainingTypeName", trainingTypeName);
+    // Oldest first; native because the entity restriction hides marked rows from HQL.
+    @Transactional(readOnly = true)
+    public List<Long> findIdsMarkedDeleted(int limit) {
+        return currentSession().createNativeQuery(
+                        "SELECT user_id FROM trainee WHERE deleted_at IS NOT NULL ORDER BY deleted_at LIMIT :limit", Long.class)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
 
-            List<Training> trainings = query.list();
-            logger.info("Retrieved {} trainings for trainee: {}", trainings.size(), username);
-            return trainings;
+    // Which of the given usernames belong to a Trainee; used to explain rejected batch items.
+    @Transactional(readOnly = true)
+    public List<String> findExistingUsernames(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return List.of();
         }
+        Query<String> query = currentSession().createQuery(
+                "SELECT u.username FROM Trainee t JOIN t.user u WHERE u.username IN (:usernames)", String.class);
+        query.setParameterList("usernames", usernames);
+        return query.getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<TrainingListRow> getTraineeTrainingsList(String username, Date fromDate, Date toDate, String trainerName,
+                                                         String trainingTypeName, TrainingCursor after, int limit) {
+        StringBuilder hql = new StringBuilder(
+                "SELECT new com.company.gym.dto.projection.TrainingListRow(" +
+                "t.id, t.trainingName, t.trainingDate, tt.name, t.trainingDuration, CONCAT(tnu.firstName, ' ', tnu.lastName)) " +
+                "FROM Training t JOIN t.trainer tn JOIN tn.user tnu JOIN t.trainingType tt " +
+                "WHERE t.id IN (SELECT p.id FROM Training p " +
+                "WHERE p.trainee.id = (SELECT tr.id FROM Trainee tr JOIN tr.user u WHERE u.username = :username)"
+        );
+
+        if (fromDate != null) hql.append(" AND p.trainingDate >= :fromDate");
+        if (toDate != null) hql.append(" AND p.trainingDate <= :toDate");
+
+        if (trainerName != null && !trainerName.isEmpty()) {
+            // Checked per training of this trainee by a primary-key lookup of the trainer's profile (a trainer's id is its
+            // user id). A scalar subquery, so the planner cannot turn it into a join over every matching profile.
+            hql.append(" AND (SELECT fu.fullName FROM User fu WHERE fu.id = p.trainer.id) LIKE :trainerName");
+        }
+        if (trainingTypeName != null && !trainingTypeName.isEmpty()) hql.append(" AND p.trainingType.name = :trainingTypeName");
+        QueryUtil.appendKeyset(hql, after);
+
+        Query<TrainingListRow> query = QueryUtil.getTrainingQuery(username, fromDate, toDate, currentSession(), hql, TrainingListRow.class);
+
+        if (trainerName != null && !trainerName.isEmpty()) query.setParameter("trainerName", "%" + trainerName + "%");
+        if (trainingTypeName != null && !trainingTypeName.isEmpty()) query.setParameter("trainingTypeName", trainingTypeName);
+        QueryUtil.bindKeyset(query, after, limit);
+
+        List<TrainingListRow> trainings = query.list();
+        logger.info("Retrieved {} trainings for trainee: {}", trainings.size(), username);
+        return trainings;
     }
-}
\ No newline at end of file
+}
@@ -1,17 +1,21 @@
 package com.company.gym.dao;
 
+import com.company.gym.dto.projection.TrainerRosterRow;
+import com.company.gym.dto.projection.TrainingListRow;
 import com.company.gym.entity.Trainer;
-import com.company.gym.entity.Training;
-import com.company.gym.util.HibernateUtil;
 import com.company.gym.util.QueryUtil;
+import com.company.gym.util.TrainingCursor;
 import org.hibernate.Session;
 import org.hibernate.query.Query;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Objects;
 
 @Repository
 public class TrainerDAO extends GenericDAO<Trainer, Long> {
@@ -27,67 +31,100 @@ public class TrainerDAO extends GenericDAO<Trainer, Long> {
         return trainer.getId();
     }
 
+    @Transactional(readOnly = true)
     public Trainer findByUsername(String username) {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            Query<Trainer> query = session.createQuery(
-                    "SELECT t FROM Trainer t JOIN FETCH t.user u WHERE u.username = :username", Trainer.class);
-            query.setParameter("username", username);
-            Trainer trainer = query.uniqueResult();
-
-            if (trainer == null) {
-                logger.warn("Trainer not found with username: {}", username);
-            } else {
-                logger.debug("Found Trainer with username: {}", username);
-            }
-            return trainer;
+        Query<Trainer> query = currentSession().createQuery(
+                "SELECT t FROM Trainer t JOIN FETCH t.user u WHERE u.username = :username", Trainer.class);
+        query.setParameter("username", username);
+        Trainer trainer = query.uniqueResult();
+
+        if (trainer == null) {
+            logger.warn("Trainer not found with username: {}", username);
+        } else {
+            logger.debug("Found Trainer with username: {}", username);
         }
+        return trainer;
     }
 
+    @Transactional(readOnly = true)
     public Trainer findByUserNameWithTrainees(String username) {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            Query<Trainer> query = session.createQuery(
-                    "SELECT DISTINCT t FROM Trainer t " +
-                    "JOIN FETCH t.user u " +
-                    "LEFT JOIN FETCH t.trainees tr " +
-                    "LEFT JOIN FETCH tr.user " +
-                    "WHERE u.username = :username", Trainer.class);
-            query.setParameter("username", username);
-            Trainer trainer = query.uniqueResult();
-
-            if (trainer == null) {
-                logger.warn("Trainer not found with username: {}", username);
-            } else {
-                logger.debug("Found Trainer with username: {}", username);
-            }
-            return trainer;
+        Query<Trainer> query = currentSession().createQuery(
+                "SELECT DISTINCT t FROM Trainer t " +
+                "JOIN FETCH t.user u " +
+                "LEFT JOIN FETCH t.trainees tr " +
+                "LEFT JOIN FETCH tr.user " +
+                "WHERE u.username = :username", Trainer.class);
+        query.setParameter("username", username);
+        Trainer trainer = query.uniqueResult();
+
+        if (trainer == null) {
+            logger.warn("Trainer not found with username: {}", username);
+        } else {
+            logger.debug("Found Trainer with username: {}", username);
         }
+        return trainer;
     }
 
-    public List<Training> getTrainerTrainingsList(String username, Date fromDate, Date toDate) {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            StringBuilder hql = new StringBuilder(
-                    "SELECT t FROM Training t JOIN t.trainer tr JOIN FETCH t.trainee tre JOIN tr.user u WHERE u.username = :username"
-            );
-
-            if (fromDate != null) {
-                hql.append(" AND t.trainingDate >= :fromDate");
-            }
-            if (toDate != null) {
-                hql.append(" AND t.trainingDate <= :toDate");
-            }
+    // Resolves many trainers in one IN query; trainee collections stay unloaded.
+    @Transactional(readOnly = true)
+    public List<Trainer> findByUsernames(Collection<String> usernames) {
+        if (usernames == null || usernames.isEmpty()) {
+            return List.of();
+        }
+        Query<Trainer> query = currentSession().createQuery(
+                "SELECT t FROM Trainer t JOIN FETCH t.user u " +
+                "WHERE u.username IN (:usernames)", Trainer.class);
+        query.setParameterList("usernames", usernames);
+
+        List<Trainer> trainers = query.getResultList();
+        logger.debug("Resolved {} of {} requested Trainers.", trainers.size(), usernames.size());
+        return trainers;
+    }
 
-            Query<Training> query = QueryUtil.getTrainingQuery(username,fromDate,toDate,session,hql);
+    // Which of the given usernames belong to a Trainer; used to explain rejected batch items.
+    @Transactional(readOnly = true)
+    public List<String> findExistingUsernames(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return List.of();
+        }
+        Query<String> query = currentSession().createQuery(
+                "SELECT u.username FROM Trainer t JOIN t.user u WHERE u.username IN (:usernames)", String.class);
+        query.setParameterList("usernames", usernames);
+        return query.getResultList();
+    }
 
-            List<Training> trainings = query.getResultList();
-            logger.info("Retrieved {} trainings for trainer: {}", trainings.size(), username);
-            return trainings;
+    @Transactional(readOnly = true)
+    public List<TrainingListRow> getTrainerTrainingsList(String username, Date fromDate, Date toDate, TrainingCursor after, int limit) {
+        StringBuilder hql = new StringBuilder(
+                "SELECT new com.company.gym.dto.projection.TrainingListRow(" +
+                "t.id, t.trainingName, t.trainingDate, tt.name, t.trainingDuration, CONCAT(treu.firstName, ' ', treu.lastName)) " +
+                "FROM Training t JOIN t.trainee tre JOIN tre.user treu JOIN t.trainingType tt " +
+                "WHERE t.id IN (SELECT p.id FROM Training p " +
+                "WHERE p.trainer.id = (SELECT tr.id FROM Trainer tr JOIN tr.user u WHERE u.username = :username)"
+        );
+
+        if (fromDate != null) {
+            hql.append(" AND p.trainingDate >= :fromDate");
+        }
+        if (toDate != null) {
+            hql.append(" AND p.trainingDate <= :toDate");
         }
+        QueryUtil.appendKeyset(hql, after);
+
+        Query<TrainingListRow> query = QueryUtil.getTrainingQuery(username, fromDate, toDate, currentSession(), hql, TrainingListRow.class);
+        QueryUtil.bindKeyset(query, after, limit);
+
+        List<TrainingListRow> trainings = query.getResultList();
+        logger.info("Retrieved {} trainings for trainer: {}", trainings.size(), username);
+        return trainings;
     }
 
+    @Transactional(readOnly = true)
     public List<Trainer> findUnassignedTrainers(String traineeUsername) {
         logger.debug("Finding all active Trainers not assigned to Trainee: {}", traineeUsername);
 
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+        try {
+            Session session = currentSession();
             String findTraineeIdHQL = "SELECT t.id FROM Trainee t JOIN t.user u WHERE u.username = :username";
             Query<Long> traineeIdQuery = session.createQuery(findTraineeIdHQL, Long.class);
             traineeIdQuery.setParameter("username", traineeUsername);
@@ -98,9 +135,10 @@ public class TrainerDAO extends GenericDAO<Trainer, Long> {
                 return List.of();
             }
 
-            String hql = "SELECT t FROM Trainer t WHERE t.id NOT IN (" +
-                    "    SELECT tr.id FROM Trainee trainee JOIN trainee.trainers tr WHERE trainee.id = :traineeId" +
-                    ") AND t.user.isActive = true";
+            String hql = "SELECT t FROM Trainer t JOIN FETCH t.user u " +
+                    "WHERE u.isActive = true AND NOT EXISTS (" +
+                    "    SELECT 1 FROM Trainee trainee JOIN trainee.trainers tr WHERE trainee.id = :traineeId AND tr = t" +
+                    ")";
 
             Query<Trainer> query = session.createQuery(hql, Trainer.class);
             query.setParameter("traineeId", traineeId);
@@ -114,4 +152,33 @@ public class TrainerDAO extends GenericDAO<Trainer, Long> {
             return List.of();
         }
     }
-}
\ No newline at end of file
+
+    @Transactional(readOnly = true)
+    public List<TrainerRosterRow> findActiveTrainerRoster() {
+        Query<TrainerRosterRow> query = currentSession().createQuery(
+                "SELECT new com.company.gym.dto.projection.TrainerRosterRow(" +
+                "t.id, u.username, u.firstName, u.lastName, s.id, s.name) " +
+                "FROM Trainer t JOIN t.user u JOIN t.specialization s " +
+                "WHERE u.isActive = true ORDER BY t.id", TrainerRosterRow.class);
+
+        List<TrainerRosterRow> roster = query.getResultList();
+        logger.debug("Loaded roster of {} active Trainers.", roster.size());
+        return roster;
+    }
+
+    // Sorted ids of the trainee's trainers, or null when the trainee does not exist.
+    @Transactional(readOnly = true)
+    public long[] findAssignedTrainerIds(String traineeUsername) {
+        Query<Long> query = currentSession().createQuery(
+                "SELECT tr.id FROM Trainee t JOIN t.user u LEFT JOIN t.trainers tr " +
+                "WHERE u.username = :username ORDER BY tr.id", Long.class);
+        query.setParameter("username", traineeUsername);
+        List<Long> rows = query.getResultList();
+
+        if (rows.isEmpty()) {
+            logger.warn("Trainee with username {} not found.", traineeUsername);
+            return null;
+        }
+        return rows.stream().filter(Objects::nonNull).mapToLong(Long::longValue).toArray();
+    }
+}
@@ -1,10 +1,20 @@
 package com.company.gym.dao;
 
+import com.company.gym.dto.projection.TrainingLinkRow;
+import com.company.gym.dto.projection.TrainingPairRow;
 import com.company.gym.entity.Training;
+import org.hibernate.query.Query;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public class TrainingDAO extends GenericDAO<Training, Long> {
+    private static final Logger logger = LoggerFactory.getLogger(TrainingDAO.class);
 
     public TrainingDAO() {
         super(Training.class);
@@ -14,4 +24,54 @@ public class TrainingDAO extends GenericDAO<Training, Long> {
     protected Long getEntityId(Training training) {
         return training.getId();
     }
-}
\ No newline at end of file
+
+    // Resolves both ids and probes the trainee_trainer primary key in one statement; null if either user is missing.
+    @Transactional(readOnly = true)
+    public TrainingLinkRow resolveTrainingLink(String traineeUsername, String trainerUsername) {
+        Query<TrainingLinkRow> query = currentSession().createQuery(
+                "SELECT new com.company.gym.dto.projection.TrainingLinkRow(te.id, tr.id, tr.specialization.id, " +
+                "CASE WHEN tr MEMBER OF te.trainers THEN true ELSE false END) " +
+                "FROM Trainee te JOIN te.user teu, Trainer tr JOIN tr.user tru " +
+                "WHERE teu.username = :traineeUsername AND tru.username = :trainerUsername", TrainingLinkRow.class);
+        query.setParameter("traineeUsername", traineeUsername);
+        query.setParameter("trainerUsername", trainerUsername);
+        TrainingLinkRow link = query.uniqueResult();
+
+        if (link == null) {
+            logger.debug("No trainee/trainer pair found for {} and {}.", traineeUsername, trainerUsername);
+        }
+        return link;
+    }
+
+    // Only pairs linked through trainee_trainer come back, so the result is bounded by the links, not the cross product.
+    @Transactional(readOnly = true)
+    public List<TrainingPairRow> findLinkedPairs(Collection<String> traineeUsernames, Collection<String> trainerUsernames) {
+        if (traineeUsernames.isEmpty() || trainerUsernames.isEmpty()) {
+            return List.of();
+        }
+        Query<TrainingPairRow> query = currentSession().createQuery(
+                "SELECT new com.company.gym.dto.projection.TrainingPairRow(teu.username, tru.username, te.id, tr.id, tr.specialization.id) " +
+                "FROM Trainee te JOIN te.user teu JOIN te.trainers tr JOIN tr.user tru " +
+                "WHERE teu.username IN (:traineeUsernames) AND tru.username IN (:trainerUsernames)", TrainingPairRow.class);
+        query.setParameterList("traineeUsernames", traineeUsernames);
+        query.setParameterList("trainerUsernames", trainerUsernames);
+
+        List<TrainingPairRow> pairs = query.getResultList();
+        logger.debug("Resolved {} linked pairs for {} trainees and {} trainers.",
+                pairs.size(), traineeUsernames.size(), trainerUsernames.size());
+        return pairs;
+    }
+
+    // One bounded slice of a trainee's history; callers loop in separate transactions until fewer than limit rows go.
+    @Transactional
+    public int deleteChunkByTraineeId(Long traineeId, int limit) {
+        int deleted = currentSession().createNativeQuery(
+                        "DELETE FROM training WHERE id IN (SELECT id FROM training WHERE trainee_id = :traineeId LIMIT :limit)")
+                .addSynchronizedEntityClass(Training.class)
+                .setParameter("traineeId", traineeId)
+                .setParameter("limit", limit)
+                .executeUpdate();
+        logger.debug("Deleted {} trainings of trainee {}.", deleted, traineeId);
+        return deleted;
+    }
+}
@@ -1,12 +1,13 @@
 package com.company.gym.dao;
 
 import com.company.gym.entity.User;
-import com.company.gym.util.HibernateUtil;
-import org.hibernate.Session;
 import org.hibernate.query.Query;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Repository
 public class UserDAO extends GenericDAO<User, Long>{
@@ -21,19 +22,43 @@ public class UserDAO extends GenericDAO<User, Long>{
         return user.getId();
     }
 
+    @Transactional(readOnly = true)
     public User findByUsername(String username) {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            Query<User> query = session.createQuery(
-                    "SELECT t FROM User t WHERE t.username = :username", User.class);
-            query.setParameter("username", username);
-            User user = query.uniqueResult();
-
-            if (user == null) {
-                logger.debug("User not found with username: {}", username);
-            } else {
-                logger.debug("Found User with username: {}", username);
-            }
-            return user;
+        Query<User> query = currentSession().createQuery(
+                "SELECT t FROM User t WHERE t.username = :username", User.class);
+        query.setParameter("username", username);
+        User user = query.uniqueResult();
+
+        if (user == null) {
+            logger.debug("User not found with username: {}", username);
+        } else {
+            logger.debug("Found User with username: {}", username);
         }
+        return user;
+    }
+
+    // Returns the base username and every "base<suffix>" username in one prefix-range query.
+    @Transactional(readOnly = true)
+    public List<String> findUsernamesByBase(String baseUsername) {
+        Query<String> query = currentSession().createQuery(
+                "SELECT u.username FROM User u WHERE u.username LIKE :prefix ESCAPE '!'", String.class);
+        query.setParameter("prefix", escapeLike(baseUsername) + "%");
+        List<String> usernames = query.list();
+
+        logger.debug("Found {} usernames sharing base: {}", usernames.size(), baseUsername);
+        return usernames;
+    }
+
+    // Bulk update, so the profile is switched off without loading it into the session.
+    @Transactional
+    public void deactivate(Long userId) {
+        currentSession().createMutationQuery("UPDATE User u SET u.isActive = false WHERE u.id = :userId")
+                .setParameter("userId", userId)
+                .executeUpdate();
+        logger.debug("User {} deactivated.", userId);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
     }
-}
\ No newline at end of file
+}
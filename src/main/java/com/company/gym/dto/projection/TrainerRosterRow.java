@@ -0,0 +1,11 @@
+package com.company.gym.dto.projection;
+
+// One active trainer as held by the in-memory roster.
+public record TrainerRosterRow(
+        Long id,
+        String username,
+        String firstName,
+        String lastName,
+        Long specializationId,
+        String specializationName
+) {}
@@ -0,0 +1,9 @@
+package com.company.gym.dto.projection;
+
+// Ids needed to insert a training, plus whether the trainee_trainer link exists.
+public record TrainingLinkRow(
+        Long traineeId,
+        Long trainerId,
+        Long trainingTypeId,
+        Boolean linked
+) {}
@@ -0,0 +1,13 @@
+package com.company.gym.dto.projection;
+
+import java.util.Date;
+
+// Flat HQL constructor projection for the trainings list; id is carried only for the page cursor.
+public record TrainingListRow(
+        Long id,
+        String trainingName,
+        Date trainingDate,
+        String trainingType,
+        Integer trainingDuration,
+        String associatedUserName
+) {}
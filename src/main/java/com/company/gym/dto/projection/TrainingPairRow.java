@@ -0,0 +1,10 @@
+package com.company.gym.dto.projection;
+
+// One linked trainee/trainer pair with the ids needed to insert trainings between them.
+public record TrainingPairRow(
+        String traineeUsername,
+        String trainerUsername,
+        Long traineeId,
+        Long trainerId,
+        Long trainingTypeId
+) {}
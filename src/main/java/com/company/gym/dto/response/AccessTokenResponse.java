@@ -0,0 +1,31 @@
+package com.company.gym.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Response DTO returned by login in token auth mode.")
+public class AccessTokenResponse {
+
+    @Schema(description = "Signed access token; send as 'Authorization: Bearer <token>'.")
+    private String accessToken;
+
+    @Schema(description = "Always 'Bearer'.")
+    private String tokenType;
+
+    @Schema(description = "Seconds until the token expires.")
+    private long expiresIn;
+
+    public AccessTokenResponse() {}
+
+    public AccessTokenResponse(String accessToken, String tokenType, long expiresIn) {
+        this.accessToken = accessToken;
+        this.tokenType = tokenType;
+        this.expiresIn = expiresIn;
+    }
+
+    public String getAccessToken() { return accessToken; }
+    public void setAccessToken(String accessToken) { this.accessToken = accessToken; }
+    public String getTokenType() { return tokenType; }
+    public void setTokenType(String tokenType) { this.tokenType = tokenType; }
+    public long getExpiresIn() { return expiresIn; }
+    public void setExpiresIn(long expiresIn) { this.expiresIn = expiresIn; }
+}
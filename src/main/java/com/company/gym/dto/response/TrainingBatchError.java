@@ -0,0 +1,25 @@
+package com.company.gym.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Response DTO describing one rejected item of a Training batch.")
+public class TrainingBatchError {
+
+    @Schema(description = "Zero-based position of the item in the request.")
+    private int index;
+
+    @Schema(description = "Why the item was not created.")
+    private String message;
+
+    public TrainingBatchError() {}
+
+    public TrainingBatchError(int index, String message) {
+        this.index = index;
+        this.message = message;
+    }
+
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
@@ -0,0 +1,27 @@
+package com.company.gym.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Response DTO summarising a Training batch: created count and per-item rejections.")
+public class TrainingBatchResponse {
+
+    @Schema(description = "Number of trainings created.")
+    private int created;
+
+    @Schema(description = "Rejected items, ordered by index.")
+    private List<TrainingBatchError> errors;
+
+    public TrainingBatchResponse() {}
+
+    public TrainingBatchResponse(int created, List<TrainingBatchError> errors) {
+        this.created = created;
+        this.errors = errors;
+    }
+
+    public int getCreated() { return created; }
+    public void setCreated(int created) { this.created = created; }
+    public List<TrainingBatchError> getErrors() { return errors; }
+    public void setErrors(List<TrainingBatchError> errors) { this.errors = errors; }
+}
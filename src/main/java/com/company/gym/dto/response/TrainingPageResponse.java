@@ -0,0 +1,27 @@
+package com.company.gym.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Response DTO for one page of a Trainings List.")
+public class TrainingPageResponse {
+
+    @Schema(description = "Trainings on this page, ordered by date and id.")
+    private List<TrainingListResponse> items;
+
+    @Schema(description = "Opaque cursor for the next page; absent on the last page.")
+    private String nextCursor;
+
+    public TrainingPageResponse() {}
+
+    public TrainingPageResponse(List<TrainingListResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<TrainingListResponse> getItems() { return items; }
+    public void setItems(List<TrainingListResponse> items) { this.items = items; }
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
@@ -1,6 +1,9 @@
 package com.company.gym.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
+
 import java.util.Date;
 import java.util.HashSet;
 import java.util.Set;
@@ -8,6 +11,9 @@ import java.util.Objects;
 
 @Entity
 @Table(name = "trainee")
+// Profiles marked for background purge are invisible to every query; only native purge SQL still sees them.
+@SQLRestriction("deleted_at IS NULL")
+@DynamicUpdate
 public class Trainee {
 
     @Id
@@ -25,6 +31,9 @@ public class Trainee {
     @Column(name = "address")
     private String address;
 
+    @Column(name = "deleted_at")
+    private Date deletedAt;
+
     @OneToMany(
             mappedBy = "trainee",
             cascade = CascadeType.ALL,
@@ -70,6 +79,8 @@ public class Trainee {
     public void setDateOfBirth(Date dateOfBirth) { this.dateOfBirth = dateOfBirth; }
     public String getAddress() { return address; }
     public void setAddress(String address) { this.address = address; }
+    public Date getDeletedAt() { return deletedAt; }
+    public void setDeletedAt(Date deletedAt) { this.deletedAt = deletedAt; }
     public Set<Training> getTrainings() { return trainings; }
     public void setTrainings(Set<Training> trainings) { this.trainings = trainings; }
     public Set<Trainer> getTrainers() { return trainers; }
@@ -1,14 +1,23 @@
 package com.company.gym.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+
 import java.util.Objects;
 
+// Seeded reference data: never updated by the application, so lazy associations resolve from the second-level cache.
 @Entity
+@Immutable
+@jakarta.persistence.Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "trainingTypes")
 @Table(name = "training_type")
 public class TrainingType {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "training_type_seq")
+    @SequenceGenerator(name = "training_type_seq", sequenceName = "training_type_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "training_type_name", nullable = false, unique = true)
@@ -28,9 +37,9 @@ public class TrainingType {
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        TrainingType that = (TrainingType) o;
-        return Objects.equals(id, that.id);
+        // instanceof + getId(): the other side may be an uninitialised lazy proxy
+        if (!(o instanceof TrainingType that)) return false;
+        return Objects.equals(id, that.getId());
     }
 
     @Override
@@ -1,14 +1,19 @@
 package com.company.gym.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
+
 import java.util.Objects;
 
 @Entity
+// Profile edits touch a few columns; the UPDATE lists only those, not the password hash and username.
+@DynamicUpdate
 @Table(name = "user_profile")
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_profile_seq")
+    @SequenceGenerator(name = "user_profile_seq", sequenceName = "user_profile_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "first_name", nullable = false)
@@ -17,6 +22,10 @@ public class User {
     @Column(name = "last_name", nullable = false)
     private String lastName;
 
+    // "firstName lastName", kept in sync by the setters; backs the trigram-indexed trainer name search.
+    @Column(name = "full_name")
+    private String fullName;
+
     @Column(name = "username", nullable = false, unique = true)
     private String username;
 
@@ -31,9 +40,10 @@ public class User {
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
     public String getFirstName() { return firstName; }
-    public void setFirstName(String firstName) { this.firstName = firstName; }
+    public void setFirstName(String firstName) { this.firstName = firstName; syncFullName(); }
     public String getLastName() { return lastName; }
-    public void setLastName(String lastName) { this.lastName = lastName; }
+    public void setLastName(String lastName) { this.lastName = lastName; syncFullName(); }
+    public String getFullName() { return fullName; }
     public String getUsername() { return username; }
     public void setUsername(String username) { this.username = username; }
     public String getPassword() { return password; }
@@ -41,6 +51,10 @@ public class User {
     public Boolean getIsActive() { return isActive; }
     public void setIsActive(Boolean isActive) { this.isActive = isActive; }
 
+    private void syncFullName() {
+        this.fullName = Objects.toString(firstName, "") + " " + Objects.toString(lastName, "");
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,5 +1,7 @@
 package com.company.gym.mapper;
 
+import com.company.gym.dto.projection.TrainerRosterRow;
+import com.company.gym.dto.projection.TrainingListRow;
 import com.company.gym.dto.response.TrainerProfileResponse;
 import com.company.gym.dto.response.TrainerShortResponse;
 import com.company.gym.dto.response.TraineeShortResponse;
@@ -40,6 +42,10 @@ public abstract class TrainerMapper {
     public abstract TrainerShortResponse toTrainerShortResponse(Trainer trainer);
     public abstract List<TrainerShortResponse> toTrainerShortResponseList(List<Trainer> trainers);
 
+    @Mapping(source = "specializationName", target = "specialization.trainingTypeName")
+    @Mapping(source = "specializationId", target = "specialization.id")
+    public abstract TrainerShortResponse toTrainerShortResponseFromRow(TrainerRosterRow row);
+
     @Named("mapTraineesSetToShortList")
     public List<TraineeShortResponse> mapTraineesSetToShortList(Set<Trainee> trainees) {
         if (trainees == null) {
@@ -65,6 +71,9 @@ public abstract class TrainerMapper {
         return trainings.stream().map(this::toTrainingListResponse).toList();
     }
 
+    public abstract TrainingListResponse toTrainingListResponse(TrainingListRow row);
+    public abstract List<TrainingListResponse> toTrainingListResponseFromRows(List<TrainingListRow> rows);
+
     @Mapping(source = "name", target = "trainingTypeName")
     public abstract TrainingTypeResponse toTrainingTypeResponse(TrainingType trainingType);
     public abstract List<TrainingTypeResponse> toTrainingTypeResponseList(List<TrainingType> trainingTypes);
@@ -0,0 +1,128 @@
+package com.company.gym.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.function.LongSupplier;
+
+/*
+ * Short-lived HMAC-SHA256 access tokens for gym.security.auth-mode=token.
+ * Format: "v1.<base64url(username \n issuedAtMillis \n expiresAtMillis)>.<base64url(hmac)>".
+ * Verification is local: signature, expiry and the in-memory revocation list.
+ */
+@Service
+public class AccessTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessTokenService.class);
+
+    private static final String VERSION = "v1";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public record IssuedToken(String value, long expiresInSeconds) {}
+
+    private final TokenRevocationList revocationList;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final SecretKeySpec key;
+    private final LongSupplier clock;
+    private final ThreadLocal<Mac> macs;
+
+    @Autowired
+    public AccessTokenService(TokenRevocationList revocationList,
+                              @Value("${gym.security.auth-mode:session}") String authMode,
+                              @Value("${gym.security.token.secret:}") String secret,
+                              @Value("${gym.security.token.ttl:15m}") Duration ttl) {
+        this(revocationList, "token".equalsIgnoreCase(authMode), secret, ttl, System::currentTimeMillis);
+    }
+
+    AccessTokenService(TokenRevocationList revocationList, boolean enabled, String secret, Duration ttl, LongSupplier clock) {
+        this.revocationList = revocationList;
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.clock = clock;
+        byte[] secretBytes = secret == null || secret.isBlank() ? new byte[0] : Base64.getDecoder().decode(secret.trim());
+        if (enabled && secretBytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("gym.security.token.secret must be a base64 key of at least " + MIN_SECRET_BYTES + " bytes.");
+        }
+        this.key = secretBytes.length == 0 ? null : new SecretKeySpec(secretBytes, ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+        if (enabled) {
+            logger.info("Stateless token authentication enabled; access token TTL {}.", ttl);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public IssuedToken issue(String username) {
+        long issuedAt = clock.getAsLong();
+        long expiresAt = issuedAt + ttl.toMillis();
+        String payload = ENCODER.encodeToString(
+                (username + '\n' + issuedAt + '\n' + expiresAt).getBytes(StandardCharsets.UTF_8));
+        String signed = VERSION + '.' + payload;
+        return new IssuedToken(signed + '.' + sign(signed), ttl.toSeconds());
+    }
+
+    // Username of a valid, unexpired and unrevoked token; null otherwise.
+    public String verify(String token) {
+        if (token == null) {
+            return null;
+        }
+        int second = token.lastIndexOf('.');
+        if (second <= VERSION.length() || !token.startsWith(VERSION + '.')) {
+            return null;
+        }
+        String signed = token.substring(0, second);
+        byte[] expected = sign(signed).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, token.substring(second + 1).getBytes(StandardCharsets.US_ASCII))) {
+            return null;
+        }
+
+        String[] claims;
+        try {
+            claims = new String(DECODER.decode(signed.substring(VERSION.length() + 1)), StandardCharsets.UTF_8).split("\n");
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (claims.length != 3) {
+            return null;
+        }
+        long issuedAt = Long.parseLong(claims[1]);
+        long expiresAt = Long.parseLong(claims[2]);
+        if (clock.getAsLong() >= expiresAt || revocationList.isRevoked(claims[0], issuedAt)) {
+            return null;
+        }
+        return claims[0];
+    }
+
+    private String sign(String value) {
+        return ENCODER.encodeToString(macs.get().doFinal(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private Mac newMac() {
+        if (key == null) {
+            throw new IllegalStateException("Access tokens are not configured (gym.security.token.secret is empty).");
+        }
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not initialise " + ALGORITHM, e);
+        }
+    }
+}
@@ -3,7 +3,6 @@ package com.company.gym.service;
 import com.company.gym.dao.UserDAO;
 import com.company.gym.entity.User;
 import com.company.gym.exception.ValidationException;
-import com.company.gym.util.PasswordUtil;
 import com.company.gym.util.UserCredentialGenerator;
 import com.company.gym.util.UsernameUtil;
 import org.slf4j.Logger;
@@ -16,9 +15,18 @@ public class AuthService {
     private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
 
     private final UserDAO userDAO;
+    private final UsernameAllocator usernameAllocator;
+    private final PrincipalCache principalCache;
+    private final PasswordHasher passwordHasher;
+    private final TokenRevocationList tokenRevocationList;
 
-    public AuthService(UserDAO userDAO) {
+    public AuthService(UserDAO userDAO, UsernameAllocator usernameAllocator, PrincipalCache principalCache,
+                       PasswordHasher passwordHasher, TokenRevocationList tokenRevocationList) {
         this.userDAO = userDAO;
+        this.usernameAllocator = usernameAllocator;
+        this.principalCache = principalCache;
+        this.passwordHasher = passwordHasher;
+        this.tokenRevocationList = tokenRevocationList;
     }
 
     @Transactional
@@ -26,17 +34,11 @@ public class AuthService {
         logger.info("Generating unique username and password for user: {} {}", user.getFirstName(), user.getLastName());
 
         String baseUsername = generateUserName(user.getFirstName(), user.getLastName());
-        String uniqueUsername = baseUsername;
-        int counter = 0;
-
-        while (isUsernameTaken(uniqueUsername)) {
-            counter++;
-            uniqueUsername = baseUsername + counter;
-        }
+        String uniqueUsername = usernameAllocator.allocate(baseUsername);
 
         user.setUsername(uniqueUsername);
         var plainPassword = UserCredentialGenerator.generatePassword();
-        user.setPassword(PasswordUtil.hashPassword(plainPassword));
+        user.setPassword(passwordHasher.hash(plainPassword));
         user.setIsActive(true);
 
         logger.info("Assigned username: {}", user.getUsername());
@@ -47,6 +49,10 @@ public class AuthService {
         return userDAO.findByUsername(username) != null;
     }
 
+    public User findUser(String username) {
+        return userDAO.findByUsername(username);
+    }
+
     private String generateUserName(String firstName, String lastName) {
         try {
             return UsernameUtil.generateBaseUsername(firstName, lastName);
@@ -68,7 +74,7 @@ public class AuthService {
             return false;
         }
 
-        boolean isAuthenticated = PasswordUtil.checkPassword(password, user.getPassword());
+        boolean isAuthenticated = passwordHasher.check(password, user.getPassword());
 
         if (isAuthenticated) {
             logger.info("User '{}' authenticated successfully.", username);
@@ -85,13 +91,15 @@ public class AuthService {
             throw new ValidationException("User profile not found for password change: " + username);
         }
 
-        if (!PasswordUtil.checkPassword(oldPassword, user.getPassword())) {
+        if (!passwordHasher.check(oldPassword, user.getPassword())) {
             throw new ValidationException("Incorrect old password for User: " + username);
         }
 
-        String hashedPassword = PasswordUtil.hashPassword(newPassword);
+        String hashedPassword = passwordHasher.hash(newPassword);
         user.setPassword(hashedPassword);
         userDAO.update(user);
+        principalCache.invalidate(username);
+        tokenRevocationList.revoke(username);
         logger.info("User '{}' password changed successfully.", username);
     }
 }
\ No newline at end of file
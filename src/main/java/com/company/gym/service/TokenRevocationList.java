@@ -0,0 +1,56 @@
+package com.company.gym.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+// Per-user "tokens issued at or before this instant are void". Entries outlive every token they can affect by
+// at most one token TTL, so the list stays as small as the number of recent deactivations and password changes.
+@Service
+public class TokenRevocationList {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationList.class);
+
+    private final Cache<String, Long> revokedAt;
+    private final long tokenTtlMillis;
+    private final List<BiConsumer<String, Long>> listeners = new CopyOnWriteArrayList<>();
+
+    public TokenRevocationList(@Value("${gym.security.token.ttl:15m}") Duration tokenTtl) {
+        this.tokenTtlMillis = tokenTtl.toMillis();
+        this.revokedAt = Caffeine.newBuilder()
+                .expireAfterWrite(tokenTtl)
+                .build();
+    }
+
+    public void revoke(String username) {
+        long now = System.currentTimeMillis();
+        apply(username, now);
+        listeners.forEach(listener -> listener.accept(username, now));
+        logger.info("Access tokens revoked for {}.", username);
+    }
+
+    // Revocations received from other nodes or loaded at startup; older ones than a token TTL are irrelevant.
+    public void apply(String username, long revokedAtMillis) {
+        if (System.currentTimeMillis() - revokedAtMillis >= tokenTtlMillis) {
+            return;
+        }
+        revokedAt.asMap().merge(username, revokedAtMillis, Math::max);
+    }
+
+    public boolean isRevoked(String username, long issuedAtMillis) {
+        Long cutoff = revokedAt.getIfPresent(username);
+        return cutoff != null && issuedAtMillis <= cutoff;
+    }
+
+    public void addListener(BiConsumer<String, Long> listener) {
+        listeners.add(listener);
+    }
+}
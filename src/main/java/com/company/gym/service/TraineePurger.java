@@ -0,0 +1,124 @@
+package com.company.gym.service;
+
+import com.company.gym.dao.TraineeDAO;
+import com.company.gym.dao.TrainingDAO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Background removal of trainees marked deleted (gym.trainees.deletion.mode: async).
+ *
+ * Trainings go in chunks of chunkSize, each in its own transaction, so no statement holds row locks on a
+ * whole history. The mark is durable: a purge interrupted by a restart or an error is picked up by the
+ * periodic sweep. One thread, so a trainee is never purged twice at the same time.
+ */
+@Service
+public class TraineePurger {
+
+    private static final Logger logger = LoggerFactory.getLogger(TraineePurger.class);
+    private static final int SWEEP_BATCH = 100;
+
+    private final TraineeDAO traineeDAO;
+    private final TrainingDAO trainingDAO;
+    private final boolean async;
+    private final int chunkSize;
+    private final Duration sweepInterval;
+    private final ScheduledExecutorService executor;
+    private final Counter purgedTrainings;
+
+    public TraineePurger(TraineeDAO traineeDAO,
+                         TrainingDAO trainingDAO,
+                         MeterRegistry meterRegistry,
+                         @Value("${gym.trainees.deletion.mode:bulk}") String mode,
+                         @Value("${gym.trainees.deletion.chunk-size:5000}") int chunkSize,
+                         @Value("${gym.trainees.deletion.sweep-interval:5m}") Duration sweepInterval) {
+        this.traineeDAO = traineeDAO;
+        this.trainingDAO = trainingDAO;
+        this.async = "async".equalsIgnoreCase(mode);
+        this.chunkSize = chunkSize;
+        this.sweepInterval = sweepInterval;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("trainee-purge-");
+        threadFactory.setDaemon(true);
+        this.executor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        this.purgedTrainings = Counter.builder("gym.trainees.purge.trainings")
+                .description("Trainings removed by the background trainee purge")
+                .register(meterRegistry);
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    // Runs after commit: until then the mark is invisible to the purge thread.
+    public void schedule(Long traineeId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    executor.execute(() -> purge(traineeId));
+                }
+            });
+        } else {
+            executor.execute(() -> purge(traineeId));
+        }
+    }
+
+    // Sweeps regardless of mode, so rows marked before a switch back to bulk are still removed.
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.scheduleWithFixedDelay(this::sweep, 0, sweepInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    void sweep() {
+        try {
+            List<Long> marked = traineeDAO.findIdsMarkedDeleted(SWEEP_BATCH);
+            if (!marked.isEmpty()) {
+                logger.info("Resuming purge of {} trainees marked deleted.", marked.size());
+            }
+            marked.forEach(this::purge);
+        } catch (RuntimeException e) {
+            logger.error("Trainee purge sweep failed; retrying in {}.", sweepInterval, e);
+        }
+    }
+
+    void purge(Long traineeId) {
+        try {
+            long total = 0;
+            int deleted;
+            do {
+                deleted = trainingDAO.deleteChunkByTraineeId(traineeId, chunkSize);
+                total += deleted;
+                purgedTrainings.increment(deleted);
+            } while (deleted == chunkSize && !Thread.currentThread().isInterrupted());
+
+            if (deleted < chunkSize) {
+                traineeDAO.deleteWithHistory(traineeId);
+                logger.info("Trainee {} purged with {} trainings.", traineeId, total);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Purge of trainee {} failed; the next sweep will retry.", traineeId, e);
+        }
+    }
+}
@@ -3,19 +3,21 @@ package com.company.gym.service;
 import com.company.gym.dao.TraineeDAO;
 import com.company.gym.dao.TrainerDAO;
 import com.company.gym.dao.UserDAO;
+import com.company.gym.dto.projection.TrainingListRow;
 import com.company.gym.dto.response.AuthResponse;
 import com.company.gym.entity.Trainee;
 import com.company.gym.entity.Trainer;
-import com.company.gym.entity.Training;
 import com.company.gym.entity.User;
 import com.company.gym.exception.NotFoundException;
 import com.company.gym.exception.ValidationException;
+import com.company.gym.util.TrainingCursor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -28,15 +30,24 @@ public class TraineeService {
     private final TrainerDAO trainerDAO;
     private final UserDAO userDAO;
     private final AuthService authService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final TraineePurger traineePurger;
 
     public TraineeService(TraineeDAO traineeDAO,
                           TrainerDAO trainerDAO,
                           UserDAO userDAO,
-                          AuthService authService) {
+                          AuthService authService,
+                          PrincipalCache principalCache,
+                          TokenRevocationList tokenRevocationList,
+                          TraineePurger traineePurger) {
         this.traineeDAO = traineeDAO;
         this.trainerDAO = trainerDAO;
         this.userDAO = userDAO;
         this.authService = authService;
+        this.principalCache = principalCache;
+        this.tokenRevocationList = tokenRevocationList;
+        this.traineePurger = traineePurger;
     }
 
     @Transactional
@@ -90,15 +101,17 @@ public class TraineeService {
         return trainee;
     }
 
+    // One read of the aggregate the response needs; dirty checking writes only the changed columns at commit.
     @Transactional
-    public Trainee updateProfile(String username, String firstName, String lastName, Date dateOfBirth, String address) {
+    public Trainee updateProfile(String username, String firstName, String lastName, Date dateOfBirth, String address,
+                                 Boolean isActive) {
         logger.info("Attempting to update Trainee profile for {}", username);
 
         if (firstName == null || firstName.trim().isEmpty() || lastName == null || lastName.trim().isEmpty()) {
             throw new ValidationException("First name and last name are required.");
         }
 
-        Trainee trainee = selectLightweightProfile(username);
+        Trainee trainee = selectProfile(username);
 
         User user = trainee.getUser();
         user.setFirstName(firstName.trim());
@@ -107,20 +120,37 @@ public class TraineeService {
         trainee.setDateOfBirth(dateOfBirth);
         trainee.setAddress(address == null ? null : address.trim());
 
-        userDAO.update(user);
-        traineeDAO.update(trainee);
+        applyStatus(username, user, isActive);
         logger.info("Trainee profile {} updated successfully.", username);
-        return traineeDAO.findByUsernameWithTrainers(username);
+        return trainee;
     }
 
+    // Returns false when only the mark was written and the history is left to the background purge.
     @Transactional
-    public void deleteProfile(String username) {
+    public boolean deleteProfile(String username) {
         logger.info("Attempting to delete Trainee profile for {}", username);
 
-        Trainee trainee = selectLightweightProfile(username);
+        Long traineeId = traineeDAO.findIdByUsername(username);
+        if (traineeId == null) {
+            logger.warn("Trainee profile not found for username: {}", username);
+            throw new NotFoundException("Trainee profile not found: " + username);
+        }
+
+        // The user profile outlives the trainee row, so it is switched off and every credential for it dropped.
+        userDAO.deactivate(traineeId);
+        principalCache.invalidate(username);
+        tokenRevocationList.revoke(username);
 
-        traineeDAO.delete(trainee);
-        logger.info("Trainee profile {} deleted successfully (cascade delete occurred).", username);
+        if (traineePurger.isAsync()) {
+            traineeDAO.markDeleted(traineeId, new Date());
+            traineePurger.schedule(traineeId);
+            logger.info("Trainee profile {} marked deleted; history purge scheduled.", username);
+            return false;
+        }
+
+        int trainings = traineeDAO.deleteWithHistory(traineeId);
+        logger.info("Trainee profile {} deleted with {} trainings.", username, trainings);
+        return true;
     }
 
     @Transactional
@@ -130,18 +160,29 @@ public class TraineeService {
         Trainee trainee = selectLightweightProfile(username);
 
         User user = trainee.getUser();
-        user.setIsActive(isActive);
-        trainee.setUser(user);
-
-        userDAO.update(user);
+        applyStatus(username, user, isActive);
         logger.info("Trainee {} status changed to {}.", username, user.getIsActive());
     }
 
+    // The managed user is flushed on commit. Only a real change evicts the cached principal,
+    // and only a deactivation revokes the user's tokens.
+    private void applyStatus(String username, User user, Boolean isActive) {
+        if (isActive == null || isActive.equals(user.getIsActive())) {
+            return;
+        }
+        user.setIsActive(isActive);
+        principalCache.invalidate(username);
+        if (!isActive) {
+            tokenRevocationList.revoke(username);
+        }
+    }
+
     @Transactional(readOnly = true)
-    public List<Training> getTraineeTrainingsList(String username, Date fromDate, Date toDate, String trainerName, String trainingTypeName) {
+    public List<TrainingListRow> getTraineeTrainingsList(String username, Date fromDate, Date toDate, String trainerName,
+                                                  String trainingTypeName, TrainingCursor after, int limit) {
         logger.info("Fetching trainings list for Trainee {} with filters.", username);
 
-        return traineeDAO.getTraineeTrainingsList(username, fromDate, toDate, trainerName, trainingTypeName);
+        return traineeDAO.getTraineeTrainingsList(username, fromDate, toDate, trainerName, trainingTypeName, after, limit);
     }
 
     @Transactional
@@ -150,22 +191,25 @@ public class TraineeService {
 
         Trainee trainee = selectProfile(traineeUsername);
 
-        Set<Trainer> newTrainers = trainerUsernames.stream()
-                .map(trainerDAO::findByUserNameWithTrainees)
-                .filter(trainer -> {
-                    if (trainer == null) {
-                        logger.warn("Trainer with username {} not found. Skipping.", trainee.getUser().getUsername());
-                        return false;
-                    }
-                    return true;
-                })
-                .collect(Collectors.toSet());
+        Set<Trainer> requested = new HashSet<>(trainerDAO.findByUsernames(trainerUsernames));
+        if (requested.size() < trainerUsernames.size()) {
+            Set<String> found = requested.stream().map(t -> t.getUser().getUsername()).collect(Collectors.toSet());
+            trainerUsernames.stream()
+                    .filter(username -> !found.contains(username))
+                    .forEach(username -> logger.warn("Trainer with username {} not found. Skipping.", username));
+        }
 
-        trainee.getTrainers().clear();
-        newTrainers.forEach(trainee::addTrainer);
+        // Only the owning side changes, so Hibernate writes just the added and removed join rows.
+        Set<Trainer> current = trainee.getTrainers();
+        Set<Trainer> removed = current.stream()
+                .filter(trainer -> !requested.contains(trainer))
+                .collect(Collectors.toSet());
+        current.removeAll(removed);
+        long added = requested.stream().filter(current::add).count();
 
         Trainee updatedTrainee = traineeDAO.update(trainee);
-        logger.info("Trainee {} trainers list updated with {} valid trainers.", traineeUsername, updatedTrainee.getTrainers().size());
+        logger.info("Trainee {} trainers list updated: {} added, {} removed, {} total.",
+                traineeUsername, added, removed.size(), updatedTrainee.getTrainers().size());
         return updatedTrainee;
     }
 }
\ No newline at end of file
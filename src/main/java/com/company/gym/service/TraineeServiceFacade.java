@@ -5,9 +5,10 @@ import com.company.gym.dto.request.UpdateTraineeTrainersRequest;
 import com.company.gym.dto.request.UserStatusUpdateRequest;
 import com.company.gym.dto.response.TraineeProfileResponse;
 import com.company.gym.dto.response.TrainerShortResponse;
-import com.company.gym.dto.response.TrainingListResponse;
+import com.company.gym.dto.response.TrainingPageResponse;
 import com.company.gym.mapper.TraineeMapper;
 import com.company.gym.mapper.TrainerMapper;
+import com.company.gym.util.TrainingCursor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -46,20 +47,19 @@ public class TraineeServiceFacade {
                 request.getFirstName(),
                 request.getLastName(),
                 request.getDateOfBirth(),
-                request.getAddress()
+                request.getAddress(),
+                request.getIsActive()
         );
-
-        traineeService.activateDeactivateProfile(username, request.getIsActive());
-        updatedTrainee.getUser().setIsActive(request.getIsActive());
-
         return traineeMapper.toTraineeProfileResponse(updatedTrainee);
     }
 
     public ResponseEntity<Void> deleteProfile(
             String username
     ) {
-        traineeService.deleteProfile(username);
-        return ResponseEntity.noContent().build();
+        if (traineeService.deleteProfile(username)) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.accepted().build();
     }
 
     public List<TrainerShortResponse> updateTrainers(
@@ -72,15 +72,20 @@ public class TraineeServiceFacade {
                 .toList();
     }
 
-    public List<TrainingListResponse> getTrainings(
+    public TrainingPageResponse getTrainings(
             String username,
             Date fromDate,
             Date toDate,
             String trainerName,
-            String trainingTypeName
+            String trainingTypeName,
+            String cursor,
+            Integer size
     ) {
-        var trainings = traineeService.getTraineeTrainingsList(username, fromDate, toDate, trainerName, trainingTypeName);
-        return traineeMapper.toTrainingListResponse(trainings);
+        int pageSize = TrainingCursor.pageSize(size);
+        var trainings = traineeService.getTraineeTrainingsList(username, fromDate, toDate, trainerName, trainingTypeName,
+                TrainingCursor.decode(cursor), pageSize + 1);
+        var page = trainings.subList(0, Math.min(trainings.size(), pageSize));
+        return new TrainingPageResponse(trainerMapper.toTrainingListResponseFromRows(page), TrainingCursor.nextCursor(trainings, pageSize));
     }
 
     public void updateStatus(String username, UserStatusUpdateRequest request) {
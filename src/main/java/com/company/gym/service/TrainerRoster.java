@@ -0,0 +1,122 @@
+package com.company.gym.service;
+
+import com.company.gym.dao.TrainerDAO;
+import com.company.gym.dto.projection.TrainerRosterRow;
+import com.company.gym.dto.response.TrainerShortResponse;
+import com.company.gym.mapper.TrainerMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// In-memory snapshot of active trainers; "unassigned" is a merge of two sorted id arrays instead of a NOT IN query.
+@Service
+public class TrainerRoster {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainerRoster.class);
+
+    private record Snapshot(long[] ids, TrainerRosterRow[] rows, long version, long loadedAtNanos) {}
+
+    private final TrainerDAO trainerDAO;
+    private final TrainerMapper trainerMapper;
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final Object reloadLock = new Object();
+    // Bumped on every committed trainer change; a snapshot loaded under an older version is stale.
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile Snapshot snapshot;
+
+    public TrainerRoster(TrainerDAO trainerDAO,
+                         TrainerMapper trainerMapper,
+                         @Value("${gym.roster.trainers.enabled:true}") boolean enabled,
+                         @Value("${gym.roster.trainers.ttl:60s}") Duration ttl) {
+        this.trainerDAO = trainerDAO;
+        this.trainerMapper = trainerMapper;
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public List<TrainerShortResponse> findUnassigned(String traineeUsername) {
+        long[] assigned = trainerDAO.findAssignedTrainerIds(traineeUsername);
+        if (assigned == null) {
+            return List.of();
+        }
+
+        Snapshot current = current();
+        List<TrainerShortResponse> result = new ArrayList<>(Math.max(0, current.ids().length - assigned.length));
+        int a = 0;
+        for (int i = 0; i < current.ids().length; i++) {
+            long id = current.ids()[i];
+            while (a < assigned.length && assigned[a] < id) {
+                a++;
+            }
+            if (a < assigned.length && assigned[a] == id) {
+                continue;
+            }
+            result.add(trainerMapper.toTrainerShortResponseFromRow(current.rows()[i]));
+        }
+
+        logger.debug("Found {} unassigned Trainers for Trainee {} from roster.", result.size(), traineeUsername);
+        return result;
+    }
+
+    // Marks the snapshot stale once the surrounding transaction commits, so the reload sees the change.
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    version.incrementAndGet();
+                }
+            });
+        } else {
+            version.incrementAndGet();
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            return current;
+        }
+        synchronized (reloadLock) {
+            current = snapshot;
+            if (!isFresh(current)) {
+                current = load();
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    private boolean isFresh(Snapshot current) {
+        return current != null
+                && current.version() == version.get()
+                && System.nanoTime() - current.loadedAtNanos() < ttlNanos;
+    }
+
+    private Snapshot load() {
+        long loadVersion = version.get();
+        List<TrainerRosterRow> roster = trainerDAO.findActiveTrainerRoster();
+        long[] ids = new long[roster.size()];
+        TrainerRosterRow[] rows = new TrainerRosterRow[roster.size()];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = roster.get(i);
+            ids[i] = rows[i].id();
+        }
+        logger.info("Trainer roster reloaded with {} active Trainers.", rows.length);
+        return new Snapshot(ids, rows, loadVersion, System.nanoTime());
+    }
+}
@@ -1,15 +1,14 @@
 package com.company.gym.service;
 
 import com.company.gym.dao.TrainerDAO;
-import com.company.gym.dao.TrainingTypeDAO;
-import com.company.gym.dao.UserDAO;
+import com.company.gym.dto.projection.TrainingListRow;
 import com.company.gym.dto.response.AuthResponse;
 import com.company.gym.entity.Trainer;
-import com.company.gym.entity.Training;
 import com.company.gym.entity.TrainingType;
 import com.company.gym.entity.User;
 import com.company.gym.exception.NotFoundException;
 import com.company.gym.exception.ValidationException;
+import com.company.gym.util.TrainingCursor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -23,18 +22,24 @@ public class TrainerService {
 
     private static final Logger logger = LoggerFactory.getLogger(TrainerService.class);
     private final TrainerDAO trainerDAO;
-    private final UserDAO userDAO;
-    private final TrainingTypeDAO trainingTypeDAO;
+    private final TrainingTypeRegistry trainingTypeRegistry;
     private final AuthService authService;
+    private final PrincipalCache principalCache;
+    private final TrainerRoster trainerRoster;
+    private final TokenRevocationList tokenRevocationList;
 
     public TrainerService(TrainerDAO trainerDAO,
-                          UserDAO userDAO,
-                          TrainingTypeDAO trainingTypeDAO,
-                          AuthService authService) {
+                          TrainingTypeRegistry trainingTypeRegistry,
+                          AuthService authService,
+                          PrincipalCache principalCache,
+                          TrainerRoster trainerRoster,
+                          TokenRevocationList tokenRevocationList) {
         this.trainerDAO = trainerDAO;
-        this.userDAO = userDAO;
-        this.trainingTypeDAO = trainingTypeDAO;
+        this.trainingTypeRegistry = trainingTypeRegistry;
         this.authService = authService;
+        this.principalCache = principalCache;
+        this.trainerRoster = trainerRoster;
+        this.tokenRevocationList = tokenRevocationList;
     }
 
     @Transactional
@@ -45,7 +50,7 @@ public class TrainerService {
             throw new ValidationException("First name, last name, and specialization ID are required.");
         }
 
-        TrainingType specialization = trainingTypeDAO.findById(specializationId);
+        TrainingType specialization = trainingTypeRegistry.findById(specializationId);
 
         if (specialization == null) {
             throw new ValidationException("Training Type with ID " + specializationId + " not found. Cannot create profile.");
@@ -62,6 +67,7 @@ public class TrainerService {
         trainer.setSpecialization(specialization);
 
         Trainer savedTrainer = trainerDAO.save(trainer);
+        trainerRoster.invalidate();
         logger.info("Trainer profile created successfully. Username: {}", savedTrainer.getUser().getUsername());
         return new AuthResponse(savedTrainer.getUser().getUsername(), plainPassword);
     }
@@ -80,15 +86,16 @@ public class TrainerService {
         return trainer;
     }
 
+    // One read of the aggregate the response needs; dirty checking writes only the changed columns at commit.
     @Transactional
-    public Trainer updateProfile(String username, String firstName, String lastName, Long specializationId) {
+    public Trainer updateProfile(String username, String firstName, String lastName, Long specializationId, Boolean isActive) {
         logger.info("Attempting to update Trainer profile for {}", username);
 
         if (firstName == null || firstName.trim().isEmpty() || lastName == null || lastName.trim().isEmpty()) {
             throw new ValidationException("First name and last name are required.");
         }
 
-        Trainer trainer = selectLightweightProfile(username);
+        Trainer trainer = selectProfile(username);
 
         if (!trainer.getSpecialization().getId().equals(specializationId)) {
             logger.warn("Attempted to change specialization for Trainer {}. Operation denied as specialization is read-only.", username);
@@ -98,9 +105,11 @@ public class TrainerService {
         user.setFirstName(firstName.trim());
         user.setLastName(lastName.trim());
 
-        userDAO.update(user);
+        applyStatus(username, user, isActive);
+        // The roster lists trainer names, so it is rebuilt even when the status is unchanged.
+        trainerRoster.invalidate();
         logger.info("Trainer profile {} updated successfully.", username);
-        return trainerDAO.findByUserNameWithTrainees(username);
+        return trainer;
     }
 
     @Transactional
@@ -110,18 +119,32 @@ public class TrainerService {
         Trainer trainer = selectLightweightProfile(username);
 
         User user = trainer.getUser();
-        user.setIsActive(isActive);
-        trainer.setUser(user);
-
-        userDAO.update(user);
+        if (applyStatus(username, user, isActive)) {
+            trainerRoster.invalidate();
+        }
         logger.info("Trainer {} status changed to {}.", username, user.getIsActive());
     }
 
+    // The managed user is flushed on commit. Only a real change evicts the cached principal,
+    // and only a deactivation revokes the user's tokens. Returns whether the status changed.
+    private boolean applyStatus(String username, User user, Boolean isActive) {
+        if (isActive == null || isActive.equals(user.getIsActive())) {
+            return false;
+        }
+        user.setIsActive(isActive);
+        principalCache.invalidate(username);
+        if (!isActive) {
+            tokenRevocationList.revoke(username);
+        }
+        return true;
+    }
+
     @Transactional(readOnly = true)
-    public List<Training> getTrainerTrainingsList(String username, Date fromDate, Date toDate) {
+    public List<TrainingListRow> getTrainerTrainingsList(String username, Date fromDate, Date toDate,
+                                                  TrainingCursor after, int limit) {
         logger.info("Fetching trainings list for Trainer {} with date filters.", username);
 
-        return trainerDAO.getTrainerTrainingsList(username, fromDate, toDate);
+        return trainerDAO.getTrainerTrainingsList(username, fromDate, toDate, after, limit);
     }
 
     @Transactional(readOnly = true)
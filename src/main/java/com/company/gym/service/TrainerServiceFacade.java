@@ -4,9 +4,9 @@ import com.company.gym.dto.request.TrainerProfileUpdateRequest;
 import com.company.gym.dto.request.UserStatusUpdateRequest;
 import com.company.gym.dto.response.TrainerProfileResponse;
 import com.company.gym.dto.response.TrainerShortResponse;
-import com.company.gym.dto.response.TrainingListResponse;
-import com.company.gym.dto.response.TrainingTypeResponse;
+import com.company.gym.dto.response.TrainingPageResponse;
 import com.company.gym.mapper.TrainerMapper;
+import com.company.gym.util.TrainingCursor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,14 +17,17 @@ import java.util.List;
 public class TrainerServiceFacade {
     private final TrainerService trainerService;
     private final TrainerMapper trainerMapper;
-    private final TrainingTypeService trainingTypeService;
+    private final TrainingTypeCatalog trainingTypeCatalog;
+    private final TrainerRoster trainerRoster;
 
     public TrainerServiceFacade(TrainerService trainerService,
                                 TrainerMapper trainerMapper,
-                                TrainingTypeService trainingTypeService) {
+                                TrainingTypeCatalog trainingTypeCatalog,
+                                TrainerRoster trainerRoster) {
         this.trainerService = trainerService;
         this.trainerMapper = trainerMapper;
-        this.trainingTypeService = trainingTypeService;
+        this.trainingTypeCatalog = trainingTypeCatalog;
+        this.trainerRoster = trainerRoster;
     }
 
     public TrainerProfileResponse getProfile(
@@ -43,29 +46,34 @@ public class TrainerServiceFacade {
                 username,
                 request.getFirstName(),
                 request.getLastName(),
-                request.getSpecializationId()
+                request.getSpecializationId(),
+                request.getIsActive()
         );
-
-        trainerService.activateDeactivateProfile(username, request.getIsActive());
-        updatedTrainer.getUser().setIsActive(request.getIsActive());
-
         return trainerMapper.toTrainerProfileResponse(updatedTrainer);
     }
 
     public List<TrainerShortResponse> getUnassignedTrainers(
             String traineeUsername
     ) {
+        if (trainerRoster.isEnabled()) {
+            return trainerRoster.findUnassigned(traineeUsername);
+        }
         var unassignedTrainers = trainerService.getUnassignedTrainers(traineeUsername);
         return trainerMapper.toTrainerShortResponseList(unassignedTrainers);
     }
 
-    public List<TrainingListResponse> getTrainings(
+    public TrainingPageResponse getTrainings(
             String username,
             Date fromDate,
-            Date toDate
+            Date toDate,
+            String cursor,
+            Integer size
     ) {
-        var trainings = trainerService.getTrainerTrainingsList(username, fromDate, toDate);
-        return trainerMapper.toTrainingListResponse(trainings);
+        int pageSize = TrainingCursor.pageSize(size);
+        var trainings = trainerService.getTrainerTrainingsList(username, fromDate, toDate,
+                TrainingCursor.decode(cursor), pageSize + 1);
+        var page = trainings.subList(0, Math.min(trainings.size(), pageSize));
+        return new TrainingPageResponse(trainerMapper.toTrainingListResponseFromRows(page), TrainingCursor.nextCursor(trainings, pageSize));
     }
 
     public void updateStatus(
@@ -75,8 +83,7 @@ public class TrainerServiceFacade {
         trainerService.activateDeactivateProfile(username, request.getIsActive());
     }
 
-    public List<TrainingTypeResponse> getAllTrainingTypes() {
-        var types = trainingTypeService.getAllTrainingTypes();
-        return trainerMapper.toTrainingTypeResponseList(types);
+    public TrainingTypeCatalog.Payload getTrainingTypesPayload() {
+        return trainingTypeCatalog.payload();
     }
 }
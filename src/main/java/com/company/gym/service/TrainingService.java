@@ -3,8 +3,10 @@ package com.company.gym.service;
 import com.company.gym.dao.TraineeDAO;
 import com.company.gym.dao.TrainerDAO;
 import com.company.gym.dao.TrainingDAO;
-import com.company.gym.entity.Trainee;
-import com.company.gym.entity.Trainer;
+import com.company.gym.dao.TrainingTypeDAO;
+import com.company.gym.dto.projection.TrainingLinkRow;
+import com.company.gym.dto.projection.TrainingPairRow;
+import com.company.gym.dto.request.TrainingRequest;
 import com.company.gym.entity.Training;
 import com.company.gym.exception.ValidationException;
 import org.slf4j.Logger;
@@ -12,7 +14,14 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 @Service
 public class TrainingService {
@@ -22,11 +31,14 @@ public class TrainingService {
     private final TrainingDAO trainingDAO;
     private final TraineeDAO traineeDAO;
     private final TrainerDAO trainerDAO;
+    private final TrainingTypeDAO trainingTypeDAO;
 
-    public TrainingService(TrainingDAO trainingDAO, TraineeDAO traineeDAO, TrainerDAO trainerDAO) {
+    public TrainingService(TrainingDAO trainingDAO, TraineeDAO traineeDAO, TrainerDAO trainerDAO,
+                           TrainingTypeDAO trainingTypeDAO) {
         this.trainingDAO = trainingDAO;
         this.traineeDAO = traineeDAO;
         this.trainerDAO = trainerDAO;
+        this.trainingTypeDAO = trainingTypeDAO;
     }
 
     @Transactional
@@ -40,30 +52,105 @@ public class TrainingService {
             throw new ValidationException("All fields (trainee/trainer username, name, date, duration) are required and duration must be positive.");
         }
 
-        Trainee trainee = traineeDAO.findByUsernameWithTrainers(traineeUsername);
-        if (trainee == null) {
-            throw new ValidationException("Trainee not found with username: " + traineeUsername);
-        }
-
-        Trainer trainer = trainerDAO.findByUsername(trainerUsername);
-        if (trainer == null) {
+        TrainingLinkRow link = trainingDAO.resolveTrainingLink(traineeUsername, trainerUsername);
+        if (link == null) {
+            // Slow path only to tell the caller which side is missing.
+            if (traineeDAO.findByUsername(traineeUsername) == null) {
+                throw new ValidationException("Trainee not found with username: " + traineeUsername);
+            }
             throw new ValidationException("Trainer not found with username: " + trainerUsername);
         }
 
-        if (!trainee.getTrainers().contains(trainer)) {
+        if (!Boolean.TRUE.equals(link.linked())) {
             throw new ValidationException("Trainer '" + trainerUsername + "' is not associated with Trainee '" + traineeUsername + "'.");
         }
 
         Training training = new Training();
-        training.setTrainee(trainee);
-        training.setTrainer(trainer);
+        training.setTrainee(traineeDAO.getReference(link.traineeId()));
+        training.setTrainer(trainerDAO.getReference(link.trainerId()));
         training.setTrainingName(trainingName);
         training.setTrainingDate(trainingDate);
         training.setTrainingDuration(trainingDuration);
-        training.setTrainingType(trainer.getSpecialization());
+        if (link.trainingTypeId() != null) {
+            training.setTrainingType(trainingTypeDAO.getReference(link.trainingTypeId()));
+        }
 
         trainingDAO.save(training);
         logger.info("Training '{}' created for Trainee {} and Trainer {}.", trainingName, traineeUsername, trainerUsername);
         return training;
     }
-}
\ No newline at end of file
+
+    // Creates every item whose trainee/trainer pair is linked; the others are returned as index -> reason.
+    @Transactional
+    public Map<Integer, String> createTrainings(List<TrainingRequest> items) {
+        Set<String> traineeUsernames = new HashSet<>();
+        Set<String> trainerUsernames = new HashSet<>();
+        for (TrainingRequest item : items) {
+            traineeUsernames.add(item.getTraineeUsername());
+            trainerUsernames.add(item.getTrainerUsername());
+        }
+
+        Map<String, TrainingPairRow> pairs = new HashMap<>();
+        for (TrainingPairRow pair : trainingDAO.findLinkedPairs(traineeUsernames, trainerUsernames)) {
+            pairs.put(pairKey(pair.traineeUsername(), pair.trainerUsername()), pair);
+        }
+
+        List<Training> trainings = new ArrayList<>(items.size());
+        List<Integer> unlinked = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            TrainingRequest item = items.get(i);
+            TrainingPairRow pair = pairs.get(pairKey(item.getTraineeUsername(), item.getTrainerUsername()));
+            if (pair == null) {
+                unlinked.add(i);
+                continue;
+            }
+            Training training = new Training();
+            training.setTrainee(traineeDAO.getReference(pair.traineeId()));
+            training.setTrainer(trainerDAO.getReference(pair.trainerId()));
+            training.setTrainingName(item.getTrainingName());
+            training.setTrainingDate(item.getTrainingDate());
+            training.setTrainingDuration(item.getTrainingDuration());
+            if (pair.trainingTypeId() != null) {
+                training.setTrainingType(trainingTypeDAO.getReference(pair.trainingTypeId()));
+            }
+            trainings.add(training);
+        }
+
+        trainingDAO.saveAll(trainings);
+        Map<Integer, String> rejected = explainUnlinked(items, unlinked);
+        logger.info("Training batch processed: {} created, {} rejected.", trainings.size(), rejected.size());
+        return rejected;
+    }
+
+    private Map<Integer, String> explainUnlinked(List<TrainingRequest> items, List<Integer> unlinked) {
+        Map<Integer, String> rejected = new TreeMap<>();
+        if (unlinked.isEmpty()) {
+            return rejected;
+        }
+        Set<String> traineeUsernames = new HashSet<>();
+        Set<String> trainerUsernames = new HashSet<>();
+        for (int i : unlinked) {
+            traineeUsernames.add(items.get(i).getTraineeUsername());
+            trainerUsernames.add(items.get(i).getTrainerUsername());
+        }
+        Set<String> existingTrainees = new HashSet<>(traineeDAO.findExistingUsernames(traineeUsernames));
+        Set<String> existingTrainers = new HashSet<>(trainerDAO.findExistingUsernames(trainerUsernames));
+
+        for (int i : unlinked) {
+            String traineeUsername = items.get(i).getTraineeUsername();
+            String trainerUsername = items.get(i).getTrainerUsername();
+            if (!existingTrainees.contains(traineeUsername)) {
+                rejected.put(i, "Trainee not found with username: " + traineeUsername);
+            } else if (!existingTrainers.contains(trainerUsername)) {
+                rejected.put(i, "Trainer not found with username: " + trainerUsername);
+            } else {
+                rejected.put(i, "Trainer '" + trainerUsername + "' is not associated with Trainee '" + traineeUsername + "'.");
+            }
+        }
+        return rejected;
+    }
+
+    private static String pairKey(String traineeUsername, String trainerUsername) {
+        return traineeUsername + '\n' + trainerUsername;
+    }
+}
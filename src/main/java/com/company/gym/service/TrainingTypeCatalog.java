@@ -0,0 +1,64 @@
+package com.company.gym.service;
+
+import com.company.gym.entity.TrainingType;
+import com.company.gym.mapper.TrainerMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+// GET /training-types body rendered once per registry snapshot, with a strong ETag over the exact bytes.
+@Service
+public class TrainingTypeCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainingTypeCatalog.class);
+
+    public record Payload(byte[] body, String etag) {}
+
+    private record Rendered(List<TrainingType> source, Payload payload) {}
+
+    private final TrainingTypeRegistry trainingTypeRegistry;
+    private final TrainerMapper trainerMapper;
+    private final ObjectMapper objectMapper;
+
+    private volatile Rendered rendered;
+
+    public TrainingTypeCatalog(TrainingTypeRegistry trainingTypeRegistry,
+                               TrainerMapper trainerMapper,
+                               ObjectMapper objectMapper) {
+        this.trainingTypeRegistry = trainingTypeRegistry;
+        this.trainerMapper = trainerMapper;
+        this.objectMapper = objectMapper;
+    }
+
+    // The registry hands out the same list until it reloads, so identity tells us when to re-render.
+    public Payload payload() {
+        List<TrainingType> types = trainingTypeRegistry.findAll();
+        Rendered current = rendered;
+        if (current != null && current.source() == types) {
+            return current.payload();
+        }
+        current = new Rendered(types, render(types));
+        rendered = current;
+        return current.payload();
+    }
+
+    private Payload render(List<TrainingType> types) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(trainerMapper.toTrainingTypeResponseList(types));
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            String etag = "\"" + HexFormat.of().formatHex(Arrays.copyOf(digest, 16)) + "\"";
+            logger.info("Training types payload rendered: {} types, {} bytes, ETag {}.", types.size(), body.length, etag);
+            return new Payload(body, etag);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not render training types payload", e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.company.gym.service;
+
+import com.company.gym.dao.TrainingTypeDAO;
+import com.company.gym.entity.TrainingType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Immutable snapshot of the training_type reference rows, loaded at startup and replaced only on invalidate().
+// The instances are detached and shared: treat them as read-only.
+@Service
+public class TrainingTypeRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainingTypeRegistry.class);
+
+    private record Snapshot(List<TrainingType> ordered, Map<Long, TrainingType> byId,
+                            Map<String, TrainingType> byName, long version) {}
+
+    private final TrainingTypeDAO trainingTypeDAO;
+    private final Object reloadLock = new Object();
+    // Bumped after every committed change to training types; a snapshot from an older version is reloaded.
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile Snapshot snapshot;
+
+    public TrainingTypeRegistry(TrainingTypeDAO trainingTypeDAO) {
+        this.trainingTypeDAO = trainingTypeDAO;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        current();
+    }
+
+    public List<TrainingType> findAll() {
+        return current().ordered();
+    }
+
+    public TrainingType findById(Long id) {
+        return id == null ? null : current().byId().get(id);
+    }
+
+    public TrainingType findByName(String name) {
+        return name == null ? null : current().byName().get(name);
+    }
+
+    // Call after inserting, renaming or removing a training type, including rows written outside the application
+    // (LoadTestHarness calls it after seeding); the snapshot is replaced once the change commits.
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    version.incrementAndGet();
+                }
+            });
+        } else {
+            version.incrementAndGet();
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null && current.version() == version.get()) {
+            return current;
+        }
+        synchronized (reloadLock) {
+            current = snapshot;
+            if (current == null || current.version() != version.get()) {
+                current = load();
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    private Snapshot load() {
+        long loadVersion = version.get();
+        List<TrainingType> ordered = List.copyOf(trainingTypeDAO.findAll());
+        Map<Long, TrainingType> byId = new HashMap<>();
+        Map<String, TrainingType> byName = new HashMap<>();
+        for (TrainingType type : ordered) {
+            byId.put(type.getId(), type);
+            byName.put(type.getName(), type);
+        }
+        logger.info("Training type registry loaded with {} types.", ordered.size());
+        return new Snapshot(ordered, Map.copyOf(byId), Map.copyOf(byName), loadVersion);
+    }
+}
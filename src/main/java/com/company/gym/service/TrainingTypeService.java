@@ -1,12 +1,10 @@
 package com.company.gym.service;
 
-import com.company.gym.dao.TrainingTypeDAO;
 import com.company.gym.entity.TrainingType;
 import com.company.gym.exception.NotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -15,17 +13,16 @@ public class TrainingTypeService {
 
     private static final Logger logger = LoggerFactory.getLogger(TrainingTypeService.class);
 
-    private final TrainingTypeDAO trainingTypeDAO;
+    private final TrainingTypeRegistry trainingTypeRegistry;
 
-    public TrainingTypeService(TrainingTypeDAO trainingTypeDAO) {
-        this.trainingTypeDAO = trainingTypeDAO;
+    public TrainingTypeService(TrainingTypeRegistry trainingTypeRegistry) {
+        this.trainingTypeRegistry = trainingTypeRegistry;
     }
 
-    @Transactional(readOnly = true)
     public List<TrainingType> getAllTrainingTypes() {
         logger.info("Fetching all available Training Types.");
 
-        List<TrainingType> types = trainingTypeDAO.findAll();
+        List<TrainingType> types = trainingTypeRegistry.findAll();
 
         if (types.isEmpty()) {
             logger.warn("No Training Types found in the database.");
@@ -35,11 +32,10 @@ public class TrainingTypeService {
         return types;
     }
 
-    @Transactional(readOnly = true)
     public TrainingType findTrainingTypeById(Long id) {
         logger.info("Fetching Training Type by ID: {}", id);
 
-        TrainingType type = trainingTypeDAO.findById(id);
+        TrainingType type = trainingTypeRegistry.findById(id);
 
         if (type == null) {
             logger.warn("Training Type with ID {} not found.", id);
@@ -0,0 +1,81 @@
+package com.company.gym.service;
+
+import com.company.gym.dao.UserDAO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class UsernameAllocator {
+
+    private static final Logger logger = LoggerFactory.getLogger(UsernameAllocator.class);
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final UserDAO userDAO;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    // Usernames handed out to transactions that have not committed yet (invisible to the DB query).
+    private final Set<String> reserved = ConcurrentHashMap.newKeySet();
+
+    public UsernameAllocator(UserDAO userDAO) {
+        this.userDAO = userDAO;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    public String allocate(String baseUsername) {
+        synchronized (lockFor(baseUsername)) {
+            Set<String> taken = new HashSet<>(userDAO.findUsernamesByBase(baseUsername));
+
+            String candidate = baseUsername;
+            int counter = 0;
+            while (taken.contains(candidate) || !reserved.add(candidate)) {
+                counter++;
+                candidate = baseUsername + counter;
+            }
+
+            releaseOnCompletion(candidate);
+            logger.debug("Allocated username {} for base {} ({} existing).", candidate, baseUsername, taken.size());
+            return candidate;
+        }
+    }
+
+    private void releaseOnCompletion(String username) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reserved.remove(username);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                // Released under the base lock so a concurrent allocate() either sees the reservation or the committed row.
+                synchronized (lockFor(username)) {
+                    reserved.remove(username);
+                }
+            }
+        });
+    }
+
+    private Object lockFor(String username) {
+        return locks[Math.floorMod(baseOf(username).hashCode(), LOCK_STRIPES)];
+    }
+
+    private static String baseOf(String username) {
+        int end = username.length();
+        while (end > 0 && Character.isDigit(username.charAt(end - 1))) {
+            end--;
+        }
+        return username.substring(0, end);
+    }
+
+    int reservedCount() {
+        return reserved.size();
+    }
+}
@@ -1,6 +1,5 @@
 package com.company.gym.util;
 
-import com.company.gym.entity.Training;
 import org.hibernate.Session;
 import org.hibernate.query.Query;
 
@@ -10,9 +9,10 @@ public class QueryUtil {
 
     private QueryUtil() {}
 
-    public static Query<Training> getTrainingQuery(String username, Date fromDate, Date toDate, Session session, StringBuilder hql) {
+    public static <T> Query<T> getTrainingQuery(String username, Date fromDate, Date toDate, Session session,
+                                                StringBuilder hql, Class<T> resultType) {
 
-        Query<Training> query = session.createQuery(hql.toString(), Training.class);
+        Query<T> query = session.createQuery(hql.toString(), resultType);
 
         query.setParameter("username", username);
 
@@ -25,4 +25,24 @@ public class QueryUtil {
 
         return query;
     }
-}
\ No newline at end of file
+
+    // Keyset paging of trainings. The DAO query opens a subquery that picks the page's ids from the training table
+    // alone (alias p, owner fixed by a scalar subquery), so PostgreSQL walks the (trainee_id|trainer_id, training_date, id)
+    // index in order and stops at the page size; joined to the owner, it sorted the owner's whole remaining history
+    // for every page. The row-value predicate is an index seek; the equivalent OR form was only a filter.
+    // Closes that subquery and orders the page rows (alias t).
+    public static void appendKeyset(StringBuilder hql, TrainingCursor after) {
+        if (after != null) {
+            hql.append(" AND (p.trainingDate, p.id) > (:cursorDate, :cursorId)");
+        }
+        hql.append(" ORDER BY p.trainingDate, p.id LIMIT :pageSize) ORDER BY t.trainingDate, t.id");
+    }
+
+    public static <T> void bindKeyset(Query<T> query, TrainingCursor after, int limit) {
+        if (after != null) {
+            query.setParameter("cursorDate", after.trainingDate());
+            query.setParameter("cursorId", after.id());
+        }
+        query.setParameter("pageSize", limit);
+    }
+}
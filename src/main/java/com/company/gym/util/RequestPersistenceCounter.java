@@ -0,0 +1,69 @@
+package com.company.gym.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class RequestPersistenceCounter {
+
+    private static final ThreadLocal<int[]> COUNTS = ThreadLocal.withInitial(() -> new int[3]);
+    // SQL text is kept only when capture is switched on (tests); production only counts.
+    private static final ThreadLocal<List<String>> STATEMENT_LOG = ThreadLocal.withInitial(ArrayList::new);
+
+    private static final int SESSIONS = 0;
+    private static final int CONNECTIONS = 1;
+    private static final int STATEMENTS = 2;
+
+    private static volatile boolean captureSql;
+
+    private RequestPersistenceCounter() {}
+
+    public static void reset() {
+        int[] counts = COUNTS.get();
+        counts[SESSIONS] = 0;
+        counts[CONNECTIONS] = 0;
+        counts[STATEMENTS] = 0;
+        if (captureSql) {
+            STATEMENT_LOG.get().clear();
+        }
+    }
+
+    public static void sessionOpened() {
+        COUNTS.get()[SESSIONS]++;
+    }
+
+    public static void connectionAcquired() {
+        COUNTS.get()[CONNECTIONS]++;
+    }
+
+    public static void statementPrepared(String sql) {
+        COUNTS.get()[STATEMENTS]++;
+        if (captureSql) {
+            STATEMENT_LOG.get().add(sql);
+        }
+    }
+
+    public static int sessions() {
+        return COUNTS.get()[SESSIONS];
+    }
+
+    public static int connections() {
+        return COUNTS.get()[CONNECTIONS];
+    }
+
+    public static int statements() {
+        return COUNTS.get()[STATEMENTS];
+    }
+
+    public static List<String> statementLog() {
+        return captureSql ? List.copyOf(STATEMENT_LOG.get()) : List.of();
+    }
+
+    public static void setCaptureSql(boolean enabled) {
+        captureSql = enabled;
+    }
+
+    public static void clear() {
+        COUNTS.remove();
+        STATEMENT_LOG.remove();
+    }
+}
@@ -0,0 +1,57 @@
+package com.company.gym.util;
+
+import com.company.gym.dto.projection.TrainingListRow;
+import com.company.gym.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+// Opaque keyset position in a trainings list ordered by (trainingDate, id).
+public record TrainingCursor(long trainingDateMillis, long id) {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    public Date trainingDate() {
+        return new Date(trainingDateMillis);
+    }
+
+    public String encode() {
+        String raw = trainingDateMillis + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static TrainingCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            int separator = raw.indexOf(':');
+            return new TrainingCursor(Long.parseLong(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new ValidationException("Invalid trainings cursor: " + token, e);
+        }
+    }
+
+    public static TrainingCursor of(TrainingListRow row) {
+        return new TrainingCursor(row.trainingDate().getTime(), row.id());
+    }
+
+    public static int pageSize(Integer requested) {
+        if (requested == null || requested < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(requested, MAX_PAGE_SIZE);
+    }
+
+    // Callers fetch pageSize + 1 rows; the extra row only signals that another page exists.
+    public static String nextCursor(List<TrainingListRow> fetched, int pageSize) {
+        if (fetched.size() <= pageSize) {
+            return null;
+        }
+        return of(fetched.get(pageSize - 1)).encode();
+    }
+}
@@ -1,6 +1,25 @@
-INSERT INTO training_type (training_type_name) VALUES ('Potions') ON CONFLICT (training_type_name) DO NOTHING;
-INSERT INTO training_type (training_type_name) VALUES ('Charms') ON CONFLICT (training_type_name) DO NOTHING;
-INSERT INTO training_type (training_type_name) VALUES ('Transfiguration') ON CONFLICT (training_type_name) DO NOTHING;
-INSERT INTO training_type (training_type_name) VALUES ('Herbology') ON CONFLICT (training_type_name) DO NOTHING;
-INSERT INTO training_type (training_type_name) VALUES ('Duelling') ON CONFLICT (training_type_name) DO NOTHING;
-INSERT INTO training_type (training_type_name) VALUES ('Flying') ON CONFLICT (training_type_name) DO NOTHING;
\ No newline at end of file
+-- Pooled id sequences (allocationSize = 50): move them past ids issued by the former IDENTITY columns.
+-- Only when a table holds an id the sequence has not issued yet, so a restart never skips a pooled block.
+SELECT setval('training_type_seq', (SELECT MAX(id) FROM training_type) + 50) WHERE (SELECT MAX(id) FROM training_type) >= (SELECT last_value + is_called::int FROM training_type_seq);
+SELECT setval('user_profile_seq', (SELECT MAX(id) FROM user_profile) + 50) WHERE (SELECT MAX(id) FROM user_profile) >= (SELECT last_value + is_called::int FROM user_profile_seq);
+SELECT setval('training_seq', (SELECT MAX(id) FROM training) + 50) WHERE (SELECT MAX(id) FROM training) >= (SELECT last_value + is_called::int FROM training_seq);
+
+-- Seed training types; nextval is evaluated only for a row that is actually inserted
+INSERT INTO training_type (id, training_type_name) SELECT nextval('training_type_seq'), 'Potions' WHERE NOT EXISTS (SELECT 1 FROM training_type WHERE training_type_name = 'Potions') ON CONFLICT (training_type_name) DO NOTHING;
+INSERT INTO training_type (id, training_type_name) SELECT nextval('training_type_seq'), 'Charms' WHERE NOT EXISTS (SELECT 1 FROM training_type WHERE training_type_name = 'Charms') ON CONFLICT (training_type_name) DO NOTHING;
+INSERT INTO training_type (id, training_type_name) SELECT nextval('training_type_seq'), 'Transfiguration' WHERE NOT EXISTS (SELECT 1 FROM training_type WHERE training_type_name = 'Transfiguration') ON CONFLICT (training_type_name) DO NOTHING;
+INSERT INTO training_type (id, training_type_name) SELECT nextval('training_type_seq'), 'Herbology' WHERE NOT EXISTS (SELECT 1 FROM training_type WHERE training_type_name = 'Herbology') ON CONFLICT (training_type_name) DO NOTHING;
+INSERT INTO training_type (id, training_type_name) SELECT nextval('training_type_seq'), 'Duelling' WHERE NOT EXISTS (SELECT 1 FROM training_type WHERE training_type_name = 'Duelling') ON CONFLICT (training_type_name) DO NOTHING;
+INSERT INTO training_type (id, training_type_name) SELECT nextval('training_type_seq'), 'Flying' WHERE NOT EXISTS (SELECT 1 FROM training_type WHERE training_type_name = 'Flying') ON CONFLICT (training_type_name) DO NOTHING;
+
+-- Prefix index for username allocation (LIKE 'base%' must be index-assisted under any collation)
+CREATE INDEX IF NOT EXISTS idx_user_profile_username_pattern ON user_profile (username text_pattern_ops);
+-- Keyset pagination of training lists: seek on (owner, training_date, id)
+CREATE INDEX IF NOT EXISTS idx_training_trainee_date_id ON training (trainee_id, training_date, id);
+CREATE INDEX IF NOT EXISTS idx_training_trainer_date_id ON training (trainer_id, training_date, id);
+-- Background purge sweep: only trainees marked deleted are indexed
+CREATE INDEX IF NOT EXISTS idx_trainee_deleted_at ON trainee (deleted_at) WHERE deleted_at IS NOT NULL;
+
+-- Trainer name search: full_name is maintained by the application; backfill rows created before the column existed
+UPDATE user_profile SET full_name = first_name || ' ' || last_name WHERE full_name IS NULL;
+-- Its trigram index needs the pg_trgm extension and is created once by db/trainer-name-search.sql
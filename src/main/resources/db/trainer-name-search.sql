@@ -0,0 +1,8 @@
+-- Trigram index for the trainer name search (substring LIKE on user_profile.full_name).
+-- Not part of data.sql: CREATE EXTENSION needs a role allowed to create extensions, and data.sql runs
+-- with the application's role on every startup. Run once per database after the application has
+-- created the schema:
+--   psql -d gym_db -f src/main/resources/db/trainer-name-search.sql
+-- Without it the search still works; matching trainers are then found by scanning user_profile.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_user_profile_full_name_trgm ON user_profile USING gin (full_name gin_trgm_ops);
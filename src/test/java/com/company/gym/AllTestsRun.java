@@ -2,8 +2,11 @@ package com.company.gym;
 
 import com.company.gym.config.*;
 import com.company.gym.controller.AuthenticationControllerTest;
+import com.company.gym.controller.EndpointQueryBudgetTest;
 import com.company.gym.controller.TraineeControllerTest;
+import com.company.gym.controller.TraineeDeletionLoginTest;
 import com.company.gym.controller.TrainerControllerTest;
+import com.company.gym.controller.TrainingPagingTest;
 import com.company.gym.controller.TrainingControllerTest;
 import com.company.gym.dao.*;
 import com.company.gym.dto.request.LoginRequestTest;
@@ -31,6 +34,14 @@ import org.junit.platform.suite.api.Suite;
         TrainingTypeDAOTest.class,
         UserDAOTest.class,
         AuthServiceTest.class,
+        UsernameAllocatorTest.class,
+        PrincipalCacheTest.class,
+        PasswordHasherTest.class,
+        TrainerRosterTest.class,
+        TrainingTypeRegistryTest.class,
+        TrainingTypeCatalogTest.class,
+        AccessTokenServiceTest.class,
+        TraineePurgerTest.class,
         TraineeServiceTest.class,
         TrainerServiceTest.class,
         TrainingServiceTest.class,
@@ -44,9 +55,10 @@ import org.junit.platform.suite.api.Suite;
         UserTest.class,
         TraineeMapperTest.class,
         TrainerMapperTest.class,
-        HibernateUtilTest.class,
         PasswordUtilTest.class,
         QueryUtilTest.class,
+        TrainingCursorTest.class,
+        RequestPersistenceCounterTest.class,
         UserCredentialGeneratorTest.class,
         UsernameUtilTest.class,
         AuthenticationExceptionTest.class,
@@ -57,13 +69,23 @@ import org.junit.platform.suite.api.Suite;
         TraineeControllerTest.class,
         TrainerControllerTest.class,
         TrainingControllerTest.class,
+        EndpointQueryBudgetTest.class,
+        TrainingPagingTest.class,
+        TraineeDeletionLoginTest.class,
         LoginRequestTest.class,
         TrainingRequestTest.class,
         TrainingTypeResponseTest.class,
         UserCredentialsResponseTest.class,
         WebSecurityConfigTest.class,
+        LoginOverloadTest.class,
         CustomUsernamePasswordAuthenticationFilterTest.class,
-        LoggingAspectTest.class
+        LoggingAspectTest.class,
+        PersistenceMetricsFilterTest.class,
+        CountingAsyncAppenderTest.class,
+        DebugLogEscalationFilterTest.class,
+        CompactSessionSerializerTest.class,
+        NearCacheSessionRepositoryTest.class,
+        TokenAuthenticationContextTest.class
 })
 public class AllTestsRun {
 
@@ -0,0 +1,95 @@
+package com.company.gym.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompactSessionSerializerTest {
+
+    private final CompactSessionSerializer serializer = new CompactSessionSerializer(true);
+    private final JdkSerializationRedisSerializer jdk = new JdkSerializationRedisSerializer();
+
+    @Test
+    void securityContext_RoundTripsUsernameAndAuthorities() {
+        SecurityContext context = loginContext("john.smith");
+
+        byte[] bytes = serializer.serialize(context);
+        SecurityContext restored = (SecurityContext) serializer.deserialize(bytes);
+
+        assertEquals(CompactSessionSerializer.MAGIC, bytes[0]);
+        assertTrue(restored.getAuthentication().isAuthenticated());
+        assertEquals("john.smith", restored.getAuthentication().getName());
+        assertEquals("john.smith", ((UserDetails) restored.getAuthentication().getPrincipal()).getUsername());
+        assertEquals(List.of("ROLE_USER"),
+                AuthorityUtils.authorityListToSet(restored.getAuthentication().getAuthorities()).stream().toList());
+    }
+
+    @Test
+    void securityContext_IsFarSmallerThanJdk() {
+        SecurityContext context = loginContext("john.smith");
+
+        assertTrue(serializer.serialize(context).length * 10 < jdk.serialize(context).length);
+    }
+
+    @Test
+    void sessionFields_UseTaggedPrimitives() {
+        assertEquals(1_700_000_000_000L, serializer.deserialize(serializer.serialize(1_700_000_000_000L)));
+        assertEquals(1800, serializer.deserialize(serializer.serialize(1800)));
+        assertEquals("value", serializer.deserialize(serializer.serialize("value")));
+        assertEquals(10, serializer.serialize(1_700_000_000_000L).length);
+    }
+
+    @Test
+    void legacyJdkValues_AreStillReadable() {
+        SecurityContext context = loginContext("john.smith");
+
+        SecurityContext restored = (SecurityContext) serializer.deserialize(jdk.serialize(context));
+
+        assertEquals("john.smith", restored.getAuthentication().getName());
+        assertEquals(42L, serializer.deserialize(jdk.serialize(42L)));
+    }
+
+    @Test
+    void otherValues_FallBackToJdk() {
+        SecurityContext anonymous = new SecurityContextImpl(new AnonymousAuthenticationToken(
+                "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+
+        byte[] bytes = serializer.serialize(anonymous);
+
+        assertNotEquals(CompactSessionSerializer.MAGIC, bytes[0]);
+        assertEquals("anonymousUser", ((SecurityContext) serializer.deserialize(bytes)).getAuthentication().getName());
+    }
+
+    @Test
+    void jdkWriteMode_WritesJdkButReadsCompact() {
+        CompactSessionSerializer jdkWriter = new CompactSessionSerializer(false);
+        SecurityContext context = loginContext("john.smith");
+
+        assertArrayEquals(jdk.serialize(context), jdkWriter.serialize(context));
+        SecurityContext restored = (SecurityContext) jdkWriter.deserialize(serializer.serialize(context));
+        assertEquals("john.smith", restored.getAuthentication().getName());
+    }
+
+    @Test
+    void nullAndEmpty_MapToEachOther() {
+        assertEquals(0, serializer.serialize(null).length);
+        assertNull(serializer.deserialize(new byte[0]));
+        assertNull(serializer.deserialize(null));
+    }
+
+    private static SecurityContext loginContext(String username) {
+        UserDetails principal = User.withUsername(username).password("{noop}N/A").roles("USER").build();
+        return new SecurityContextImpl(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+    }
+}
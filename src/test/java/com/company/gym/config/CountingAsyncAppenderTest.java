@@ -0,0 +1,76 @@
+package com.company.gym.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CountingAsyncAppenderTest {
+
+    // Blocks the worker thread so the queue fills up deterministically.
+    private static class GatedAppender extends AppenderBase<ILoggingEvent> {
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final AtomicInteger delivered = new AtomicInteger();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            delivered.incrementAndGet();
+        }
+    }
+
+    @Test
+    void append_FullQueue_DropsWithoutBlockingAndCounts() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        GatedAppender target = new GatedAppender();
+        target.setContext(context);
+        target.start();
+
+        CountingAsyncAppender appender = new CountingAsyncAppender();
+        appender.setContext(context);
+        appender.setQueueSize(4);
+        appender.setDiscardingThreshold(2);
+        appender.setNeverBlock(true);
+        appender.addAppender(target);
+        appender.start();
+
+        long overflowedBefore = CountingAsyncAppender.overflowed();
+        long discardedBefore = CountingAsyncAppender.discarded();
+        long start = System.nanoTime();
+        for (int i = 0; i < 50; i++) {
+            appender.doAppend(event(context, i % 2 == 0 ? Level.INFO : Level.WARN));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        target.gate.countDown();
+        appender.stop();
+
+        assertTrue(elapsedMillis < 1_000, "Request thread must not wait for the blocked appender.");
+        assertTrue(CountingAsyncAppender.discarded() > discardedBefore);
+        assertTrue(CountingAsyncAppender.overflowed() > overflowedBefore);
+        assertTrue(target.delivered.get() < 50);
+    }
+
+    private static LoggingEvent event(LoggerContext context, Level level) {
+        LoggingEvent event = new LoggingEvent();
+        event.setLoggerContext(context);
+        event.setLoggerName("test");
+        event.setLevel(level);
+        event.setMessage("message");
+        event.setTimeStamp(System.currentTimeMillis());
+        return event;
+    }
+}
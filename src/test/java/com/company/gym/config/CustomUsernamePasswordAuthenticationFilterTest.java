@@ -1,6 +1,8 @@
 package com.company.gym.config;
 
 import com.company.gym.dto.request.LoginRequest;
+import com.company.gym.exception.ServiceUnavailableException;
+import com.company.gym.service.AccessTokenService;
 import com.company.gym.service.AuthService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.ReadListener;
@@ -12,6 +14,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
@@ -20,6 +26,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -63,6 +71,9 @@ public class CustomUsernamePasswordAuthenticationFilterTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
+    @Mock
+    private AccessTokenService accessTokenService;
+
     private CustomUsernamePasswordAuthenticationFilter filter;
 
     @Mock
@@ -77,7 +88,7 @@ public class CustomUsernamePasswordAuthenticationFilterTest {
 
     @BeforeEach
     void setUp() throws Exception {
-        filter = new CustomUsernamePasswordAuthenticationFilter(authService, objectMapper, authenticationManager);
+        filter = new CustomUsernamePasswordAuthenticationFilter(authService, objectMapper, authenticationManager, accessTokenService);
     }
 
     @Test
@@ -141,4 +152,46 @@ public class CustomUsernamePasswordAuthenticationFilterTest {
                 () -> filter.attemptAuthentication(request, response),
                 "Should throw BadCredentialsException if authentication fails with null/empty fields.");
     }
-}
\ No newline at end of file
+
+    @Test
+    void attemptAuthentication_HashingOverloaded_Returns503() throws IOException {
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername(TEST_USERNAME);
+        loginRequest.setPassword(TEST_PASSWORD);
+        StringWriter body = new StringWriter();
+
+        when(request.getInputStream()).thenReturn(new MockServletInputStream(JSON_BODY));
+        when(objectMapper.readValue(any(ServletInputStream.class), eq(LoginRequest.class)))
+                .thenReturn(loginRequest);
+        when(authService.authenticateUser(TEST_USERNAME, TEST_PASSWORD))
+                .thenThrow(new ServiceUnavailableException("Password hashing capacity exhausted"));
+        when(response.getWriter()).thenReturn(new PrintWriter(body));
+
+        Authentication result = filter.attemptAuthentication(request, response);
+
+        assertNull(result);
+        verify(response).setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        verify(response).setHeader(HttpHeaders.RETRY_AFTER, "1");
+        assertTrue(body.toString().contains("Service Unavailable"));
+    }
+
+    @Test
+    void login_TokenMode_ReturnsAccessTokenWithoutSession() throws Exception {
+        when(accessTokenService.isEnabled()).thenReturn(true);
+        when(accessTokenService.issue(TEST_USERNAME)).thenReturn(new AccessTokenService.IssuedToken("v1.abc.def", 900));
+        when(authService.authenticateUser(TEST_USERNAME, TEST_PASSWORD)).thenReturn(true);
+        CustomUsernamePasswordAuthenticationFilter tokenFilter = new CustomUsernamePasswordAuthenticationFilter(
+                authService, new ObjectMapper(), authenticationManager, accessTokenService);
+
+        MockHttpServletRequest loginRequest = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        loginRequest.setServletPath("/api/v1/auth/login");
+        loginRequest.setContent(JSON_BODY.getBytes());
+        MockHttpServletResponse loginResponse = new MockHttpServletResponse();
+        tokenFilter.doFilter(loginRequest, loginResponse, new MockFilterChain());
+
+        assertEquals(HttpServletResponse.SC_OK, loginResponse.getStatus());
+        assertTrue(loginResponse.getContentAsString().contains("\"accessToken\":\"v1.abc.def\""));
+        assertTrue(loginResponse.getContentAsString().contains("\"expiresIn\":900"));
+        assertNull(loginRequest.getSession(false));
+    }
+}
@@ -0,0 +1,44 @@
+package com.company.gym.config;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DebugLogEscalationFilterTest {
+
+    @Test
+    void matchingHeader_SetsDebugLevelForRequestOnly() throws Exception {
+        AtomicReference<String> seen = new AtomicReference<>();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/trainees/john.doe");
+        request.addHeader(DebugLogEscalationFilter.HEADER, "s3cret");
+
+        new DebugLogEscalationFilter("s3cret").doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> seen.set(MDC.get(DebugLogEscalationFilter.MDC_KEY)));
+
+        assertEquals("DEBUG", seen.get());
+        assertNull(MDC.get(DebugLogEscalationFilter.MDC_KEY));
+    }
+
+    @Test
+    void wrongHeaderOrNoToken_LeavesLevelAlone() throws Exception {
+        AtomicReference<String> seen = new AtomicReference<>("unset");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/trainees/john.doe");
+        request.addHeader(DebugLogEscalationFilter.HEADER, "guess");
+
+        new DebugLogEscalationFilter("s3cret").doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> seen.set(MDC.get(DebugLogEscalationFilter.MDC_KEY)));
+        assertNull(seen.get());
+
+        seen.set("unset");
+        request = new MockHttpServletRequest("GET", "/api/v1/trainees/john.doe");
+        request.addHeader(DebugLogEscalationFilter.HEADER, "");
+        new DebugLogEscalationFilter("").doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> seen.set(MDC.get(DebugLogEscalationFilter.MDC_KEY)));
+        assertNull(seen.get());
+    }
+}
@@ -1,33 +1,43 @@
 package com.company.gym.config;
 
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
+import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.Signature;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
 import org.slf4j.MDC;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 public class LoggingAspectTest {
 
-    @InjectMocks
     private LoggingAspect loggingAspect;
 
+    private SimpleMeterRegistry meterRegistry;
+
     @Mock
     private ProceedingJoinPoint joinPoint;
 
+    @Mock
+    private JoinPoint.StaticPart staticPart;
+
     @Mock
     private HttpServletRequest request;
 
@@ -41,6 +51,9 @@ public class LoggingAspectTest {
 
     @BeforeEach
     void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        loggingAspect = new LoggingAspect(meterRegistry, "all", 100);
+
         RequestContextHolder.setRequestAttributes(servletRequestAttributes);
         when(servletRequestAttributes.getRequest()).thenReturn(request);
 
@@ -48,8 +61,10 @@ public class LoggingAspectTest {
         when(request.getRequestURI()).thenReturn("/api/v1/test");
         when(request.getParameterMap()).thenReturn(Collections.emptyMap());
 
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.toShortString()).thenReturn("TestController.testMethod()");
+        when(joinPoint.getStaticPart()).thenReturn(staticPart);
+        when(staticPart.getSignature()).thenReturn(signature);
+        doReturn(LoggingAspectTest.class).when(signature).getDeclaringType();
+        when(signature.getName()).thenReturn("testMethod");
 
         MDC.clear();
     }
@@ -63,11 +78,17 @@ public class LoggingAspectTest {
     @Test
     void logAround_SuccessPath_MDCIsHandled() throws Throwable {
         final String EXPECTED_RESULT = "success";
-        when(joinPoint.proceed()).thenReturn(EXPECTED_RESULT);
+        AtomicReference<String> transactionId = new AtomicReference<>();
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            transactionId.set(MDC.get(TRANSACTION_ID_KEY));
+            return EXPECTED_RESULT;
+        });
 
         Object result = loggingAspect.logAround(joinPoint);
 
         assertEquals(EXPECTED_RESULT, result);
+        assertNotNull(transactionId.get(), "MDC transactionId must be set while the call runs.");
+        assertNull(MDC.get(TRANSACTION_ID_KEY));
 
         verify(joinPoint, times(1)).proceed();
     }
@@ -86,4 +107,32 @@ public class LoggingAspectTest {
 
         assertNull(MDC.get(TRANSACTION_ID_KEY), "MDC transactionId must be null after failure execution.");
     }
-}
\ No newline at end of file
+
+    @Test
+    void logAround_RecordsLatencyPerEndpointAndOutcome() throws Throwable {
+        when(joinPoint.proceed()).thenReturn("ok").thenReturn("ok").thenThrow(new IllegalStateException("boom"));
+
+        loggingAspect.logAround(joinPoint);
+        loggingAspect.logAround(joinPoint);
+        assertThrows(IllegalStateException.class, () -> loggingAspect.logAround(joinPoint));
+
+        Timer success = meterRegistry.get("gym.http.endpoint")
+                .tags("endpoint", "LoggingAspectTest.testMethod", "outcome", "success").timer();
+        Timer error = meterRegistry.get("gym.http.endpoint")
+                .tags("endpoint", "LoggingAspectTest.testMethod", "outcome", "error").timer();
+        assertEquals(2, success.count());
+        assertEquals(1, error.count());
+        assertEquals(3, success.takeSnapshot().percentileValues().length);
+    }
+
+    @Test
+    void logAround_NoneMode_DoesNotReadRequestOnSuccess() throws Throwable {
+        loggingAspect = new LoggingAspect(meterRegistry, "none", 100);
+        when(joinPoint.proceed()).thenReturn("ok");
+
+        loggingAspect.logAround(joinPoint);
+
+        verifyNoInteractions(request);
+        assertEquals(1, meterRegistry.get("gym.http.endpoint").tag("outcome", "success").timer().count());
+    }
+}
@@ -0,0 +1,89 @@
+package com.company.gym.config;
+
+import com.company.gym.dao.UserDAO;
+import com.company.gym.entity.User;
+import com.company.gym.exception.ServiceUnavailableException;
+import com.company.gym.service.AccessTokenService;
+import com.company.gym.service.AuthService;
+import com.company.gym.service.PasswordHasher;
+import com.company.gym.service.PrincipalCache;
+import com.company.gym.service.TokenRevocationList;
+import com.company.gym.service.TraineeService;
+import com.company.gym.service.TraineeServiceFacade;
+import com.company.gym.service.TrainerService;
+import com.company.gym.service.TrainerServiceFacade;
+import com.company.gym.service.TrainingService;
+import com.company.gym.service.UsernameAllocator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+ * Login through the real security filter chain and AuthService while the password hasher is saturated:
+ * the filter must turn the hasher's rejection into 503 with Retry-After instead of a 401 or a 500.
+ */
+@WebMvcTest(controllers = {})
+@Import({WebSecurityConfig.class, CustomUsernamePasswordAuthenticationFilter.class, AuthService.class})
+public class LoginOverloadTest {
+
+    private static final String USERNAME = "neville.longbottom";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PasswordHasher passwordHasher;
+    @MockBean
+    private UserDAO userDAO;
+    @MockBean
+    private UsernameAllocator usernameAllocator;
+    @MockBean
+    private PrincipalCache principalCache;
+    @MockBean
+    private AccessTokenService accessTokenService;
+    @MockBean
+    private TokenRevocationList tokenRevocationList;
+    @MockBean
+    private UserDetailsService userDetailsService;
+    @MockBean
+    private TraineeService traineeService;
+    @MockBean
+    private TrainerService trainerService;
+    @MockBean
+    private TraineeServiceFacade traineeServiceFacade;
+    @MockBean
+    private TrainerServiceFacade trainerServiceFacade;
+    @MockBean
+    private TrainingService trainingService;
+
+    @Test
+    void login_HasherSaturated_Returns503WithRetryAfter() throws Exception {
+        User user = new User();
+        user.setUsername(USERNAME);
+        user.setPassword("$2a$10$hash");
+        user.setIsActive(true);
+        when(userDAO.findByUsername(USERNAME)).thenReturn(user);
+        when(passwordHasher.check(anyString(), anyString()))
+                .thenThrow(new ServiceUnavailableException("Password hashing capacity exhausted"));
+
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + USERNAME + "\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+}
@@ -0,0 +1,145 @@
+package com.company.gym.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.session.MapSession;
+import org.springframework.session.MapSessionRepository;
+import org.springframework.session.Session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class NearCacheSessionRepositoryTest {
+
+    private static final Duration TTL = Duration.ofSeconds(10);
+
+    private MapSessionRepository redis;
+    private MeterRegistry meterRegistry;
+    private List<String> published;
+    private NearCacheSessionRepository repository;
+    private String sessionId;
+
+    @BeforeEach
+    void setUp() {
+        redis = spy(new MapSessionRepository(new ConcurrentHashMap<>()));
+        meterRegistry = new SimpleMeterRegistry();
+        published = new ArrayList<>();
+        repository = new NearCacheSessionRepository(redis, 100, TTL, published::add, meterRegistry);
+
+        MapSession stored = redis.createSession();
+        stored.setAttribute("SPRING_SECURITY_CONTEXT", new SecurityContextImpl(
+                UsernamePasswordAuthenticationToken.authenticated("john.smith", null, AuthorityUtils.createAuthorityList("ROLE_USER"))));
+        redis.save(stored);
+        sessionId = stored.getId();
+        clearInvocations(redis);
+    }
+
+    @Test
+    void findById_SecondLookupIsServedLocally() {
+        repository.save(repository.findById(sessionId));
+        Session second = repository.findById(sessionId);
+
+        assertNotNull(second);
+        verify(redis, times(1)).findById(sessionId);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "sessions").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void save_ReadOnlyRequestWithinTouchIntervalSkipsRedis() {
+        repository.save(repository.findById(sessionId));
+        clearInvocations(redis);
+
+        NearCacheSessionRepository.NearCachedSession cached = repository.findById(sessionId);
+        cached.setLastAccessedTime(cached.getLastAccessedTime().plusSeconds(1));
+        repository.save(cached);
+
+        verifyNoInteractions(redis);
+        assertEquals(2.0, meterRegistry.get("gym.session.redis.round-trips.saved").counter().count());
+    }
+
+    @Test
+    void save_WritesLastAccessOnceTouchIntervalPassed() {
+        repository.save(repository.findById(sessionId));
+        clearInvocations(redis);
+
+        NearCacheSessionRepository.NearCachedSession cached = repository.findById(sessionId);
+        Instant touched = cached.getLastAccessedTime().plus(TTL);
+        cached.setLastAccessedTime(touched);
+        repository.save(cached);
+
+        verify(redis).save(any(MapSession.class));
+        assertEquals(touched, redis.findById(sessionId).getLastAccessedTime());
+    }
+
+    @Test
+    void setAttribute_WritesThroughAndPublishes() {
+        repository.save(repository.findById(sessionId));
+
+        NearCacheSessionRepository.NearCachedSession cached = repository.findById(sessionId);
+        cached.setAttribute("theme", "dark");
+        repository.save(cached);
+
+        assertEquals("dark", redis.findById(sessionId).getAttribute("theme"));
+        assertEquals("dark", repository.findById(sessionId).getAttribute("theme"));
+        assertEquals(List.of(sessionId), published);
+    }
+
+    @Test
+    void changeSessionId_EvictsOldIdEverywhere() {
+        repository.save(repository.findById(sessionId));
+
+        NearCacheSessionRepository.NearCachedSession cached = repository.findById(sessionId);
+        String newId = cached.changeSessionId();
+        repository.save(cached);
+
+        assertNotEquals(sessionId, newId);
+        assertNull(repository.findById(sessionId));
+        assertNotNull(repository.findById(newId));
+        assertTrue(published.contains(sessionId));
+    }
+
+    @Test
+    void deleteById_EvictsAndPublishes() {
+        repository.save(repository.findById(sessionId));
+
+        repository.deleteById(sessionId);
+
+        assertNull(repository.findById(sessionId));
+        assertEquals(List.of(sessionId), published);
+    }
+
+    @Test
+    void evictLocal_ForcesNextLookupToRedis() {
+        repository.save(repository.findById(sessionId));
+
+        repository.evictLocal(sessionId);
+        repository.findById(sessionId);
+
+        verify(redis, times(2)).findById(sessionId);
+    }
+
+    @Test
+    void cachedSecurityContext_IsNotSharedBetweenRequests() {
+        repository.save(repository.findById(sessionId));
+
+        SecurityContext first = repository.findById(sessionId).getAttribute("SPRING_SECURITY_CONTEXT");
+        first.setAuthentication(null);
+        SecurityContext second = repository.findById(sessionId).getAttribute("SPRING_SECURITY_CONTEXT");
+
+        assertNotSame(first, second);
+        assertEquals("john.smith", second.getAuthentication().getName());
+    }
+}
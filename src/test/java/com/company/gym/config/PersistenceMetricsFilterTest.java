@@ -0,0 +1,92 @@
+package com.company.gym.config;
+
+import com.company.gym.controller.QueryBudget;
+import com.company.gym.util.RequestPersistenceCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.Ordered;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PersistenceMetricsFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PersistenceMetricsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new PersistenceMetricsFilter(meterRegistry);
+    }
+
+    @Test
+    void doFilter_RecordsSessionsAndConnectionsOfRequest() throws Exception {
+        RequestPersistenceCounter.sessionOpened(); // leftover from a previous request on this thread
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/trainees/john"), new MockHttpServletResponse(),
+                (request, response) -> new PersistenceSessionEventListener().jdbcConnectionAcquisitionEnd());
+
+        assertEquals(1.0, meterRegistry.get("gym.persistence.sessions.per.request").summary().totalAmount());
+        assertEquals(1.0, meterRegistry.get("gym.persistence.connections.per.request").summary().totalAmount());
+        assertEquals(1, meterRegistry.get("gym.persistence.sessions.per.request").summary().count());
+    }
+
+    @Test
+    void doFilter_CountsStatementsAgainstHandlerBudget() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/trainees/john");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(new BudgetedHandler(), BudgetedHandler.class.getMethod("profile")));
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            RequestPersistenceCounter.statementPrepared("select 1");
+            RequestPersistenceCounter.statementPrepared("select 2");
+        });
+
+        assertEquals(2.0, meterRegistry.get("gym.persistence.statements.per.request").summary().totalAmount());
+        assertEquals(1.0, meterRegistry.get("gym.persistence.query.budget.exceeded")
+                .tag("endpoint", "BudgetedHandler.profile").counter().count());
+    }
+
+    @Test
+    void doFilter_IgnoresBudgetOfFailedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/trainees/john");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(new BudgetedHandler(), BudgetedHandler.class.getMethod("profile")));
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            RequestPersistenceCounter.statementPrepared("select 1");
+            RequestPersistenceCounter.statementPrepared("select 2");
+            ((MockHttpServletResponse) res).setStatus(404);
+        });
+
+        assertNull(meterRegistry.find("gym.persistence.query.budget.exceeded").counter());
+    }
+
+    @Test
+    void doFilter_ClearsCountersAfterRequest() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/training-types"), new MockHttpServletResponse(),
+                (request, response) -> RequestPersistenceCounter.sessionOpened());
+
+        assertEquals(0, RequestPersistenceCounter.sessions());
+    }
+
+    @Test
+    void registration_RunsRightAfterDebugLogEscalation() {
+        int metricsOrder = new PersistenceConfig().persistenceMetricsFilter(meterRegistry).getOrder();
+        int escalationOrder = new LoggingConfig().debugLogEscalationFilter("").getOrder();
+
+        assertTrue(escalationOrder < metricsOrder);
+        assertEquals(Ordered.HIGHEST_PRECEDENCE + 1, metricsOrder);
+    }
+
+    static class BudgetedHandler {
+        @QueryBudget(1)
+        public void profile() {
+        }
+    }
+}
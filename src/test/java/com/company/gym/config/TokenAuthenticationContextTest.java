@@ -0,0 +1,127 @@
+package com.company.gym.config;
+
+import com.company.gym.service.AccessTokenService;
+import com.company.gym.util.PasswordUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+ * Boots the whole application with gym.security.auth-mode=token against H2 and an embedded Redis,
+ * so constructor selection, the token filter and the Redis revocation channel are wired for real.
+ * WebMvcTest slices mock AccessTokenService and cannot catch a context that fails to start.
+ */
+@SpringBootTest(properties = {
+        "gym.test.database=token-auth",
+        // The revocation channel needs Redis, so the embedded server replaces the profile's in-memory store.
+        "gym.session.store=redis",
+        "management.health.redis.enabled=true",
+        "gym.security.auth-mode=token",
+        "gym.security.token.secret=MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY="
+})
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+@DirtiesContext
+public class TokenAuthenticationContextTest {
+
+    private static final String USERNAME = "hermione.granger";
+    private static final String PASSWORD = "Passw0rd!";
+
+    private static RedisServer redis;
+    private static int redisPort;
+
+    @Autowired
+    private ApplicationContext context;
+    @Autowired
+    private AccessTokenService accessTokenService;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            redisPort = socket.getLocalPort();
+        }
+        redis = new RedisServer(redisPort);
+        redis.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redis.stop();
+    }
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> redisPort);
+    }
+
+    @Test
+    void contextStartsInTokenMode() {
+        assertTrue(accessTokenService.isEnabled());
+        assertTrue(context.containsBean("tokenRevocationListener"));
+        assertTrue(context.getBean("tokenRevocationListener", RedisMessageListenerContainer.class).isRunning());
+    }
+
+    @Test
+    void loginIssuesBearerTokenAndLogoutRevokesIt() throws Exception {
+        long id = 1L;
+        jdbcTemplate.update("INSERT INTO user_profile (id, first_name, last_name, full_name, username, password, is_active) " +
+                "VALUES (?, 'Hermione', 'Granger', 'Hermione Granger', ?, ?, TRUE)", id, USERNAME, PasswordUtil.hashPassword(PASSWORD));
+        jdbcTemplate.update("INSERT INTO trainee (user_id, date_of_birth, address) VALUES (?, DATE '1979-09-19', 'London')", id);
+
+        MvcResult login = mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + USERNAME + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.SET_COOKIE))
+                .andReturn();
+        JsonNode body = objectMapper.readTree(login.getResponse().getContentAsString());
+        assertEquals("Bearer", body.get("tokenType").asText());
+        String bearer = "Bearer " + body.get("accessToken").asText();
+
+        mockMvc.perform(get("/api/v1/trainees/" + USERNAME).header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/v1/auth/logout").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/trainees/" + USERNAME).header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isForbidden());
+        assertTrue(redisTemplate.opsForHash().hasKey("gym:token:revocations", USERNAME));
+    }
+}
@@ -1,11 +1,16 @@
 package com.company.gym.config;
 
+import com.company.gym.entity.User;
 import com.company.gym.service.AuthService;
+import com.company.gym.service.AccessTokenService;
+import com.company.gym.service.PrincipalCache;
+import com.company.gym.service.TokenRevocationList;
 import com.company.gym.service.TraineeService;
 import com.company.gym.service.TrainerService;
 import com.company.gym.service.TraineeServiceFacade;
 import com.company.gym.service.TrainerServiceFacade;
 import com.company.gym.service.TrainingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -15,10 +20,17 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -34,6 +46,12 @@ public class WebSecurityConfigTest {
     @MockBean
     private AuthService authService;
     @MockBean
+    private PrincipalCache principalCache;
+    @MockBean
+    private AccessTokenService accessTokenService;
+    @MockBean
+    private TokenRevocationList tokenRevocationList;
+    @MockBean
     private UserDetailsService userDetailsService;
     @MockBean
     private TraineeService traineeService;
@@ -84,18 +102,49 @@ public class WebSecurityConfigTest {
 
     @Test
     void userDetailsService_FailsWhenUserNotFound() {
-        when(authService.isUsernameTaken(anyString())).thenReturn(false);
+        when(authService.findUser(anyString())).thenReturn(null);
 
         assertThrows(org.springframework.security.core.userdetails.UsernameNotFoundException.class,
-                () -> new WebSecurityConfig(authService).userDetailsService().loadUserByUsername("non.exist"));
+                () -> newConfig().userDetailsService().loadUserByUsername("non.exist"));
     }
 
     @Test
     void userDetailsService_Success() {
-        when(authService.isUsernameTaken(anyString())).thenReturn(true);
+        when(authService.findUser(anyString())).thenReturn(user(true));
 
-        UserDetails userDetails = new WebSecurityConfig(authService).userDetailsService().loadUserByUsername("exist");
+        UserDetails userDetails = newConfig().userDetailsService().loadUserByUsername("exist");
 
         assertEquals("exist", userDetails.getUsername());
+        assertTrue(userDetails.isEnabled());
+    }
+
+    @Test
+    void userDetailsService_InactiveUserIsDisabled() {
+        when(authService.findUser(anyString())).thenReturn(user(false));
+
+        UserDetails userDetails = newConfig().userDetailsService().loadUserByUsername("inactive");
+
+        assertFalse(userDetails.isEnabled());
+    }
+
+    @Test
+    void userDetailsService_CachesPrincipal() {
+        when(authService.findUser(anyString())).thenReturn(user(true));
+        UserDetailsService service = newConfig().userDetailsService();
+
+        service.loadUserByUsername("exist");
+        service.loadUserByUsername("exist");
+
+        verify(authService, times(1)).findUser("exist");
+    }
+
+    private WebSecurityConfig newConfig() {
+        return new WebSecurityConfig(authService, new PrincipalCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5)));
+    }
+
+    private static User user(boolean active) {
+        User user = new User();
+        user.setIsActive(active);
+        return user;
     }
 }
\ No newline at end of file
@@ -8,6 +8,9 @@ import com.company.gym.dto.response.AuthResponse;
 import com.company.gym.exception.GlobalExceptionHandler;
 import com.company.gym.exception.ValidationException;
 import com.company.gym.service.AuthService;
+import com.company.gym.service.AccessTokenService;
+import com.company.gym.service.PrincipalCache;
+import com.company.gym.service.TokenRevocationList;
 import com.company.gym.service.TraineeService;
 import com.company.gym.service.TrainerService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -60,6 +63,12 @@ public class AuthenticationControllerTest {
     @MockBean
     private AuthService authService;
     @MockBean
+    private PrincipalCache principalCache;
+    @MockBean
+    private AccessTokenService accessTokenService;
+    @MockBean
+    private TokenRevocationList tokenRevocationList;
+    @MockBean
     private TraineeService traineeService;
     @MockBean
     private TrainerService trainerService;
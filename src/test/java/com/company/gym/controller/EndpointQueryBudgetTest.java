@@ -0,0 +1,317 @@
+package com.company.gym.controller;
+
+import com.company.gym.config.PersistenceMetricsFilter;
+import com.company.gym.entity.TrainingType;
+import com.company.gym.service.TrainingTypeRegistry;
+import com.company.gym.util.PasswordUtil;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/*
+ * Runs every REST endpoint against a real schema (H2 in PostgreSQL mode) and fails when a request
+ * issues more SQL statements than the endpoint's @QueryBudget. Fixtures are inserted with JDBC,
+ * so only statements issued by the request itself are counted. Each trainee has several trainers
+ * and trainings, so per-row lazy loading shows up as extra statements.
+ */
+@SpringBootTest(properties = {
+        "gym.test.database=query-budget",
+        "gym.persistence.capture-sql=true"
+})
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+public class EndpointQueryBudgetTest {
+
+    private static final String PASSWORD = "Passw0rd!";
+    private static final String PASSWORD_HASH = PasswordUtil.hashPassword(PASSWORD);
+    // Served by Spring Security filters before the DispatcherServlet; the controller methods only document them.
+    private static final Set<String> FILTER_ENDPOINTS = Set.of("login", "logout");
+
+    private static final AtomicLong ids = new AtomicLong(1_000_000);
+    private static boolean trainingTypesSeeded;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TrainingTypeRegistry trainingTypeRegistry;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @BeforeEach
+    void setUp() {
+        if (!trainingTypesSeeded) {
+            jdbcTemplate.update("INSERT INTO training_type (id, training_type_name) VALUES (1, 'Yoga'), (2, 'Cardio'), (3, 'Stretching')");
+            trainingTypeRegistry.invalidate();
+            // Production serves training types from the second-level cache; warm it so budgets do not depend on test order.
+            for (long id = 1; id <= 3; id++) {
+                entityManager.find(TrainingType.class, id);
+            }
+            trainingTypesSeeded = true;
+        }
+    }
+
+    @Test
+    void everyEndpointDeclaresABudget() {
+        List<String> missing = new ArrayList<>();
+        handlerMapping.getHandlerMethods().values().stream()
+                .filter(handler -> handler.getBeanType().getPackageName().equals(QueryBudget.class.getPackageName()))
+                .filter(handler -> !FILTER_ENDPOINTS.contains(handler.getMethod().getName()))
+                .filter(handler -> !handler.hasMethodAnnotation(QueryBudget.class))
+                .forEach(handler -> missing.add(handler.getShortLogMessage()));
+
+        assertTrue(missing.isEmpty(), "Endpoints without @QueryBudget: " + missing);
+    }
+
+    @Test
+    void registerTrainee() throws Exception {
+        withinBudget(post("/api/v1/auth/trainee/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"firstName\":\"Luna\",\"lastName\":\"Lovegood\",\"dateOfBirth\":\"2000-02-13\",\"address\":\"Ottery\"}"));
+    }
+
+    @Test
+    void registerTrainer() throws Exception {
+        withinBudget(post("/api/v1/auth/trainer/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"firstName\":\"Remus\",\"lastName\":\"Lupin\",\"specializationId\":1}"));
+    }
+
+    @Test
+    void changePassword() throws Exception {
+        String trainee = trainee(trainer(), trainer());
+
+        withinBudget(put("/api/v1/auth/change-password").with(user(trainee))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + trainee + "\",\"oldPassword\":\"" + PASSWORD + "\",\"newPassword\":\"N3wPassw0rd!\"}"));
+    }
+
+    @Test
+    void getTraineeProfile() throws Exception {
+        String trainee = trainee(trainer(), trainer(), trainer());
+
+        withinBudget(get("/api/v1/trainees/" + trainee).with(user(trainee)));
+    }
+
+    @Test
+    void updateTraineeProfile() throws Exception {
+        String trainee = trainee(trainer(), trainer(), trainer());
+
+        withinBudget(put("/api/v1/trainees/" + trainee).with(user(trainee))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"firstName\":\"Ginny\",\"lastName\":\"Weasley\",\"address\":\"The Burrow\",\"isActive\":true}"));
+    }
+
+    @Test
+    void deleteTraineeProfile() throws Exception {
+        String first = trainer();
+        String second = trainer();
+        String trainee = trainee(first, second);
+        trainings(trainee, first, 3);
+        trainings(trainee, second, 3);
+
+        withinBudget(delete("/api/v1/trainees/" + trainee).with(user(trainee)));
+
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM training WHERE trainee_id = ?", Integer.class, idOf(trainee)));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM trainee_trainer WHERE trainee_id = ?", Integer.class, idOf(trainee)));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM trainee WHERE user_id = ?", Integer.class, idOf(trainee)));
+    }
+
+    @Test
+    void updateTraineeTrainers() throws Exception {
+        String trainee = trainee(trainer(), trainer());
+        String third = trainer();
+        String fourth = trainer();
+
+        withinBudget(put("/api/v1/trainees/" + trainee + "/trainers").with(user(trainee))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"trainerUsernames\":[\"" + third + "\",\"" + fourth + "\"]}"));
+    }
+
+    @Test
+    void getTraineeTrainings() throws Exception {
+        String first = trainer();
+        String second = trainer();
+        String trainee = trainee(first, second);
+        trainings(trainee, first, 4);
+        trainings(trainee, second, 4);
+
+        withinBudget(get("/api/v1/trainees/" + trainee + "/trainings?size=5").with(user(trainee)));
+    }
+
+    @Test
+    void updateTraineeStatus() throws Exception {
+        String trainee = trainee(trainer());
+
+        withinBudget(patch("/api/v1/trainees/" + trainee + "/status").with(user(trainee))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"isActive\":false}"));
+    }
+
+    @Test
+    void getTrainerProfile() throws Exception {
+        String trainer = trainer();
+        trainee(trainer);
+        trainee(trainer);
+        trainee(trainer);
+
+        withinBudget(get("/api/v1/trainers/" + trainer).with(user(trainer)));
+    }
+
+    @Test
+    void updateTrainerProfile() throws Exception {
+        String trainer = trainer();
+        trainee(trainer);
+        trainee(trainer);
+
+        withinBudget(put("/api/v1/trainers/" + trainer).with(user(trainer))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"firstName\":\"Minerva\",\"lastName\":\"McGonagall\",\"specializationId\":2,\"isActive\":true}"));
+    }
+
+    @Test
+    void getUnassignedTrainers() throws Exception {
+        trainer();
+        trainer();
+        String trainee = trainee(trainer());
+
+        withinBudget(get("/api/v1/trainees/" + trainee + "/unassigned-trainers").with(user(trainee)));
+    }
+
+    @Test
+    void getTrainerTrainings() throws Exception {
+        String trainer = trainer();
+        trainings(trainee(trainer), trainer, 4);
+        trainings(trainee(trainer), trainer, 4);
+
+        withinBudget(get("/api/v1/trainers/" + trainer + "/trainings?size=5").with(user(trainer)));
+    }
+
+    @Test
+    void updateTrainerStatus() throws Exception {
+        String trainer = trainer();
+
+        withinBudget(patch("/api/v1/trainers/" + trainer + "/status").with(user(trainer))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"isActive\":false}"));
+    }
+
+    @Test
+    void getTrainingTypes() throws Exception {
+        String trainer = trainer();
+
+        withinBudget(get("/api/v1/training-types").with(user(trainer)));
+    }
+
+    @Test
+    void createTraining() throws Exception {
+        String trainer = trainer();
+        String trainee = trainee(trainer);
+
+        withinBudget(post("/api/v1/trainings").with(user(trainee))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(trainingJson(trainee, trainer, 1)));
+    }
+
+    @Test
+    void createTrainings() throws Exception {
+        String first = trainer();
+        String second = trainer();
+        String trainee = trainee(first, second);
+
+        withinBudget(post("/api/v1/trainings/batch").with(user(trainee))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + trainingJson(trainee, first, 1) + "," + trainingJson(trainee, second, 2) + ","
+                        + trainingJson(trainee, first, 3) + "," + trainingJson(trainee, second, 4) + "]"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void withinBudget(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        int status = result.getResponse().getStatus();
+        assertTrue(status < 400, "Request failed with " + status + ": " + result.getResponse().getContentAsString());
+
+        HandlerMethod handler = (HandlerMethod) result.getHandler();
+        QueryBudget budget = handler.getMethodAnnotation(QueryBudget.class);
+        assertNotNull(budget, handler.getShortLogMessage() + " has no @QueryBudget");
+
+        List<String> statements = (List<String>) result.getRequest().getAttribute(PersistenceMetricsFilter.STATEMENTS_ATTRIBUTE);
+        if (statements.size() > budget.value()) {
+            StringBuilder message = new StringBuilder()
+                    .append(handler.getShortLogMessage()).append(" issued ").append(statements.size())
+                    .append(" SQL statements, budget is ").append(budget.value()).append(':');
+            for (int i = 0; i < statements.size(); i++) {
+                message.append(System.lineSeparator()).append(i + 1).append(". ").append(statements.get(i));
+            }
+            fail(message.toString());
+        }
+    }
+
+    private String trainer() {
+        long id = ids.incrementAndGet();
+        String username = "coach." + id;
+        insertUser(id, "Coach", String.valueOf(id), username);
+        jdbcTemplate.update("INSERT INTO trainer (user_id, specialization_id) VALUES (?, 1)", id);
+        return username;
+    }
+
+    private String trainee(String... trainers) {
+        long id = ids.incrementAndGet();
+        String username = "member." + id;
+        insertUser(id, "Member", String.valueOf(id), username);
+        jdbcTemplate.update("INSERT INTO trainee (user_id, date_of_birth, address) VALUES (?, DATE '1995-05-05', 'Hogsmeade')", id);
+        for (String trainer : trainers) {
+            jdbcTemplate.update("INSERT INTO trainee_trainer (trainee_id, trainer_id) VALUES (?, ?)", id, idOf(trainer));
+        }
+        return username;
+    }
+
+    private void trainings(String trainee, String trainer, int count) {
+        for (int i = 0; i < count; i++) {
+            jdbcTemplate.update("INSERT INTO training (id, training_name, training_date, training_duration, trainee_id, trainer_id, training_type_id) " +
+                            "VALUES (?, ?, ?, 60, ?, ?, 1)",
+                    ids.incrementAndGet(), "Session " + i, Date.valueOf(LocalDate.of(2024, 1, 1).plusDays(i)), idOf(trainee), idOf(trainer));
+        }
+    }
+
+    private void insertUser(long id, String firstName, String lastName, String username) {
+        jdbcTemplate.update("INSERT INTO user_profile (id, first_name, last_name, full_name, username, password, is_active) " +
+                "VALUES (?, ?, ?, ?, ?, ?, TRUE)", id, firstName, lastName, firstName + " " + lastName, username, PASSWORD_HASH);
+    }
+
+    private static long idOf(String username) {
+        return Long.parseLong(username.substring(username.indexOf('.') + 1));
+    }
+
+    private static String trainingJson(String trainee, String trainer, int daysAhead) {
+        return "{\"traineeUsername\":\"" + trainee + "\",\"trainerUsername\":\"" + trainer + "\",\"trainingName\":\"Morning run\"," +
+                "\"trainingDate\":\"" + LocalDate.now().plusDays(daysAhead) + "\",\"trainingDuration\":45}";
+    }
+}
@@ -8,8 +8,12 @@ import com.company.gym.dto.request.UserStatusUpdateRequest;
 import com.company.gym.dto.response.TraineeProfileResponse;
 import com.company.gym.dto.response.TrainerShortResponse;
 import com.company.gym.dto.response.TrainingListResponse;
+import com.company.gym.dto.response.TrainingPageResponse;
 import com.company.gym.exception.AuthenticationException;
 import com.company.gym.service.AuthService;
+import com.company.gym.service.AccessTokenService;
+import com.company.gym.service.PrincipalCache;
+import com.company.gym.service.TokenRevocationList;
 import com.company.gym.service.TraineeServiceFacade;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -56,6 +60,12 @@ public class TraineeControllerTest {
 
     @MockBean
     private AuthService authService;
+    @MockBean
+    private PrincipalCache principalCache;
+    @MockBean
+    private AccessTokenService accessTokenService;
+    @MockBean
+    private TokenRevocationList tokenRevocationList;
 
     private UserDetails mockPrincipal;
     private TraineeProfileResponse mockProfileResponse;
@@ -184,8 +194,8 @@ public class TraineeControllerTest {
         mockTrainingResponse.setTrainingName("Yoga");
 
         when(traineeServiceFacade.getTrainings(
-                eq(TRAINEE_USERNAME), any(Date.class), any(Date.class), eq("Trainer"), eq("Yoga")))
-                .thenReturn(List.of(mockTrainingResponse));
+                eq(TRAINEE_USERNAME), any(Date.class), any(Date.class), eq("Trainer"), eq("Yoga"), isNull(), isNull()))
+                .thenReturn(new TrainingPageResponse(List.of(mockTrainingResponse), null));
 
         mockMvc.perform(get(BASE_URL + "/{username}/trainings", TRAINEE_USERNAME)
                         .with(user(mockPrincipal))
@@ -194,25 +204,25 @@ public class TraineeControllerTest {
                         .param("trainerName", "Trainer")
                         .param("trainingTypeName", "Yoga"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].trainingName").value("Yoga"));
+                .andExpect(jsonPath("$.items[0].trainingName").value("Yoga"));
 
         verify(traineeServiceFacade, times(1)).getTrainings(
-                eq(TRAINEE_USERNAME), any(Date.class), any(Date.class), eq("Trainer"), eq("Yoga"));
+                eq(TRAINEE_USERNAME), any(Date.class), any(Date.class), eq("Trainer"), eq("Yoga"), isNull(), isNull());
     }
 
     @Test
     void getTrainings_Success_WithoutFilters() throws Exception {
         when(traineeServiceFacade.getTrainings(
-                eq(TRAINEE_USERNAME), isNull(), isNull(), isNull(), isNull()))
-                .thenReturn(List.of());
+                eq(TRAINEE_USERNAME), isNull(), isNull(), isNull(), isNull(), isNull(), isNull()))
+                .thenReturn(new TrainingPageResponse(List.of(), null));
 
         mockMvc.perform(get(BASE_URL + "/{username}/trainings", TRAINEE_USERNAME)
                         .with(user(mockPrincipal)))
                 .andExpect(status().isOk())
-                .andExpect(content().json("[]"));
+                .andExpect(content().json("{\"items\": []}"));
 
         verify(traineeServiceFacade, times(1)).getTrainings(
-                eq(TRAINEE_USERNAME), isNull(), isNull(), isNull(), isNull());
+                eq(TRAINEE_USERNAME), isNull(), isNull(), isNull(), isNull(), isNull(), isNull());
     }
 
     @Test
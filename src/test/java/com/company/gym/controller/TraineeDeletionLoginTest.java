@@ -0,0 +1,63 @@
+package com.company.gym.controller;
+
+import com.company.gym.util.PasswordUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+ * With gym.trainees.deletion.mode=async the trainee row is only marked deleted and the user profile stays behind,
+ * so the delete itself has to switch the profile off: the same credentials must stop logging in at once.
+ */
+@SpringBootTest(properties = {
+        "gym.test.database=trainee-deletion",
+        "gym.trainees.deletion.mode=async"
+})
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+public class TraineeDeletionLoginTest {
+
+    private static final long ID = 1L;
+    private static final String USERNAME = "luna.lovegood";
+    private static final String PASSWORD = "Passw0rd!";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void loginFailsAfterAsyncDelete() throws Exception {
+        jdbcTemplate.update("INSERT INTO user_profile (id, first_name, last_name, full_name, username, password, is_active) " +
+                "VALUES (?, 'Luna', 'Lovegood', 'Luna Lovegood', ?, ?, TRUE)", ID, USERNAME, PasswordUtil.hashPassword(PASSWORD));
+        jdbcTemplate.update("INSERT INTO trainee (user_id, date_of_birth, address) VALUES (?, DATE '1981-02-13', 'Ottery St Catchpole')", ID);
+
+        mockMvc.perform(login()).andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/v1/trainees/" + USERNAME).with(user(USERNAME)))
+                .andExpect(status().isAccepted());
+
+        assertNotNull(jdbcTemplate.queryForObject("SELECT deleted_at FROM trainee WHERE user_id = ?", Object.class, ID));
+        assertEquals(Boolean.FALSE, jdbcTemplate.queryForObject("SELECT is_active FROM user_profile WHERE id = ?", Boolean.class, ID));
+        mockMvc.perform(login()).andExpect(status().isUnauthorized());
+    }
+
+    private RequestBuilder login() {
+        return post("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + USERNAME + "\",\"password\":\"" + PASSWORD + "\"}");
+    }
+}
@@ -7,9 +7,14 @@ import com.company.gym.dto.request.UserStatusUpdateRequest;
 import com.company.gym.dto.response.TrainerProfileResponse;
 import com.company.gym.dto.response.TrainerShortResponse;
 import com.company.gym.dto.response.TrainingListResponse;
+import com.company.gym.dto.response.TrainingPageResponse;
 import com.company.gym.exception.AuthenticationException;
 import com.company.gym.service.AuthService;
+import com.company.gym.service.AccessTokenService;
+import com.company.gym.service.PrincipalCache;
+import com.company.gym.service.TokenRevocationList;
 import com.company.gym.service.TrainerServiceFacade;
+import com.company.gym.service.TrainingTypeCatalog;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +27,7 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.List;
 
@@ -42,6 +48,8 @@ public class TrainerControllerTest {
     private static final String TRAINEE_USERNAME = "trainee.user";
     private static final String OTHER_USERNAME = "other.user";
     private static final String BASE_URL = "/api/v1";
+    private static final TrainingTypeCatalog.Payload TYPES_PAYLOAD = new TrainingTypeCatalog.Payload(
+            "[{\"id\":1,\"trainingTypeName\":\"Yoga\"}]".getBytes(StandardCharsets.UTF_8), "\"0a1b2c\"");
 
     @Autowired
     private MockMvc mockMvc;
@@ -54,6 +62,12 @@ public class TrainerControllerTest {
 
     @MockBean
     private AuthService authService;
+    @MockBean
+    private PrincipalCache principalCache;
+    @MockBean
+    private AccessTokenService accessTokenService;
+    @MockBean
+    private TokenRevocationList tokenRevocationList;
 
     private UserDetails mockPrincipal;
     private TrainerProfileResponse mockProfileResponse;
@@ -149,28 +163,31 @@ public class TrainerControllerTest {
     @Test
     void getTrainings_Success_WithFilters() throws Exception {
         TrainingListResponse mockTrainingResponse = new TrainingListResponse();
-        when(trainerServiceFacade.getTrainings(eq(TRAINER_USERNAME), any(Date.class), any(Date.class)))
-                .thenReturn(List.of(mockTrainingResponse));
+        when(trainerServiceFacade.getTrainings(eq(TRAINER_USERNAME), any(Date.class), any(Date.class), eq("abc"), eq(20)))
+                .thenReturn(new TrainingPageResponse(List.of(mockTrainingResponse), "next"));
 
         mockMvc.perform(get(BASE_URL + "/trainers/{username}/trainings", TRAINER_USERNAME)
                         .with(user(mockPrincipal))
                         .param("fromDate", "2023-01-01")
-                        .param("toDate", "2023-12-31"))
-                .andExpect(status().isOk());
+                        .param("toDate", "2023-12-31")
+                        .param("cursor", "abc")
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("next"));
 
-        verify(trainerServiceFacade, times(1)).getTrainings(eq(TRAINER_USERNAME), any(Date.class), any(Date.class));
+        verify(trainerServiceFacade, times(1)).getTrainings(eq(TRAINER_USERNAME), any(Date.class), any(Date.class), eq("abc"), eq(20));
     }
 
     @Test
     void getTrainings_Success_WithoutFilters() throws Exception {
-        when(trainerServiceFacade.getTrainings(eq(TRAINER_USERNAME), isNull(), isNull()))
-                .thenReturn(List.of());
+        when(trainerServiceFacade.getTrainings(eq(TRAINER_USERNAME), isNull(), isNull(), isNull(), isNull()))
+                .thenReturn(new TrainingPageResponse(List.of(), null));
 
         mockMvc.perform(get(BASE_URL + "/trainers/{username}/trainings", TRAINER_USERNAME)
                         .with(user(mockPrincipal)))
                 .andExpect(status().isOk());
 
-        verify(trainerServiceFacade, times(1)).getTrainings(eq(TRAINER_USERNAME), isNull(), isNull());
+        verify(trainerServiceFacade, times(1)).getTrainings(eq(TRAINER_USERNAME), isNull(), isNull(), isNull(), isNull());
     }
 
     @Test
@@ -199,4 +216,26 @@ public class TrainerControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.error").value("Bad Request"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAllTrainingTypes_ServesPayloadWithEtag() throws Exception {
+        when(trainerServiceFacade.getTrainingTypesPayload()).thenReturn(TYPES_PAYLOAD);
+
+        mockMvc.perform(get(BASE_URL + "/training-types").with(user(mockPrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", TYPES_PAYLOAD.etag()))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].trainingTypeName").value("Yoga"));
+    }
+
+    @Test
+    void getAllTrainingTypes_NotModifiedOnMatchingEtag() throws Exception {
+        when(trainerServiceFacade.getTrainingTypesPayload()).thenReturn(TYPES_PAYLOAD);
+
+        mockMvc.perform(get(BASE_URL + "/training-types")
+                        .with(user(mockPrincipal))
+                        .header("If-None-Match", TYPES_PAYLOAD.etag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+}
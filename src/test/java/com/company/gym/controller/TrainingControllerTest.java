@@ -5,6 +5,9 @@ import com.company.gym.config.WebSecurityConfig;
 import com.company.gym.dto.request.TrainingRequest;
 import com.company.gym.exception.AuthenticationException;
 import com.company.gym.service.AuthService;
+import com.company.gym.service.AccessTokenService;
+import com.company.gym.service.PrincipalCache;
+import com.company.gym.service.TokenRevocationList;
 import com.company.gym.service.TrainingService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,14 +21,19 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -49,6 +57,12 @@ public class TrainingControllerTest {
 
     @MockBean
     private AuthService authService;
+    @MockBean
+    private PrincipalCache principalCache;
+    @MockBean
+    private AccessTokenService accessTokenService;
+    @MockBean
+    private TokenRevocationList tokenRevocationList;
 
     private TrainingRequest validRequest;
     private UserDetails traineePrincipal;
@@ -128,4 +142,44 @@ public class TrainingControllerTest {
 
         verify(trainingService, never()).createTraining(any(), any(), any(), any(), any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void createTrainings_ReportsPerItemErrors() throws Exception {
+        TrainingRequest invalid = new TrainingRequest();
+        invalid.setTraineeUsername(TRAINEE_USERNAME);
+        invalid.setTrainerUsername(TRAINER_USERNAME);
+        TrainingRequest foreign = new TrainingRequest();
+        foreign.setTraineeUsername(OTHER_USERNAME);
+        foreign.setTrainerUsername(TRAINER_USERNAME);
+        foreign.setTrainingName("Strength");
+        foreign.setTrainingDate(validRequest.getTrainingDate());
+        foreign.setTrainingDuration(60);
+        when(trainingService.createTrainings(anyList())).thenReturn(Map.of(1, "Trainer 'x' is not associated with Trainee 'y'."));
+
+        mockMvc.perform(post(BASE_URL + "/batch")
+                        .with(user(traineePrincipal))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(validRequest, invalid, validRequest, foreign))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.errors.length()").value(3))
+                .andExpect(jsonPath("$.errors[0].index").value(1))
+                .andExpect(jsonPath("$.errors[1].index").value(2))
+                .andExpect(jsonPath("$.errors[2].index").value(3));
+
+        verify(trainingService).createTrainings(argThat(items -> items.size() == 2));
+    }
+
+    @Test
+    void createTrainings_RejectsOversizedBatch() throws Exception {
+        List<TrainingRequest> requests = Collections.nCopies(1001, validRequest);
+
+        mockMvc.perform(post(BASE_URL + "/batch")
+                        .with(user(traineePrincipal))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isBadRequest());
+
+        verify(trainingService, never()).createTrainings(any());
+    }
+}
@@ -0,0 +1,129 @@
+package com.company.gym.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+ * Follows nextCursor through whole histories on a real schema (H2 in PostgreSQL mode). Several trainings share
+ * a date and their ids do not follow insertion order, so a page boundary inside a date must fall back to the id.
+ * The trainer name filter is paged over the same rows.
+ * Runs on its own H2 database, so the fixtures never meet those of other @SpringBootTest classes.
+ */
+@SpringBootTest(properties = "gym.test.database=training-paging")
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+public class TrainingPagingTest {
+
+    private static final long TRAINING_TYPE_ID = 50;
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 4);
+    private static final AtomicLong ids = new AtomicLong(2_000_000);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String trainer;
+    private String trainee;
+    private List<String> expectedOrder;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO training_type (id, training_type_name) SELECT ?, 'Pilates' " +
+                "WHERE NOT EXISTS (SELECT 1 FROM training_type WHERE id = ?)", TRAINING_TYPE_ID, TRAINING_TYPE_ID);
+
+        trainer = profile("Coach", "coach.");
+        jdbcTemplate.update("INSERT INTO trainer (user_id, specialization_id) VALUES (?, ?)", idOf(trainer), TRAINING_TYPE_ID);
+        trainee = profile("Member", "member.");
+        jdbcTemplate.update("INSERT INTO trainee (user_id, date_of_birth, address) VALUES (?, DATE '1995-05-05', 'Hogsmeade')", idOf(trainee));
+        jdbcTemplate.update("INSERT INTO trainee_trainer (trainee_id, trainer_id) VALUES (?, ?)", idOf(trainee), idOf(trainer));
+
+        // Ids are reserved up front and handed out in reverse, so within a date the id order is the opposite of insertion order.
+        long base = ids.getAndAdd(10);
+        int[] days = {2, 0, 0, 0, 1, 1, 1, 1, 0, 2};
+        String[] names = new String[days.length];
+        for (int i = 0; i < days.length; i++) {
+            long id = base + days.length - i;
+            names[i] = "Session " + id;
+            jdbcTemplate.update("INSERT INTO training (id, training_name, training_date, training_duration, trainee_id, trainer_id, training_type_id) " +
+                    "VALUES (?, ?, ?, 60, ?, ?, ?)", id, names[i], Date.valueOf(DAY.plusDays(days[i])), idOf(trainee), idOf(trainer), TRAINING_TYPE_ID);
+        }
+
+        expectedOrder = new ArrayList<>();
+        for (int day = 0; day <= 2; day++) {
+            for (int i = days.length - 1; i >= 0; i--) {
+                if (days[i] == day) {
+                    expectedOrder.add(names[i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void traineeTrainings_PagesThroughSharedDatesWithoutGapsOrRepeats() throws Exception {
+        assertEquals(expectedOrder, readAllPages("/api/v1/trainees/" + trainee + "/trainings", trainee, 3));
+    }
+
+    @Test
+    void traineeTrainings_PagesThroughTrainerNameFilter() throws Exception {
+        String path = "/api/v1/trainees/" + trainee + "/trainings";
+
+        assertEquals(expectedOrder, readAllPages(path + "?trainerName=oach " + idOf(trainer), trainee, 3));
+        assertEquals(List.of(), readAllPages(path + "?trainerName=Nobody", trainee, 3));
+    }
+
+    @Test
+    void trainerTrainings_PagesThroughSharedDatesWithoutGapsOrRepeats() throws Exception {
+        assertEquals(expectedOrder, readAllPages("/api/v1/trainers/" + trainer + "/trainings", trainer, 2));
+    }
+
+    private List<String> readAllPages(String path, String username, int size) throws Exception {
+        List<String> names = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            String url = path + (path.contains("?") ? "&" : "?") + "size=" + size + (cursor == null ? "" : "&cursor=" + cursor);
+            String body = mockMvc.perform(get(url).with(user(username)))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode page = objectMapper.readTree(body);
+            page.get("items").forEach(item -> names.add(item.get("trainingName").asText()));
+            cursor = page.hasNonNull("nextCursor") ? page.get("nextCursor").asText() : null;
+            assertTrue(++pages <= expectedOrder.size(), "Paging did not terminate");
+        } while (cursor != null);
+        return names;
+    }
+
+    private String profile(String firstName, String prefix) {
+        long id = ids.incrementAndGet();
+        String username = prefix + id;
+        jdbcTemplate.update("INSERT INTO user_profile (id, first_name, last_name, full_name, username, password, is_active) " +
+                "VALUES (?, ?, ?, ?, ?, 'x', TRUE)", id, firstName, String.valueOf(id), firstName + " " + id, username);
+        return username;
+    }
+
+    private static long idOf(String username) {
+        return Long.parseLong(username.substring(username.indexOf('.') + 1));
+    }
+}
@@ -1,15 +1,14 @@
 package com.company.gym.dao;
 
-import com.company.gym.util.HibernateUtil;
+import jakarta.persistence.EntityManager;
 import org.hibernate.Session;
-import org.hibernate.Transaction;
 import org.hibernate.query.Query;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.Serializable;
 import java.util.Collections;
@@ -30,9 +29,9 @@ class TestEntity implements Serializable {
 public class GenericDAOTest {
 
     @Mock
-    private Session session;
+    private EntityManager entityManager;
     @Mock
-    private Transaction transaction;
+    private Session session;
     @Mock
     private Query<TestEntity> query;
 
@@ -53,140 +52,105 @@ public class GenericDAOTest {
     @BeforeEach
     void setUp() {
         dao = new TestGenericDAO(TestEntity.class);
+        ReflectionTestUtils.setField(dao, "entityManager", entityManager);
         testEntity = new TestEntity();
         testEntity.setId(testId);
 
-        lenient().when(session.beginTransaction()).thenReturn(transaction);
+        lenient().when(entityManager.unwrap(Session.class)).thenReturn(session);
         lenient().when(session.merge(any(TestEntity.class))).thenReturn(testEntity);
     }
 
-    private MockedStatic<HibernateUtil> mockHibernateUtil() {
-        MockedStatic<HibernateUtil> mockedHibernateUtil = mockStatic(HibernateUtil.class);
-        mockedHibernateUtil.when(HibernateUtil::getSessionFactory).thenReturn(mock(org.hibernate.SessionFactory.class));
-        when(HibernateUtil.getSessionFactory().openSession()).thenReturn(session);
-        return mockedHibernateUtil;
+    @Test
+    void saveAll_FlushesAndClearsEveryInterval() {
+        ReflectionTestUtils.setField(dao, "flushInterval", 2);
+        List<TestEntity> entities = List.of(new TestEntity(), new TestEntity(), new TestEntity());
+
+        dao.saveAll(entities);
+
+        verify(session, times(3)).persist(any(TestEntity.class));
+        verify(session, times(2)).flush();
+        verify(session, times(1)).clear();
     }
 
     @Test
     void save_Success() {
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil()) {
-            TestEntity result = dao.save(testEntity);
-
-            verify(session).beginTransaction();
-            verify(session).persist(testEntity);
-            verify(transaction).commit();
-            verify(session).close();
-            assertEquals(testEntity, result);
-        }
+        TestEntity result = dao.save(testEntity);
+
+        verify(session).persist(testEntity);
+        verify(session, never()).beginTransaction();
+        verify(session, never()).close();
+        assertEquals(testEntity, result);
     }
 
     @Test
-    void save_RollbackOnException() {
+    void save_WrapsException() {
         doThrow(new RuntimeException("DB error")).when(session).persist(any());
 
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil()) {
-            RuntimeException exception = assertThrows(RuntimeException.class, () -> dao.save(testEntity));
-            assertTrue(exception.getMessage().contains("Could not save"));
-
-            verify(session).beginTransaction();
-            verify(transaction).rollback();
-            verify(session).close();
-        }
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> dao.save(testEntity));
+        assertTrue(exception.getMessage().contains("Could not save"));
     }
 
     @Test
     void update_Success() {
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil()) {
-            TestEntity result = dao.update(testEntity);
-
-            verify(session).beginTransaction();
-            verify(session).merge(testEntity);
-            verify(transaction).commit();
-            verify(session).close();
-            assertEquals(testEntity, result);
-        }
+        TestEntity result = dao.update(testEntity);
+
+        verify(session).merge(testEntity);
+        verify(session, never()).close();
+        assertEquals(testEntity, result);
     }
 
     @Test
-    void update_RollbackOnException() {
+    void update_WrapsException() {
         when(session.merge(any())).thenThrow(new RuntimeException("DB error"));
 
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil()) {
-            RuntimeException exception = assertThrows(RuntimeException.class, () -> dao.update(testEntity));
-            assertTrue(exception.getMessage().contains("Could not update"));
-
-            verify(session).beginTransaction();
-            verify(transaction).rollback();
-            verify(session).close();
-        }
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> dao.update(testEntity));
+        assertTrue(exception.getMessage().contains("Could not update"));
     }
 
     @Test
     void delete_Success_NotContained() {
         when(session.contains(testEntity)).thenReturn(false);
 
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil()) {
-            dao.delete(testEntity);
+        dao.delete(testEntity);
 
-            verify(session).beginTransaction();
-            verify(session).merge(testEntity);
-            verify(session).remove(testEntity);
-            verify(transaction).commit();
-            verify(session).close();
-        }
+        verify(session).merge(testEntity);
+        verify(session).remove(testEntity);
     }
 
     @Test
     void delete_Success_Contained() {
         when(session.contains(testEntity)).thenReturn(true);
 
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil()) {
-            dao.delete(testEntity);
+        dao.delete(testEntity);
 
-            verify(session).beginTransaction();
-            verify(session, never()).merge(any());
-            verify(session).remove(testEntity);
-            verify(transaction).commit();
-            verify(session).close();
-        }
+        verify(session, never()).merge(any());
+        verify(session).remove(testEntity);
     }
 
     @Test
-    void delete_RollbackOnException() {
+    void delete_WrapsException() {
         when(session.contains(any())).thenThrow(new RuntimeException("DB error"));
 
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil()) {
-            RuntimeException exception = assertThrows(RuntimeException.class, () -> dao.delete(testEntity));
-            assertTrue(exception.getMessage().contains("Could not delete"));
-
-            verify(session).beginTransaction();
-            verify(transaction).rollback();
-            verify(session).close();
-        }
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> dao.delete(testEntity));
+        assertTrue(exception.getMessage().contains("Could not delete"));
     }
 
     @Test
     void findById_Found() {
         when(session.find(TestEntity.class, testId)).thenReturn(testEntity);
 
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil()) {
-            TestEntity result = dao.findById(testId);
+        TestEntity result = dao.findById(testId);
 
-            assertEquals(testEntity, result);
-            verify(session).close();
-        }
+        assertEquals(testEntity, result);
     }
 
     @Test
     void findById_NotFound() {
         when(session.find(TestEntity.class, testId)).thenReturn(null);
 
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil()) {
-            TestEntity result = dao.findById(testId);
+        TestEntity result = dao.findById(testId);
 
-            assertNull(result);
-            verify(session).close();
-        }
+        assertNull(result);
     }
 
     @Test
@@ -195,12 +159,9 @@ public class GenericDAOTest {
         when(session.createQuery(anyString(), eq(TestEntity.class))).thenReturn(query);
         when(query.list()).thenReturn(expectedList);
 
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil()) {
-            List<TestEntity> result = dao.findAll();
+        List<TestEntity> result = dao.findAll();
 
-            assertEquals(expectedList, result);
-            verify(session).close();
-        }
+        assertEquals(expectedList, result);
     }
 
     @Test
@@ -209,11 +170,8 @@ public class GenericDAOTest {
         when(session.createQuery(anyString(), eq(TestEntity.class))).thenReturn(query);
         when(query.list()).thenReturn(expectedList);
 
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil()) {
-            List<TestEntity> result = dao.findAll();
+        List<TestEntity> result = dao.findAll();
 
-            assertEquals(expectedList, result);
-            verify(session).close();
-        }
+        assertEquals(expectedList, result);
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,11 @@
 package com.company.gym.dao;
 
+import com.company.gym.dto.projection.TrainingListRow;
 import com.company.gym.entity.Trainee;
-import com.company.gym.entity.Training;
-import com.company.gym.util.HibernateUtil;
 import com.company.gym.util.QueryUtil;
+import com.company.gym.util.TrainingCursor;
+import jakarta.persistence.EntityManager;
 import org.hibernate.Session;
-import org.hibernate.Transaction;
 import org.hibernate.query.Query;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +22,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -36,49 +37,34 @@ public class TraineeDAOTest {
     @InjectMocks
     private TraineeDAO traineeDAO;
 
+    @Mock
+    private EntityManager entityManager;
     @Mock
     private Session session;
     @Mock
     private Trainee mockTrainee;
-    @Mock
-    private Training mockTraining;
+    private final TrainingListRow mockTraining =
+            new TrainingListRow(1L, "Morning Run", new Date(), "Cardio", 60, "John Doe");
     @Mock
     private Query<Trainee> traineeQuery;
     @Mock
-    private Query<Training> trainingQuery;
-    @Mock
-    private Transaction transaction;
+    private Query<TrainingListRow> trainingQuery;
 
     @BeforeEach
     void setUp() {
         lenient().when(mockTrainee.getId()).thenReturn(TEST_ID);
-        try (MockedStatic<HibernateUtil> mockedUtil = mockStatic(HibernateUtil.class)) {
-            mockedUtil.when(HibernateUtil::getSessionFactory).thenReturn(mock(org.hibernate.SessionFactory.class));
-            lenient().when(HibernateUtil.getSessionFactory().openSession()).thenReturn(session);
-            lenient().when(session.beginTransaction()).thenReturn(transaction);
-        }
-    }
-
-    private MockedStatic<HibernateUtil> mockHibernateUtil() {
-        MockedStatic<HibernateUtil> mockedHibernateUtil = mockStatic(HibernateUtil.class);
-        mockedHibernateUtil.when(HibernateUtil::getSessionFactory).thenReturn(mock(org.hibernate.SessionFactory.class));
-        when(HibernateUtil.getSessionFactory().openSession()).thenReturn(session);
-        return mockedHibernateUtil;
+        lenient().when(entityManager.unwrap(Session.class)).thenReturn(session);
     }
 
-
     @Test
     void findByUsername_TraineeFound() {
         when(session.createQuery(anyString(), eq(Trainee.class))).thenReturn(traineeQuery);
         when(traineeQuery.setParameter("username", TEST_USERNAME)).thenReturn(traineeQuery);
         when(traineeQuery.uniqueResult()).thenReturn(mockTrainee);
 
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil()) {
-            Trainee result = traineeDAO.findByUsername(TEST_USERNAME);
+        Trainee result = traineeDAO.findByUsername(TEST_USERNAME);
 
-            assertEquals(mockTrainee, result);
-            verify(session).close();
-        }
+        assertEquals(mockTrainee, result);
     }
 
     @Test
@@ -87,12 +73,9 @@ public class TraineeDAOTest {
         when(traineeQuery.setParameter("username", TEST_USERNAME)).thenReturn(traineeQuery);
         when(traineeQuery.uniqueResult()).thenReturn(null);
 
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil()) {
-            Trainee result = traineeDAO.findByUsername(TEST_USERNAME);
+        Trainee result = traineeDAO.findByUsername(TEST_USERNAME);
 
-            assertNull(result);
-            verify(session).close();
-        }
+        assertNull(result);
     }
 
     @Test
@@ -101,12 +84,9 @@ public class TraineeDAOTest {
         when(traineeQuery.setParameter("username", TEST_USERNAME)).thenReturn(traineeQuery);
         when(traineeQuery.uniqueResult()).thenReturn(mockTrainee);
 
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil()) {
-            Trainee result = traineeDAO.findByUsernameWithTrainers(TEST_USERNAME);
+        Trainee result = traineeDAO.findByUsernameWithTrainers(TEST_USERNAME);
 
-            assertEquals(mockTrainee, result);
-            verify(session).close();
-        }
+        assertEquals(mockTrainee, result);
     }
 
     @Test
@@ -120,20 +100,18 @@ public class TraineeDAOTest {
 
     @Test
     void getTraineeTrainingsList_AllFiltersNull() {
-        List<Training> expectedList = Collections.singletonList(mockTraining);
+        List<TrainingListRow> expectedList = Collections.singletonList(mockTraining);
         when(trainingQuery.list()).thenReturn(expectedList);
 
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil();
-             MockedStatic<QueryUtil> mockedQueryUtil = mockStatic(QueryUtil.class)) {
+        try (MockedStatic<QueryUtil> mockedQueryUtil = mockStatic(QueryUtil.class)) {
 
             mockedQueryUtil.when(() -> QueryUtil.getTrainingQuery(
-                            eq(TEST_USERNAME), isNull(), isNull(), eq(session), any(StringBuilder.class)))
+                            eq(TEST_USERNAME), isNull(), isNull(), eq(session), any(StringBuilder.class), eq(TrainingListRow.class)))
                     .thenReturn(trainingQuery);
 
-            List<Training> result = traineeDAO.getTraineeTrainingsList(TEST_USERNAME, null, null, null, null);
+            List<TrainingListRow> result = traineeDAO.getTraineeTrainingsList(TEST_USERNAME, null, null, null, null, null, 51);
 
             assertEquals(expectedList, result);
-            verify(session).close();
         }
     }
 
@@ -144,24 +122,28 @@ public class TraineeDAOTest {
         String trainerName = "John Doe";
         String trainingTypeName = "Yoga";
 
-        List<Training> expectedList = Collections.singletonList(mockTraining);
+        List<TrainingListRow> expectedList = Collections.singletonList(mockTraining);
         when(trainingQuery.list()).thenReturn(expectedList);
         when(trainingQuery.setParameter("trainerName", "%" + trainerName + "%")).thenReturn(trainingQuery);
         when(trainingQuery.setParameter("trainingTypeName", trainingTypeName)).thenReturn(trainingQuery);
 
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil();
-             MockedStatic<QueryUtil> mockedQueryUtil = mockStatic(QueryUtil.class)) {
+        try (MockedStatic<QueryUtil> mockedQueryUtil = mockStatic(QueryUtil.class)) {
 
             mockedQueryUtil.when(() -> QueryUtil.getTrainingQuery(
-                            eq(TEST_USERNAME), eq(fromDate), eq(toDate), eq(session), any(StringBuilder.class)))
+                            eq(TEST_USERNAME), eq(fromDate), eq(toDate), eq(session), any(StringBuilder.class), eq(TrainingListRow.class)))
                     .thenReturn(trainingQuery);
 
-            List<Training> result = traineeDAO.getTraineeTrainingsList(TEST_USERNAME, fromDate, toDate, trainerName, trainingTypeName);
+            TrainingCursor cursor = new TrainingCursor(fromDate.getTime(), 7L);
+            List<TrainingListRow> result = traineeDAO.getTraineeTrainingsList(TEST_USERNAME, fromDate, toDate, trainerName, trainingTypeName, cursor, 51);
 
             assertEquals(expectedList, result);
+            mockedQueryUtil.verify(() -> QueryUtil.appendKeyset(any(StringBuilder.class), eq(cursor)));
+            mockedQueryUtil.verify(() -> QueryUtil.bindKeyset(trainingQuery, cursor, 51));
             verify(trainingQuery).setParameter("trainerName", "%" + trainerName + "%");
+            mockedQueryUtil.verify(() -> QueryUtil.getTrainingQuery(eq(TEST_USERNAME), eq(fromDate), eq(toDate), eq(session),
+                    argThat(hql -> hql.toString().contains("(SELECT fu.fullName FROM User fu WHERE fu.id = p.trainer.id) LIKE :trainerName") && !hql.toString().contains("lastName) LIKE")),
+                    eq(TrainingListRow.class)));
             verify(trainingQuery).setParameter("trainingTypeName", trainingTypeName);
-            verify(session).close();
         }
     }
 }
\ No newline at end of file
@@ -1,11 +1,13 @@
 package com.company.gym.dao;
 
+import com.company.gym.dto.projection.TrainerRosterRow;
+import com.company.gym.dto.projection.TrainingListRow;
 import com.company.gym.entity.Trainee;
 import com.company.gym.entity.Trainer;
-import com.company.gym.entity.Training;
 import com.company.gym.entity.User;
-import com.company.gym.util.HibernateUtil;
 import com.company.gym.util.QueryUtil;
+import com.company.gym.util.TrainingCursor;
+import jakarta.persistence.EntityManager;
 import org.hibernate.Session;
 import org.hibernate.query.Query;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Collections;
 import java.util.Date;
@@ -32,35 +35,30 @@ public class TrainerDAOTest {
     private final String TRAINEE_USERNAME = "traineeUser";
     private final Long TRAINEE_ID = 5L;
 
+    @Mock
+    private EntityManager entityManager;
     @Mock
     private Session session;
     @Mock
     private Query<Trainer> trainerQuery;
     @Mock
-    private Query<Training> trainingQuery;
+    private Query<TrainingListRow> trainingQuery;
     @Mock
     private Query<Long> longQuery;
     @Mock
-    private Trainer mockTrainer;
+    private Query<TrainerRosterRow> rosterQuery;
     @Mock
-    private Training mockTraining;
+    private Trainer mockTrainer;
+    private final TrainingListRow mockTraining =
+            new TrainingListRow(1L, "Morning Run", new Date(), "Cardio", 60, "John Doe");
 
     @BeforeEach
     void setUp() {
         trainerDAO = new TrainerDAO();
+        ReflectionTestUtils.setField(trainerDAO, "entityManager", entityManager);
         lenient().when(mockTrainer.getId()).thenReturn(1L);
 
-        try (MockedStatic<HibernateUtil> mockedUtil = mockStatic(HibernateUtil.class)) {
-            mockedUtil.when(HibernateUtil::getSessionFactory).thenReturn(mock(org.hibernate.SessionFactory.class));
-            lenient().when(HibernateUtil.getSessionFactory().openSession()).thenReturn(session);
-        }
-    }
-
-    private MockedStatic<HibernateUtil> mockHibernateUtil() {
-        MockedStatic<HibernateUtil> mockedHibernateUtil = mockStatic(HibernateUtil.class);
-        mockedHibernateUtil.when(HibernateUtil::getSessionFactory).thenReturn(mock(org.hibernate.SessionFactory.class));
-        when(HibernateUtil.getSessionFactory().openSession()).thenReturn(session);
-        return mockedHibernateUtil;
+        lenient().when(entityManager.unwrap(Session.class)).thenReturn(session);
     }
 
     @Test
@@ -69,12 +67,9 @@ public class TrainerDAOTest {
         when(trainerQuery.setParameter("username", TEST_USERNAME)).thenReturn(trainerQuery);
         when(trainerQuery.uniqueResult()).thenReturn(mockTrainer);
 
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil()) {
-            Trainer result = trainerDAO.findByUsername(TEST_USERNAME);
+        Trainer result = trainerDAO.findByUsername(TEST_USERNAME);
 
-            assertEquals(mockTrainer, result);
-            verify(session).close();
-        }
+        assertEquals(mockTrainer, result);
     }
 
     @Test
@@ -83,12 +78,9 @@ public class TrainerDAOTest {
         when(trainerQuery.setParameter("username", TEST_USERNAME)).thenReturn(trainerQuery);
         when(trainerQuery.uniqueResult()).thenReturn(null);
 
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil()) {
-            Trainer result = trainerDAO.findByUsername(TEST_USERNAME);
+        Trainer result = trainerDAO.findByUsername(TEST_USERNAME);
 
-            assertNull(result);
-            verify(session).close();
-        }
+        assertNull(result);
     }
 
     @Test
@@ -97,12 +89,9 @@ public class TrainerDAOTest {
         when(trainerQuery.setParameter("username", TEST_USERNAME)).thenReturn(trainerQuery);
         when(trainerQuery.uniqueResult()).thenReturn(mockTrainer);
 
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil()) {
-            Trainer result = trainerDAO.findByUserNameWithTrainees(TEST_USERNAME);
+        Trainer result = trainerDAO.findByUserNameWithTrainees(TEST_USERNAME);
 
-            assertEquals(mockTrainer, result);
-            verify(session).close();
-        }
+        assertEquals(mockTrainer, result);
     }
 
     @Test
@@ -111,30 +100,25 @@ public class TrainerDAOTest {
         when(trainerQuery.setParameter("username", TEST_USERNAME)).thenReturn(trainerQuery);
         when(trainerQuery.uniqueResult()).thenReturn(null);
 
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil()) {
-            Trainer result = trainerDAO.findByUserNameWithTrainees(TEST_USERNAME);
+        Trainer result = trainerDAO.findByUserNameWithTrainees(TEST_USERNAME);
 
-            assertNull(result);
-            verify(session).close();
-        }
+        assertNull(result);
     }
 
     @Test
     void getTrainerTrainingsList_NoDateFilters() {
-        List<Training> expectedList = Collections.singletonList(mockTraining);
+        List<TrainingListRow> expectedList = Collections.singletonList(mockTraining);
         when(trainingQuery.getResultList()).thenReturn(expectedList);
 
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil();
-             MockedStatic<QueryUtil> mockedQueryUtil = mockStatic(QueryUtil.class)) {
+        try (MockedStatic<QueryUtil> mockedQueryUtil = mockStatic(QueryUtil.class)) {
 
             mockedQueryUtil.when(() -> QueryUtil.getTrainingQuery(
-                            eq(TEST_USERNAME), isNull(), isNull(), eq(session), any(StringBuilder.class)))
+                            eq(TEST_USERNAME), isNull(), isNull(), eq(session), any(StringBuilder.class), eq(TrainingListRow.class)))
                     .thenReturn(trainingQuery);
 
-            List<Training> result = trainerDAO.getTrainerTrainingsList(TEST_USERNAME, null, null);
+            List<TrainingListRow> result = trainerDAO.getTrainerTrainingsList(TEST_USERNAME, null, null, null, 51);
 
             assertEquals(expectedList, result);
-            verify(session).close();
         }
     }
 
@@ -142,20 +126,21 @@ public class TrainerDAOTest {
     void getTrainerTrainingsList_WithDateFilters() {
         Date fromDate = new Date();
         Date toDate = new Date();
-        List<Training> expectedList = Collections.singletonList(mockTraining);
+        List<TrainingListRow> expectedList = Collections.singletonList(mockTraining);
         when(trainingQuery.getResultList()).thenReturn(expectedList);
 
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil();
-             MockedStatic<QueryUtil> mockedQueryUtil = mockStatic(QueryUtil.class)) {
+        try (MockedStatic<QueryUtil> mockedQueryUtil = mockStatic(QueryUtil.class)) {
 
             mockedQueryUtil.when(() -> QueryUtil.getTrainingQuery(
-                            eq(TEST_USERNAME), eq(fromDate), eq(toDate), eq(session), any(StringBuilder.class)))
+                            eq(TEST_USERNAME), eq(fromDate), eq(toDate), eq(session), any(StringBuilder.class), eq(TrainingListRow.class)))
                     .thenReturn(trainingQuery);
 
-            List<Training> result = trainerDAO.getTrainerTrainingsList(TEST_USERNAME, fromDate, toDate);
+            TrainingCursor cursor = new TrainingCursor(fromDate.getTime(), 7L);
+            List<TrainingListRow> result = trainerDAO.getTrainerTrainingsList(TEST_USERNAME, fromDate, toDate, cursor, 51);
 
             assertEquals(expectedList, result);
-            verify(session).close();
+            mockedQueryUtil.verify(() -> QueryUtil.appendKeyset(any(StringBuilder.class), eq(cursor)));
+            mockedQueryUtil.verify(() -> QueryUtil.bindKeyset(trainingQuery, cursor, 51));
         }
     }
 
@@ -165,12 +150,9 @@ public class TrainerDAOTest {
         when(longQuery.setParameter("username", TRAINEE_USERNAME)).thenReturn(longQuery);
         when(longQuery.uniqueResult()).thenReturn(null);
 
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil()) {
-            List<Trainer> result = trainerDAO.findUnassignedTrainers(TRAINEE_USERNAME);
+        List<Trainer> result = trainerDAO.findUnassignedTrainers(TRAINEE_USERNAME);
 
-            assertTrue(result.isEmpty());
-            verify(session).close();
-        }
+        assertTrue(result.isEmpty());
     }
 
     @Test
@@ -180,27 +162,76 @@ public class TrainerDAOTest {
         when(longQuery.setParameter("username", TRAINEE_USERNAME)).thenReturn(longQuery);
         when(longQuery.uniqueResult()).thenReturn(TRAINEE_ID);
 
-        when(session.createQuery(argThat(s -> s.contains("NOT IN")), eq(Trainer.class))).thenReturn(trainerQuery);
+        when(session.createQuery(argThat(s -> s.contains("NOT EXISTS")), eq(Trainer.class))).thenReturn(trainerQuery);
         when(trainerQuery.setParameter("traineeId", TRAINEE_ID)).thenReturn(trainerQuery);
         when(trainerQuery.getResultList()).thenReturn(expectedList);
 
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil()) {
-            List<Trainer> result = trainerDAO.findUnassignedTrainers(TRAINEE_USERNAME);
+        List<Trainer> result = trainerDAO.findUnassignedTrainers(TRAINEE_USERNAME);
 
-            assertEquals(expectedList, result);
-            verify(session).close();
-        }
+        assertEquals(expectedList, result);
     }
 
     @Test
     void findUnassignedTrainers_ExceptionHandling() {
         when(session.createQuery(anyString(), eq(Long.class))).thenThrow(new RuntimeException("DB error"));
 
-        try (MockedStatic<HibernateUtil> mockedUtil = mockHibernateUtil()) {
-            List<Trainer> result = trainerDAO.findUnassignedTrainers(TRAINEE_USERNAME);
+        List<Trainer> result = trainerDAO.findUnassignedTrainers(TRAINEE_USERNAME);
 
-            assertTrue(result.isEmpty());
-            verify(session).close();
-        }
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void findByUsernames_UsesSingleInQuery() {
+        List<String> usernames = List.of("a.b", "c.d");
+        when(session.createQuery(argThat(s -> s.contains("IN (:usernames)") && !s.contains("trainees")), eq(Trainer.class)))
+                .thenReturn(trainerQuery);
+        when(trainerQuery.setParameterList("usernames", usernames)).thenReturn(trainerQuery);
+        when(trainerQuery.getResultList()).thenReturn(List.of(mockTrainer));
+
+        assertEquals(List.of(mockTrainer), trainerDAO.findByUsernames(usernames));
+        verify(session, times(1)).createQuery(anyString(), eq(Trainer.class));
+    }
+
+    @Test
+    void findByUsernames_EmptyInput_SkipsQuery() {
+        assertTrue(trainerDAO.findByUsernames(List.of()).isEmpty());
+        verify(entityManager, never()).unwrap(Session.class);
+    }
+
+    @Test
+    void findActiveTrainerRoster_ReturnsProjectedRows() {
+        List<TrainerRosterRow> roster = List.of(new TrainerRosterRow(1L, "jane.smith", "Jane", "Smith", 2L, "Yoga"));
+        when(session.createQuery(argThat(s -> s.contains("u.isActive = true") && s.contains("ORDER BY t.id")),
+                eq(TrainerRosterRow.class))).thenReturn(rosterQuery);
+        when(rosterQuery.getResultList()).thenReturn(roster);
+
+        assertEquals(roster, trainerDAO.findActiveTrainerRoster());
+    }
+
+    @Test
+    void findAssignedTrainerIds_TraineeNotFound_ReturnsNull() {
+        when(session.createQuery(anyString(), eq(Long.class))).thenReturn(longQuery);
+        when(longQuery.setParameter("username", TRAINEE_USERNAME)).thenReturn(longQuery);
+        when(longQuery.getResultList()).thenReturn(List.of());
+
+        assertNull(trainerDAO.findAssignedTrainerIds(TRAINEE_USERNAME));
+    }
+
+    @Test
+    void findAssignedTrainerIds_NoTrainers_ReturnsEmptyArray() {
+        when(session.createQuery(anyString(), eq(Long.class))).thenReturn(longQuery);
+        when(longQuery.setParameter("username", TRAINEE_USERNAME)).thenReturn(longQuery);
+        when(longQuery.getResultList()).thenReturn(Collections.singletonList(null));
+
+        assertArrayEquals(new long[0], trainerDAO.findAssignedTrainerIds(TRAINEE_USERNAME));
+    }
+
+    @Test
+    void findAssignedTrainerIds_ReturnsIds() {
+        when(session.createQuery(anyString(), eq(Long.class))).thenReturn(longQuery);
+        when(longQuery.setParameter("username", TRAINEE_USERNAME)).thenReturn(longQuery);
+        when(longQuery.getResultList()).thenReturn(List.of(3L, 8L));
+
+        assertArrayEquals(new long[] {3L, 8L}, trainerDAO.findAssignedTrainerIds(TRAINEE_USERNAME));
     }
-}
\ No newline at end of file
+}
@@ -1,33 +1,40 @@
 package com.company.gym.dao;
 
+import com.company.gym.dto.projection.TrainingLinkRow;
+import com.company.gym.dto.projection.TrainingPairRow;
 import com.company.gym.entity.Training;
-import com.company.gym.util.HibernateUtil;
+import jakarta.persistence.EntityManager;
 import org.hibernate.Session;
-import org.hibernate.SessionFactory;
-import org.junit.jupiter.api.AfterEach;
+import org.hibernate.query.Query;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
-import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class TrainingDAOTest {
 
+    @Mock
+    private EntityManager entityManager;
     @Mock
     private Session session;
     @Mock
-    private SessionFactory sessionFactory;
+    private Query<TrainingLinkRow> linkQuery;
+    @Mock
+    private Query<TrainingPairRow> pairQuery;
 
     @InjectMocks
     private TrainingDAO trainingDAO;
 
-    private MockedStatic<HibernateUtil> mockedHibernateUtil;
     private Training mockTraining;
 
     @BeforeEach
@@ -35,15 +42,6 @@ public class TrainingDAOTest {
         MockitoAnnotations.openMocks(this);
         mockTraining = new Training();
         mockTraining.setId(1L);
-
-        mockedHibernateUtil = Mockito.mockStatic(HibernateUtil.class);
-        mockedHibernateUtil.when(HibernateUtil::getSessionFactory).thenReturn(sessionFactory);
-        when(sessionFactory.openSession()).thenReturn(session);
-    }
-
-    @AfterEach
-    void tearDown() {
-        mockedHibernateUtil.close();
     }
 
     @Test
@@ -51,4 +49,48 @@ public class TrainingDAOTest {
         Long id = trainingDAO.getEntityId(mockTraining);
         assertEquals(1L, id);
     }
-}
\ No newline at end of file
+
+    @Test
+    void resolveTrainingLink_SelectsIdsAndLinkInOneQuery() {
+        TrainingLinkRow row = new TrainingLinkRow(10L, 20L, 1L, true);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.createQuery(anyString(), eq(TrainingLinkRow.class))).thenReturn(linkQuery);
+        when(linkQuery.uniqueResult()).thenReturn(row);
+
+        TrainingLinkRow result = trainingDAO.resolveTrainingLink("trainee.one", "trainer.one");
+
+        assertSame(row, result);
+        verify(session).createQuery(argThat((String hql) -> hql.contains("MEMBER OF te.trainers")), eq(TrainingLinkRow.class));
+        verify(linkQuery).setParameter("traineeUsername", "trainee.one");
+        verify(linkQuery).setParameter("trainerUsername", "trainer.one");
+    }
+
+    @Test
+    void resolveTrainingLink_ReturnsNullWhenPairMissing() {
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.createQuery(anyString(), eq(TrainingLinkRow.class))).thenReturn(linkQuery);
+        when(linkQuery.uniqueResult()).thenReturn(null);
+
+        assertNull(trainingDAO.resolveTrainingLink("trainee.one", "missing"));
+    }
+
+    @Test
+    void findLinkedPairs_BindsBothUsernameLists() {
+        TrainingPairRow pair = new TrainingPairRow("trainee.one", "trainer.one", 10L, 20L, 1L);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.createQuery(anyString(), eq(TrainingPairRow.class))).thenReturn(pairQuery);
+        when(pairQuery.getResultList()).thenReturn(List.of(pair));
+
+        List<TrainingPairRow> result = trainingDAO.findLinkedPairs(Set.of("trainee.one"), Set.of("trainer.one", "trainer.two"));
+
+        assertEquals(List.of(pair), result);
+        verify(pairQuery).setParameterList("traineeUsernames", Set.of("trainee.one"));
+        verify(pairQuery).setParameterList("trainerUsernames", Set.of("trainer.one", "trainer.two"));
+    }
+
+    @Test
+    void findLinkedPairs_EmptyInputSkipsQuery() {
+        assertTrue(trainingDAO.findLinkedPairs(Set.of(), Set.of("trainer.one")).isEmpty());
+        verify(entityManager, never()).unwrap(Session.class);
+    }
+}
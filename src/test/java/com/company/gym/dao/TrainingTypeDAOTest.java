@@ -1,16 +1,13 @@
 package com.company.gym.dao;
 
 import com.company.gym.entity.TrainingType;
-import com.company.gym.util.HibernateUtil;
+import jakarta.persistence.EntityManager;
 import org.hibernate.Session;
-import org.hibernate.SessionFactory;
 import org.hibernate.query.Query;
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
@@ -25,16 +22,15 @@ import static org.mockito.Mockito.when;
 public class TrainingTypeDAOTest {
 
     @Mock
-    private Session session;
+    private EntityManager entityManager;
     @Mock
-    private SessionFactory sessionFactory;
+    private Session session;
     @Mock
     private Query<TrainingType> query;
 
     @InjectMocks
     private TrainingTypeDAO trainingTypeDAO;
 
-    private MockedStatic<HibernateUtil> mockedHibernateUtil;
     private final String TYPE_NAME = "Yoga";
     private TrainingType mockType;
 
@@ -43,14 +39,7 @@ public class TrainingTypeDAOTest {
         MockitoAnnotations.openMocks(this);
         mockType = new TrainingType(TYPE_NAME);
 
-        mockedHibernateUtil = Mockito.mockStatic(HibernateUtil.class);
-        mockedHibernateUtil.when(HibernateUtil::getSessionFactory).thenReturn(sessionFactory);
-        when(sessionFactory.openSession()).thenReturn(session);
-    }
-
-    @AfterEach
-    void tearDown() {
-        mockedHibernateUtil.close();
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
     }
 
     @Test
@@ -64,7 +53,6 @@ public class TrainingTypeDAOTest {
         assertNotNull(result);
         assertEquals(TYPE_NAME, result.getName());
         verify(query).setParameter("name", TYPE_NAME);
-        verify(session).close();
     }
 
     @Test
@@ -76,7 +64,6 @@ public class TrainingTypeDAOTest {
         TrainingType result = trainingTypeDAO.findByName(TYPE_NAME);
 
         assertNull(result);
-        verify(session).close();
     }
 
     @Test
@@ -89,6 +76,5 @@ public class TrainingTypeDAOTest {
 
         assertFalse(result.isEmpty());
         assertEquals(1, result.size());
-        verify(session).close();
     }
-}
\ No newline at end of file
+}
@@ -1,39 +1,38 @@
 package com.company.gym.dao;
 
 import com.company.gym.entity.User;
-import com.company.gym.util.HibernateUtil;
+import jakarta.persistence.EntityManager;
 import org.hibernate.Session;
-import org.hibernate.SessionFactory;
 import org.hibernate.query.Query;
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class UserDAOTest {
 
     @Mock
-    private Session session;
+    private EntityManager entityManager;
     @Mock
-    private SessionFactory sessionFactory;
+    private Session session;
     @Mock
     private Query<User> query;
+    @Mock
+    private Query<String> usernameQuery;
 
     @InjectMocks
     private UserDAO userDAO;
 
-    private MockedStatic<HibernateUtil> mockedHibernateUtil;
     private final String USERNAME = "test.user";
     private User mockUser;
 
@@ -43,14 +42,7 @@ public class UserDAOTest {
         mockUser = new User();
         mockUser.setUsername(USERNAME);
 
-        mockedHibernateUtil = Mockito.mockStatic(HibernateUtil.class);
-        mockedHibernateUtil.when(HibernateUtil::getSessionFactory).thenReturn(sessionFactory);
-        when(sessionFactory.openSession()).thenReturn(session);
-    }
-
-    @AfterEach
-    void tearDown() {
-        mockedHibernateUtil.close();
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
     }
 
     @Test
@@ -64,7 +56,6 @@ public class UserDAOTest {
         assertNotNull(result);
         assertEquals(USERNAME, result.getUsername());
         verify(query).setParameter("username", USERNAME);
-        verify(session).close();
     }
 
     @Test
@@ -76,6 +67,17 @@ public class UserDAOTest {
         User result = userDAO.findByUsername(USERNAME);
 
         assertNull(result);
-        verify(session).close();
     }
-}
\ No newline at end of file
+
+    @Test
+    void findUsernamesByBase_UsesEscapedPrefix() {
+        when(session.createQuery(anyString(), Mockito.eq(String.class))).thenReturn(usernameQuery);
+        when(usernameQuery.setParameter(anyString(), any())).thenReturn(usernameQuery);
+        when(usernameQuery.list()).thenReturn(List.of("john_doe", "john_doe1"));
+
+        List<String> result = userDAO.findUsernamesByBase("john_doe");
+
+        assertEquals(2, result.size());
+        verify(usernameQuery).setParameter("prefix", "john!_doe%");
+    }
+}
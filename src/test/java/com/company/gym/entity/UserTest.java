@@ -40,6 +40,14 @@ public class UserTest {
         assertFalse(user.getIsActive());
     }
 
+    @Test
+    void testFullNameFollowsNameSetters() {
+        assertEquals("John Doe", user.getFullName());
+
+        user.setLastName("Smith");
+        assertEquals("John Smith", user.getFullName());
+    }
+
     @Test
     void testEqualsAndHashCode_SameId() {
         User user1 = new User();
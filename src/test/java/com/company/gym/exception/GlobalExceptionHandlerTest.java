@@ -2,12 +2,15 @@ package com.company.gym.exception;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
+import java.sql.SQLTransientConnectionException;
 import java.util.List;
 import java.lang.reflect.Method;
 
@@ -132,4 +135,31 @@ public class GlobalExceptionHandlerTest {
         assertEquals("Internal Server Error", responseBody.error());
         assertTrue(responseBody.message().contains("An unexpected error occurred. Please try again later."));
     }
-}
\ No newline at end of file
+
+    @Test
+    void handleDatabaseUnavailableException_ShouldReturnServiceUnavailable() {
+        CannotCreateTransactionException ex = new CannotCreateTransactionException("Could not open JPA EntityManager",
+                new SQLTransientConnectionException("GymPool - Connection is not available, request timed out after 2000ms."));
+
+        ResponseEntity responseEntity = handler.handleDatabaseUnavailableException(ex);
+        TestErrorResponse responseBody = getBody(responseEntity);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, responseEntity.getStatusCode());
+        assertEquals("1", responseEntity.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), responseBody.status());
+        assertEquals("Service Unavailable", responseBody.error());
+    }
+
+    @Test
+    void handleServiceUnavailableException_ShouldReturnServiceUnavailable() {
+        ServiceUnavailableException ex = new ServiceUnavailableException("Password hashing capacity exhausted");
+
+        ResponseEntity responseEntity = handler.handleServiceUnavailableException(ex);
+        TestErrorResponse responseBody = getBody(responseEntity);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, responseEntity.getStatusCode());
+        assertEquals("1", responseEntity.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("Service Unavailable", responseBody.error());
+    }
+}
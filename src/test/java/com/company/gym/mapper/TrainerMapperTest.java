@@ -1,5 +1,6 @@
 package com.company.gym.mapper;
 
+import com.company.gym.dto.projection.TrainingListRow;
 import com.company.gym.dto.response.TrainerProfileResponse;
 import com.company.gym.dto.response.TrainerShortResponse;
 import com.company.gym.dto.response.TraineeShortResponse;
@@ -157,6 +158,21 @@ public class TrainerMapperTest {
         assertNull(result, "Should return null when the input list of trainings is null.");
     }
 
+    @Test
+    void toTrainingListResponseFromRows_CopiesProjectedColumns() {
+        Date date = new Date();
+        TrainingListRow row = new TrainingListRow(3L, "Weights", date, "Fitness", 45, "John Doe");
+
+        List<TrainingListResponse> result = trainerMapper.toTrainingListResponseFromRows(List.of(row));
+
+        assertEquals(1, result.size());
+        assertEquals("Weights", result.get(0).getTrainingName());
+        assertEquals(date, result.get(0).getTrainingDate());
+        assertEquals("Fitness", result.get(0).getTrainingType());
+        assertEquals(45, result.get(0).getTrainingDuration());
+        assertEquals("John Doe", result.get(0).getAssociatedUserName());
+    }
+
     @Test
     void toTrainingTypeResponse_HandlesNullInput() {
         assertNull(trainerMapper.toTrainingTypeResponse(null),
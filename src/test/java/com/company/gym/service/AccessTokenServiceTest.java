@@ -0,0 +1,88 @@
+package com.company.gym.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AccessTokenServiceTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+    private static final Duration TTL = Duration.ofMinutes(15);
+
+    private final AtomicLong now = new AtomicLong(System.currentTimeMillis());
+    private TokenRevocationList revocationList;
+    private AccessTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        revocationList = new TokenRevocationList(TTL);
+        service = new AccessTokenService(revocationList, true, SECRET, TTL, now::get);
+    }
+
+    @Test
+    void issue_ThenVerify_ReturnsUsername() {
+        AccessTokenService.IssuedToken token = service.issue("john.doe");
+
+        assertEquals(TTL.toSeconds(), token.expiresInSeconds());
+        assertTrue(token.value().startsWith("v1."));
+        assertEquals("john.doe", service.verify(token.value()));
+    }
+
+    @Test
+    void verify_RejectsTamperedAndForeignTokens() {
+        String token = service.issue("john.doe").value();
+        String forged = token.substring(0, token.lastIndexOf('.') + 1) + "AAAA";
+        AccessTokenService otherKey = new AccessTokenService(revocationList, true,
+                Base64.getEncoder().encodeToString("another-secret-of-at-least-32-bytes".getBytes()), TTL, now::get);
+
+        assertNull(service.verify(forged));
+        assertNull(service.verify(otherKey.issue("john.doe").value()));
+        assertNull(service.verify("garbage"));
+        assertNull(service.verify(null));
+    }
+
+    @Test
+    void verify_RejectsExpiredToken() {
+        String token = service.issue("john.doe").value();
+
+        now.addAndGet(TTL.toMillis());
+
+        assertNull(service.verify(token));
+    }
+
+    @Test
+    void revoke_InvalidatesTokensIssuedBeforeButNotAfter() {
+        now.set(System.currentTimeMillis() - 1_000);
+        String before = service.issue("john.doe").value();
+        String otherUser = service.issue("jane.doe").value();
+
+        revocationList.revoke("john.doe");
+        now.set(System.currentTimeMillis() + 1_000);
+        String after = service.issue("john.doe").value();
+
+        assertNull(service.verify(before));
+        assertEquals("jane.doe", service.verify(otherUser));
+        assertEquals("john.doe", service.verify(after));
+    }
+
+    @Test
+    void revocationList_IgnoresRevocationsOlderThanTokenTtl() {
+        revocationList.apply("john.doe", System.currentTimeMillis() - TTL.toMillis() - 1);
+
+        assertFalse(revocationList.isRevoked("john.doe", 0));
+    }
+
+    @Test
+    void constructor_TokenModeRequiresStrongSecret() {
+        assertThrows(IllegalStateException.class,
+                () -> new AccessTokenService(revocationList, true, "", TTL, now::get));
+        assertThrows(IllegalStateException.class,
+                () -> new AccessTokenService(revocationList, true, Base64.getEncoder().encodeToString(new byte[16]), TTL, now::get));
+        assertFalse(new AccessTokenService(revocationList, false, "", TTL, now::get).isEnabled());
+    }
+}
@@ -2,8 +2,8 @@ package com.company.gym.service;
 
 import com.company.gym.dao.UserDAO;
 import com.company.gym.entity.User;
+import com.company.gym.exception.ServiceUnavailableException;
 import com.company.gym.exception.ValidationException;
-import com.company.gym.util.PasswordUtil;
 import com.company.gym.util.UserCredentialGenerator;
 import com.company.gym.util.UsernameUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +23,15 @@ public class AuthServiceTest {
 
     @Mock
     private UserDAO userDAO;
+    @Mock
+    private UsernameAllocator usernameAllocator;
+
+    @Mock
+    private PrincipalCache principalCache;
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+    @Mock
+    private PasswordHasher passwordHasher;
 
     @InjectMocks
     private AuthService authService;
@@ -44,13 +53,12 @@ public class AuthServiceTest {
     @Test
     void assignUniqueUsernameAndPassword_Success() {
         try (MockedStatic<UsernameUtil> mockUsernameUtil = Mockito.mockStatic(UsernameUtil.class);
-             MockedStatic<UserCredentialGenerator> mockGenerator = Mockito.mockStatic(UserCredentialGenerator.class);
-             MockedStatic<PasswordUtil> mockPasswordUtil = Mockito.mockStatic(PasswordUtil.class)) {
+             MockedStatic<UserCredentialGenerator> mockGenerator = Mockito.mockStatic(UserCredentialGenerator.class)) {
 
             mockUsernameUtil.when(() -> UsernameUtil.generateBaseUsername("John", "Doe")).thenReturn("john.doe");
-            when(userDAO.findByUsername("john.doe")).thenReturn(null);
+            when(usernameAllocator.allocate("john.doe")).thenReturn("john.doe");
             mockGenerator.when(UserCredentialGenerator::generatePassword).thenReturn(PLAIN_PASSWORD);
-            mockPasswordUtil.when(() -> PasswordUtil.hashPassword(PLAIN_PASSWORD)).thenReturn(HASHED_PASSWORD);
+            when(passwordHasher.hash(PLAIN_PASSWORD)).thenReturn(HASHED_PASSWORD);
 
             String resultPassword = authService.assignUniqueUsernameAndPassword(mockUser);
 
@@ -63,23 +71,19 @@ public class AuthServiceTest {
 
     @Test
     void assignUniqueUsernameAndPassword_CollisionResolution() {
-        User existingUser = new User();
         try (MockedStatic<UsernameUtil> mockUsernameUtil = Mockito.mockStatic(UsernameUtil.class);
-             MockedStatic<UserCredentialGenerator> mockGenerator = Mockito.mockStatic(UserCredentialGenerator.class);
-             MockedStatic<PasswordUtil> mockPasswordUtil = Mockito.mockStatic(PasswordUtil.class)) {
+             MockedStatic<UserCredentialGenerator> mockGenerator = Mockito.mockStatic(UserCredentialGenerator.class)) {
 
             mockUsernameUtil.when(() -> UsernameUtil.generateBaseUsername("John", "Doe")).thenReturn("john.doe");
-            when(userDAO.findByUsername("john.doe")).thenReturn(existingUser);
-            when(userDAO.findByUsername("john.doe1")).thenReturn(existingUser);
-            when(userDAO.findByUsername("john.doe2")).thenReturn(null);
+            when(usernameAllocator.allocate("john.doe")).thenReturn("john.doe2");
 
             mockGenerator.when(UserCredentialGenerator::generatePassword).thenReturn(PLAIN_PASSWORD);
-            mockPasswordUtil.when(() -> PasswordUtil.hashPassword(PLAIN_PASSWORD)).thenReturn(HASHED_PASSWORD);
+            when(passwordHasher.hash(PLAIN_PASSWORD)).thenReturn(HASHED_PASSWORD);
 
             authService.assignUniqueUsernameAndPassword(mockUser);
 
             assertEquals("john.doe2", mockUser.getUsername());
-            verify(userDAO, times(3)).findByUsername(anyString());
+            verify(userDAO, never()).findByUsername(anyString());
         }
     }
 
@@ -88,6 +92,7 @@ public class AuthServiceTest {
         try (MockedStatic<UsernameUtil> mockUsernameUtil = Mockito.mockStatic(UsernameUtil.class)) {
 
             mockUsernameUtil.when(() -> UsernameUtil.generateBaseUsername(anyString(), anyString())).thenThrow(new IllegalArgumentException("Error"));
+            when(usernameAllocator.allocate("")).thenReturn("");
 
             authService.assignUniqueUsernameAndPassword(mockUser);
 
@@ -95,6 +100,14 @@ public class AuthServiceTest {
         }
     }
 
+    @Test
+    void assignUniqueUsernameAndPassword_HashingOverloaded_Propagates() {
+        when(usernameAllocator.allocate(anyString())).thenReturn("john.doe");
+        when(passwordHasher.hash(anyString())).thenThrow(new ServiceUnavailableException("Password hashing capacity exhausted"));
+
+        assertThrows(ServiceUnavailableException.class, () -> authService.assignUniqueUsernameAndPassword(mockUser));
+    }
+
     @Test
     void isUsernameTaken_True() {
         when(userDAO.findByUsername("exists")).thenReturn(mockUser);
@@ -109,12 +122,10 @@ public class AuthServiceTest {
 
     @Test
     void authenticateUser_Success() {
-        try (MockedStatic<PasswordUtil> mockPasswordUtil = Mockito.mockStatic(PasswordUtil.class)) {
-            when(userDAO.findByUsername("john.doe")).thenReturn(mockUser);
-            mockPasswordUtil.when(() -> PasswordUtil.checkPassword(PLAIN_PASSWORD, HASHED_PASSWORD)).thenReturn(true);
+        when(userDAO.findByUsername("john.doe")).thenReturn(mockUser);
+        when(passwordHasher.check(PLAIN_PASSWORD, HASHED_PASSWORD)).thenReturn(true);
 
-            assertTrue(authService.authenticateUser("john.doe", PLAIN_PASSWORD));
-        }
+        assertTrue(authService.authenticateUser("john.doe", PLAIN_PASSWORD));
     }
 
     @Test
@@ -126,12 +137,10 @@ public class AuthServiceTest {
 
     @Test
     void authenticateUser_IncorrectPassword_Failure() {
-        try (MockedStatic<PasswordUtil> mockPasswordUtil = Mockito.mockStatic(PasswordUtil.class)) {
-            when(userDAO.findByUsername("john.doe")).thenReturn(mockUser);
-            mockPasswordUtil.when(() -> PasswordUtil.checkPassword(PLAIN_PASSWORD, HASHED_PASSWORD)).thenReturn(false);
+        when(userDAO.findByUsername("john.doe")).thenReturn(mockUser);
+        when(passwordHasher.check(PLAIN_PASSWORD, HASHED_PASSWORD)).thenReturn(false);
 
-            assertFalse(authService.authenticateUser("john.doe", PLAIN_PASSWORD));
-        }
+        assertFalse(authService.authenticateUser("john.doe", PLAIN_PASSWORD));
     }
 
     @Test
@@ -144,16 +153,16 @@ public class AuthServiceTest {
 
     @Test
     void changePassword_Success() {
-        try (MockedStatic<PasswordUtil> mockPasswordUtil = Mockito.mockStatic(PasswordUtil.class)) {
-            when(userDAO.findByUsername("john.doe")).thenReturn(mockUser);
-            mockPasswordUtil.when(() -> PasswordUtil.checkPassword("oldPass", HASHED_PASSWORD)).thenReturn(true);
-            mockPasswordUtil.when(() -> PasswordUtil.hashPassword("newPass")).thenReturn("newHashed");
+        when(userDAO.findByUsername("john.doe")).thenReturn(mockUser);
+        when(passwordHasher.check("oldPass", HASHED_PASSWORD)).thenReturn(true);
+        when(passwordHasher.hash("newPass")).thenReturn("newHashed");
 
-            authService.changePassword("john.doe", "oldPass", "newPass");
+        authService.changePassword("john.doe", "oldPass", "newPass");
 
-            assertEquals("newHashed", mockUser.getPassword());
-            verify(userDAO).update(mockUser);
-        }
+        assertEquals("newHashed", mockUser.getPassword());
+        verify(userDAO).update(mockUser);
+        verify(principalCache).invalidate("john.doe");
+        verify(tokenRevocationList).revoke("john.doe");
     }
 
     @Test
@@ -166,12 +175,10 @@ public class AuthServiceTest {
 
     @Test
     void changePassword_IncorrectOldPassword_ThrowsException() {
-        try (MockedStatic<PasswordUtil> mockPasswordUtil = Mockito.mockStatic(PasswordUtil.class)) {
-            when(userDAO.findByUsername("john.doe")).thenReturn(mockUser);
-            mockPasswordUtil.when(() -> PasswordUtil.checkPassword("wrongOldPass", HASHED_PASSWORD)).thenReturn(false);
+        when(userDAO.findByUsername("john.doe")).thenReturn(mockUser);
+        when(passwordHasher.check("wrongOldPass", HASHED_PASSWORD)).thenReturn(false);
 
-            assertThrows(ValidationException.class, () -> authService.changePassword("john.doe", "wrongOldPass", "newPass"));
-            verify(userDAO, never()).update(any(User.class));
-        }
+        assertThrows(ValidationException.class, () -> authService.changePassword("john.doe", "wrongOldPass", "newPass"));
+        verify(userDAO, never()).update(any(User.class));
     }
 }
\ No newline at end of file
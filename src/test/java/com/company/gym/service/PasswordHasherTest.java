@@ -0,0 +1,76 @@
+package com.company.gym.service;
+
+import com.company.gym.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordHasherTest {
+
+    private MeterRegistry meterRegistry;
+    private PasswordHasher passwordHasher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHasher = new PasswordHasher(meterRegistry, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    void hashAndCheck_RoundTripOnPool() {
+        String hashed = passwordHasher.hash("secret");
+
+        assertTrue(passwordHasher.check("secret", hashed));
+        assertFalse(passwordHasher.check("wrong", hashed));
+        assertEquals(1, meterRegistry.get("gym.password.hash.duration").tag("operation", "hash").timer().count());
+        assertEquals(2, meterRegistry.get("gym.password.hash.duration").tag("operation", "verify").timer().count());
+    }
+
+    @Test
+    void check_NullInputsReturnFalse() {
+        assertFalse(passwordHasher.check(null, "hash"));
+        assertNull(passwordHasher.hash(null));
+    }
+
+    @Test
+    void submit_QueueFull_ThrowsServiceUnavailable() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            // One task occupies the single worker, the second fills the single queue slot.
+            callers.submit(() -> passwordHasher.submit(() -> release.await(5, TimeUnit.SECONDS)));
+            awaitExecutorGauge("executor.active", 1);
+            callers.submit(() -> passwordHasher.submit(() -> true));
+            awaitExecutorGauge("executor.queued", 1);
+
+            assertThrows(ServiceUnavailableException.class, () -> passwordHasher.hash("secret"));
+            assertEquals(1.0, meterRegistry.get("gym.password.hash.rejected").counter().count());
+        } finally {
+            release.countDown();
+            callers.shutdown();
+            assertTrue(callers.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+
+    private void awaitExecutorGauge(String gauge, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get(gauge).tag("name", "password-hashing").gauge().value() < expected) {
+            assertTrue(System.nanoTime() < deadline, gauge + " never reached " + expected);
+            Thread.sleep(5);
+        }
+    }
+}
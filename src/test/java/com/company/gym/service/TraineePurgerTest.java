@@ -0,0 +1,93 @@
+package com.company.gym.service;
+
+import com.company.gym.dao.TraineeDAO;
+import com.company.gym.dao.TrainingDAO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TraineePurgerTest {
+
+    @Mock
+    private TraineeDAO traineeDAO;
+    @Mock
+    private TrainingDAO trainingDAO;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TraineePurger purger;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        purger = new TraineePurger(traineeDAO, trainingDAO, meterRegistry, "async", 2, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        purger.stop();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void isAsync_FollowsMode() {
+        assertTrue(purger.isAsync());
+        assertFalse(new TraineePurger(traineeDAO, trainingDAO, meterRegistry, "bulk", 2, Duration.ofMinutes(5)).isAsync());
+    }
+
+    @Test
+    void purge_DeletesTrainingsInChunksThenTheTrainee() {
+        when(trainingDAO.deleteChunkByTraineeId(7L, 2)).thenReturn(2, 2, 1);
+
+        purger.purge(7L);
+
+        InOrder order = inOrder(trainingDAO, traineeDAO);
+        order.verify(trainingDAO, times(3)).deleteChunkByTraineeId(7L, 2);
+        order.verify(traineeDAO).deleteWithHistory(7L);
+        assertEquals(5, meterRegistry.counter("gym.trainees.purge.trainings").count());
+    }
+
+    @Test
+    void purge_FailureLeavesTheMarkForTheNextSweep() {
+        when(trainingDAO.deleteChunkByTraineeId(7L, 2)).thenReturn(2).thenThrow(new RuntimeException("lock timeout"));
+
+        assertDoesNotThrow(() -> purger.purge(7L));
+
+        verify(traineeDAO, never()).deleteWithHistory(anyLong());
+    }
+
+    @Test
+    void sweep_PurgesEveryMarkedTrainee() {
+        when(traineeDAO.findIdsMarkedDeleted(anyInt())).thenReturn(List.of(3L, 4L));
+
+        purger.sweep();
+
+        verify(traineeDAO).deleteWithHistory(3L);
+        verify(traineeDAO).deleteWithHistory(4L);
+    }
+
+    @Test
+    void schedule_WaitsForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        purger.schedule(9L);
+        verifyNoInteractions(trainingDAO);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCommit());
+        verify(traineeDAO, timeout(1000)).deleteWithHistory(9L);
+    }
+}
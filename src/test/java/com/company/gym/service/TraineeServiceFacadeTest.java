@@ -83,7 +83,8 @@ public class TraineeServiceFacadeTest {
                 anyString(),
                 anyString(),
                 isNull(Date.class),
-                isNull(String.class)))
+                isNull(String.class),
+                eq(false)))
                 .thenReturn(mockTrainee);
 
         when(traineeMapper.toTraineeProfileResponse(any(Trainee.class))).thenReturn(mockResponse);
@@ -91,22 +92,31 @@ public class TraineeServiceFacadeTest {
         facade.updateProfile("test.user", request);
 
         verify(traineeService, times(1)).updateProfile(
-                eq("test.user"), eq("New"), eq("Name"), isNull(Date.class), isNull(String.class));
-        verify(traineeService, times(1)).activateDeactivateProfile("test.user", false);
+                eq("test.user"), eq("New"), eq("Name"), isNull(Date.class), isNull(String.class), eq(false));
+        verify(traineeService, never()).activateDeactivateProfile(anyString(), any());
 
         verify(traineeMapper, times(1)).toTraineeProfileResponse(mockTrainee);
-
-        assertEquals(false, mockUser.getIsActive());
     }
 
     @Test
     void deleteProfile_CallsServiceAndReturnsNoContent() {
+        when(traineeService.deleteProfile("test.user")).thenReturn(true);
+
         ResponseEntity<Void> response = facade.deleteProfile("test.user");
 
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
         verify(traineeService, times(1)).deleteProfile("test.user");
     }
 
+    @Test
+    void deleteProfile_ReturnsAcceptedWhenPurgeIsDeferred() {
+        when(traineeService.deleteProfile("test.user")).thenReturn(false);
+
+        ResponseEntity<Void> response = facade.deleteProfile("test.user");
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+    }
+
     @Test
     void updateTrainers_CallsServiceAndMapper() {
         UpdateTraineeTrainersRequest request = new UpdateTraineeTrainersRequest();
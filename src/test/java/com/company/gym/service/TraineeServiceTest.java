@@ -17,6 +17,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Date;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -36,6 +37,13 @@ public class TraineeServiceTest {
     @Mock
     private AuthService authService;
 
+    @Mock
+    private PrincipalCache principalCache;
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+    @Mock
+    private TraineePurger traineePurger;
+
     @InjectMocks
     private TraineeService traineeService;
 
@@ -58,6 +66,7 @@ public class TraineeServiceTest {
         mockTrainee.setTrainers(new HashSet<>());
 
         mockTrainer1 = new Trainer();
+        mockTrainer1.setId(11L);
         User trainerUser = new User();
         trainerUser.setUsername("trainer.one");
         mockTrainer1.setUser(trainerUser);
@@ -107,31 +116,75 @@ public class TraineeServiceTest {
     @Test
     void updateProfile_Success() {
         String newFirstName = "NewName";
-        when(traineeDAO.findByUsername(anyString())).thenReturn(mockTrainee);
         when(traineeDAO.findByUsernameWithTrainers(anyString())).thenReturn(mockTrainee);
 
-        Trainee result = traineeService.updateProfile(mockUser.getUsername(), newFirstName, "User", new Date(), "New Address");
+        Trainee result = traineeService.updateProfile(mockUser.getUsername(), newFirstName, "User", new Date(), " New Address ", true);
 
+        assertSame(mockTrainee, result);
         assertEquals(newFirstName, mockUser.getFirstName());
-        verify(userDAO, times(1)).update(mockUser);
-        verify(traineeDAO, times(1)).update(mockTrainee);
+        assertEquals("New Address", mockTrainee.getAddress());
+        verify(traineeDAO, times(1)).findByUsernameWithTrainers(mockUser.getUsername());
+        verify(traineeDAO, never()).findByUsername(anyString());
+        verify(traineeDAO, never()).update(any());
+        verify(principalCache, never()).invalidate(anyString());
+        verify(tokenRevocationList, never()).revoke(anyString());
+    }
+
+    @Test
+    void updateProfile_DeactivationRevokesTokens() {
+        when(traineeDAO.findByUsernameWithTrainers(anyString())).thenReturn(mockTrainee);
+
+        traineeService.updateProfile(mockUser.getUsername(), "Trainee", "User", null, null, false);
+
+        assertFalse(mockUser.getIsActive());
+        verify(principalCache).invalidate(mockUser.getUsername());
+        verify(tokenRevocationList).revoke(mockUser.getUsername());
     }
 
     @Test
     void updateProfile_FailsOnNotFound() {
-        when(traineeDAO.findByUsername(anyString())).thenReturn(null);
+        when(traineeDAO.findByUsernameWithTrainers(anyString())).thenReturn(null);
 
         assertThrows(NotFoundException.class,
-                () -> traineeService.updateProfile("non.exist", "Name", "Last", new Date(), "Address"));
+                () -> traineeService.updateProfile("non.exist", "Name", "Last", new Date(), "Address", true));
     }
 
     @Test
     void deleteProfile_Success() {
-        when(traineeDAO.findByUsername(anyString())).thenReturn(mockTrainee);
+        when(traineeDAO.findIdByUsername(anyString())).thenReturn(1L);
+
+        assertTrue(traineeService.deleteProfile(mockUser.getUsername()));
 
-        traineeService.deleteProfile(mockUser.getUsername());
+        verify(traineeDAO, times(1)).deleteWithHistory(1L);
+        verify(traineeDAO, never()).delete(any());
+        verify(traineePurger, never()).schedule(anyLong());
+        verify(userDAO, times(1)).deactivate(1L);
+        verify(principalCache, times(1)).invalidate(mockUser.getUsername());
+        verify(tokenRevocationList, times(1)).revoke(mockUser.getUsername());
+    }
+
+    @Test
+    void deleteProfile_AsyncModeMarksAndSchedulesPurge() {
+        when(traineeDAO.findIdByUsername(anyString())).thenReturn(1L);
+        when(traineePurger.isAsync()).thenReturn(true);
+
+        assertFalse(traineeService.deleteProfile(mockUser.getUsername()));
+
+        verify(traineeDAO, times(1)).markDeleted(eq(1L), any(Date.class));
+        verify(traineePurger, times(1)).schedule(1L);
+        verify(traineeDAO, never()).deleteWithHistory(anyLong());
+        verify(userDAO, times(1)).deactivate(1L);
+        verify(principalCache, times(1)).invalidate(mockUser.getUsername());
+        verify(tokenRevocationList, times(1)).revoke(mockUser.getUsername());
+    }
+
+    @Test
+    void deleteProfile_NotFound() {
+        when(traineeDAO.findIdByUsername("non.exist")).thenReturn(null);
 
-        verify(traineeDAO, times(1)).delete(mockTrainee);
+        assertThrows(NotFoundException.class, () -> traineeService.deleteProfile("non.exist"));
+        verify(traineeDAO, never()).deleteWithHistory(anyLong());
+        verify(userDAO, never()).deactivate(anyLong());
     }
 
     @Test
@@ -141,19 +194,41 @@ public class TraineeServiceTest {
         traineeService.activateDeactivateProfile(mockUser.getUsername(), false);
 
         assertFalse(mockUser.getIsActive());
-        verify(userDAO, times(1)).update(mockUser);
+        verify(userDAO, never()).update(any());
+        verify(principalCache).invalidate(mockUser.getUsername());
+        verify(tokenRevocationList).revoke(mockUser.getUsername());
+    }
+
+    @Test
+    void activateDeactivateProfile_ActivationKeepsTokens() {
+        mockUser.setIsActive(false);
+        when(traineeDAO.findByUsername(anyString())).thenReturn(mockTrainee);
+
+        traineeService.activateDeactivateProfile(mockUser.getUsername(), true);
+
+        assertTrue(mockUser.getIsActive());
+        verify(principalCache).invalidate(mockUser.getUsername());
+        verify(tokenRevocationList, never()).revoke(anyString());
+    }
+
+    @Test
+    void activateDeactivateProfile_UnchangedStatusIsNoOp() {
+        when(traineeDAO.findByUsername(anyString())).thenReturn(mockTrainee);
+
+        traineeService.activateDeactivateProfile(mockUser.getUsername(), true);
+
+        assertTrue(mockUser.getIsActive());
+        verify(principalCache, never()).invalidate(anyString());
+        verify(tokenRevocationList, never()).revoke(anyString());
     }
 
     @Test
     void updateTrainersList_Success_FullReplacement() {
         Set<String> newTrainerUsernames = Set.of("trainer.two");
-        Trainer mockTrainer2 = new Trainer();
-        User trainerUser2 = new User();
-        trainerUser2.setUsername("trainer.two");
-        mockTrainer2.setUser(trainerUser2);
+        Trainer mockTrainer2 = trainer(12L, "trainer.two");
 
         when(traineeDAO.findByUsernameWithTrainers(anyString())).thenReturn(mockTrainee);
-        when(trainerDAO.findByUserNameWithTrainees("trainer.two")).thenReturn(mockTrainer2);
+        when(trainerDAO.findByUsernames(newTrainerUsernames)).thenReturn(List.of(mockTrainer2));
         when(traineeDAO.update(any(Trainee.class))).thenReturn(mockTrainee);
 
         Trainee updatedTrainee = traineeService.updateTrainersList(mockUser.getUsername(), newTrainerUsernames);
@@ -161,19 +236,32 @@ public class TraineeServiceTest {
         assertEquals(1, updatedTrainee.getTrainers().size());
         assertTrue(updatedTrainee.getTrainers().contains(mockTrainer2));
         verify(traineeDAO, times(1)).update(mockTrainee);
+        verify(trainerDAO, never()).findByUserNameWithTrainees(anyString());
+    }
+
+    @Test
+    void updateTrainersList_KeepsUnchangedTrainersInPlace() {
+        Set<String> newTrainerUsernames = Set.of("trainer.one", "trainer.two");
+        Trainer mockTrainer2 = trainer(12L, "trainer.two");
+        Set<Trainer> trainersBefore = mockTrainee.getTrainers();
+
+        when(traineeDAO.findByUsernameWithTrainers(anyString())).thenReturn(mockTrainee);
+        when(trainerDAO.findByUsernames(newTrainerUsernames)).thenReturn(List.of(mockTrainer1, mockTrainer2));
+        when(traineeDAO.update(any(Trainee.class))).thenReturn(mockTrainee);
+
+        Trainee updatedTrainee = traineeService.updateTrainersList(mockUser.getUsername(), newTrainerUsernames);
+
+        assertSame(trainersBefore, updatedTrainee.getTrainers());
+        assertEquals(Set.of(mockTrainer1, mockTrainer2), updatedTrainee.getTrainers());
     }
 
     @Test
     void updateTrainersList_IgnoresNonExistingTrainer() {
         Set<String> newTrainerUsernames = Set.of("trainer.two", "non.exist");
-        Trainer mockTrainer2 = new Trainer();
-        User trainerUser2 = new User();
-        trainerUser2.setUsername("trainer.two");
-        mockTrainer2.setUser(trainerUser2);
+        Trainer mockTrainer2 = trainer(12L, "trainer.two");
 
         when(traineeDAO.findByUsernameWithTrainers(anyString())).thenReturn(mockTrainee);
-        when(trainerDAO.findByUserNameWithTrainees("trainer.two")).thenReturn(mockTrainer2);
-        when(trainerDAO.findByUserNameWithTrainees("non.exist")).thenReturn(null);
+        when(trainerDAO.findByUsernames(newTrainerUsernames)).thenReturn(List.of(mockTrainer2));
         when(traineeDAO.update(any(Trainee.class))).thenReturn(mockTrainee);
 
         Trainee updatedTrainee = traineeService.updateTrainersList(mockUser.getUsername(), newTrainerUsernames);
@@ -181,4 +269,13 @@ public class TraineeServiceTest {
         assertEquals(1, updatedTrainee.getTrainers().size());
         verify(traineeDAO, times(1)).update(mockTrainee);
     }
-}
\ No newline at end of file
+
+    private static Trainer trainer(Long id, String username) {
+        Trainer trainer = new Trainer();
+        trainer.setId(id);
+        User user = new User();
+        user.setUsername(username);
+        trainer.setUser(user);
+        return trainer;
+    }
+}
@@ -0,0 +1,111 @@
+package com.company.gym.service;
+
+import com.company.gym.dao.TrainerDAO;
+import com.company.gym.dto.projection.TrainerRosterRow;
+import com.company.gym.dto.response.TrainerShortResponse;
+import com.company.gym.mapper.TrainerMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TrainerRosterTest {
+
+    @Mock
+    private TrainerDAO trainerDAO;
+
+    private final TrainerMapper trainerMapper = Mappers.getMapper(TrainerMapper.class);
+
+    private TrainerRoster trainerRoster;
+
+    private final List<TrainerRosterRow> roster = List.of(
+            new TrainerRosterRow(1L, "anna.lee", "Anna", "Lee", 1L, "Yoga"),
+            new TrainerRosterRow(4L, "bob.ray", "Bob", "Ray", 2L, "Cardio"),
+            new TrainerRosterRow(9L, "cid.moe", "Cid", "Moe", 1L, "Yoga"));
+
+    @BeforeEach
+    void setUp() {
+        trainerRoster = new TrainerRoster(trainerDAO, trainerMapper, true, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void findUnassigned_ExcludesAssignedIds() {
+        when(trainerDAO.findActiveTrainerRoster()).thenReturn(roster);
+        when(trainerDAO.findAssignedTrainerIds("trainee.user")).thenReturn(new long[] {2L, 4L});
+
+        List<TrainerShortResponse> result = trainerRoster.findUnassigned("trainee.user");
+
+        assertEquals(List.of("anna.lee", "cid.moe"), result.stream().map(TrainerShortResponse::getUsername).toList());
+        assertEquals("Yoga", result.get(0).getSpecialization().getTrainingTypeName());
+        assertEquals(1L, result.get(0).getSpecialization().getId());
+    }
+
+    @Test
+    void findUnassigned_TraineeNotFound_ReturnsEmptyWithoutLoadingRoster() {
+        when(trainerDAO.findAssignedTrainerIds("ghost")).thenReturn(null);
+
+        assertTrue(trainerRoster.findUnassigned("ghost").isEmpty());
+        verify(trainerDAO, never()).findActiveTrainerRoster();
+    }
+
+    @Test
+    void findUnassigned_ReusesSnapshotUntilInvalidated() {
+        when(trainerDAO.findActiveTrainerRoster()).thenReturn(roster);
+        when(trainerDAO.findAssignedTrainerIds(anyString())).thenReturn(new long[0]);
+
+        trainerRoster.findUnassigned("trainee.user");
+        trainerRoster.findUnassigned("other.user");
+        verify(trainerDAO, times(1)).findActiveTrainerRoster();
+
+        trainerRoster.invalidate();
+        trainerRoster.findUnassigned("trainee.user");
+        verify(trainerDAO, times(2)).findActiveTrainerRoster();
+    }
+
+    @Test
+    void invalidate_InTransaction_TakesEffectAfterCommit() {
+        when(trainerDAO.findActiveTrainerRoster()).thenReturn(roster);
+        when(trainerDAO.findAssignedTrainerIds(anyString())).thenReturn(new long[0]);
+        trainerRoster.findUnassigned("trainee.user");
+
+        TransactionSynchronizationManager.initSynchronization();
+        trainerRoster.invalidate();
+        trainerRoster.findUnassigned("trainee.user");
+        verify(trainerDAO, times(1)).findActiveTrainerRoster();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        trainerRoster.findUnassigned("trainee.user");
+        verify(trainerDAO, times(2)).findActiveTrainerRoster();
+    }
+
+    @Test
+    void findUnassigned_ReloadsAfterTtl() {
+        trainerRoster = new TrainerRoster(trainerDAO, trainerMapper, true, Duration.ZERO);
+        when(trainerDAO.findActiveTrainerRoster()).thenReturn(roster);
+        when(trainerDAO.findAssignedTrainerIds(anyString())).thenReturn(new long[0]);
+
+        trainerRoster.findUnassigned("trainee.user");
+        trainerRoster.findUnassigned("trainee.user");
+
+        verify(trainerDAO, times(2)).findActiveTrainerRoster();
+    }
+}
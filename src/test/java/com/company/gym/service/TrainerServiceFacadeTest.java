@@ -1,16 +1,16 @@
 package com.company.gym.service;
 
+import com.company.gym.dto.projection.TrainingListRow;
 import com.company.gym.dto.request.TrainerProfileUpdateRequest;
 import com.company.gym.dto.request.UserStatusUpdateRequest;
 import com.company.gym.dto.response.TrainerProfileResponse;
 import com.company.gym.dto.response.TrainerShortResponse;
 import com.company.gym.dto.response.TrainingListResponse;
-import com.company.gym.dto.response.TrainingTypeResponse;
+import com.company.gym.dto.response.TrainingPageResponse;
 import com.company.gym.entity.Trainer;
-import com.company.gym.entity.Training;
-import com.company.gym.entity.TrainingType;
 import com.company.gym.entity.User;
 import com.company.gym.mapper.TrainerMapper;
+import com.company.gym.util.TrainingCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,7 +35,9 @@ public class TrainerServiceFacadeTest {
     @Mock
     private TrainerMapper trainerMapper;
     @Mock
-    private TrainingTypeService trainingTypeService;
+    private TrainingTypeCatalog trainingTypeCatalog;
+    @Mock
+    private TrainerRoster trainerRoster;
 
     @InjectMocks
     private TrainerServiceFacade trainerServiceFacade;
@@ -73,17 +75,16 @@ public class TrainerServiceFacadeTest {
     @Test
     void updateProfile_Success() {
         when(trainerService.updateProfile(
-                eq(USERNAME), anyString(), anyString(), anyLong()
+                eq(USERNAME), anyString(), anyString(), anyLong(), anyBoolean()
         )).thenReturn(mockTrainer);
         when(trainerMapper.toTrainerProfileResponse(mockTrainer)).thenReturn(mockResponse);
 
         TrainerProfileResponse result = trainerServiceFacade.updateProfile(USERNAME, updateRequest);
 
         assertEquals(mockResponse, result);
-        verify(trainerService).updateProfile(USERNAME, "New", "Name", 1L);
-        verify(trainerService).activateDeactivateProfile(USERNAME, true);
+        verify(trainerService).updateProfile(USERNAME, "New", "Name", 1L, true);
+        verify(trainerService, never()).activateDeactivateProfile(anyString(), any());
         verify(trainerMapper).toTrainerProfileResponse(mockTrainer);
-        assertTrue(mockTrainer.getUser().getIsActive());
     }
 
     @Test
@@ -102,22 +103,51 @@ public class TrainerServiceFacadeTest {
         verify(trainerMapper).toTrainerShortResponseList(mockTrainers);
     }
 
+    @Test
+    void getUnassignedTrainers_UsesRosterWhenEnabled() {
+        List<TrainerShortResponse> rosterResponses = List.of(new TrainerShortResponse());
+        when(trainerRoster.isEnabled()).thenReturn(true);
+        when(trainerRoster.findUnassigned("trainee.user")).thenReturn(rosterResponses);
+
+        List<TrainerShortResponse> result = trainerServiceFacade.getUnassignedTrainers("trainee.user");
+
+        assertEquals(rosterResponses, result);
+        verify(trainerService, never()).getUnassignedTrainers(anyString());
+    }
+
     @Test
     void getTrainings_Success() {
         Date from = new Date();
         Date to = new Date();
-        Training mockTraining = new Training();
-        List<Training> mockTrainings = List.of(mockTraining);
+        TrainingListRow mockRow = new TrainingListRow(1L, "Morning Run", from, "Cardio", 60, "Jane Doe");
+        List<TrainingListRow> mockTrainings = List.of(mockRow);
         List<TrainingListResponse> mockTrainingResponses = List.of(new TrainingListResponse());
 
-        when(trainerService.getTrainerTrainingsList(USERNAME, from, to)).thenReturn(mockTrainings);
-        when(trainerMapper.toTrainingListResponse(mockTrainings)).thenReturn(mockTrainingResponses);
+        when(trainerService.getTrainerTrainingsList(USERNAME, from, to, null, TrainingCursor.DEFAULT_PAGE_SIZE + 1))
+                .thenReturn(mockTrainings);
+        when(trainerMapper.toTrainingListResponseFromRows(mockTrainings)).thenReturn(mockTrainingResponses);
+
+        TrainingPageResponse result = trainerServiceFacade.getTrainings(USERNAME, from, to, null, null);
 
-        List<TrainingListResponse> result = trainerServiceFacade.getTrainings(USERNAME, from, to);
+        assertEquals(mockTrainingResponses, result.getItems());
+        assertNull(result.getNextCursor());
+        verify(trainerService).getTrainerTrainingsList(USERNAME, from, to, null, TrainingCursor.DEFAULT_PAGE_SIZE + 1);
+        verify(trainerMapper).toTrainingListResponseFromRows(mockTrainings);
+    }
+
+    @Test
+    void getTrainings_MoreRowsThanPage_ReturnsNextCursor() {
+        TrainingListRow first = new TrainingListRow(10L, "Morning Run", new Date(1_000L), "Cardio", 60, "Jane Doe");
+        TrainingListRow second = new TrainingListRow(11L, "Evening Run", new Date(2_000L), "Cardio", 45, "Jane Doe");
+        TrainingCursor after = new TrainingCursor(500L, 3L);
+
+        when(trainerService.getTrainerTrainingsList(USERNAME, null, null, after, 2)).thenReturn(List.of(first, second));
+        when(trainerMapper.toTrainingListResponseFromRows(List.of(first))).thenReturn(List.of(new TrainingListResponse()));
 
-        assertEquals(mockTrainingResponses, result);
-        verify(trainerService).getTrainerTrainingsList(USERNAME, from, to);
-        verify(trainerMapper).toTrainingListResponse(mockTrainings);
+        TrainingPageResponse result = trainerServiceFacade.getTrainings(USERNAME, null, null, after.encode(), 1);
+
+        assertEquals(1, result.getItems().size());
+        assertEquals(new TrainingCursor(1_000L, 10L), TrainingCursor.decode(result.getNextCursor()));
     }
 
     @Test
@@ -131,18 +161,10 @@ public class TrainerServiceFacadeTest {
     }
 
     @Test
-    void getAllTrainingTypes_Success() {
-        TrainingType mockType = new TrainingType();
-        List<TrainingType> mockTypes = List.of(mockType);
-        List<TrainingTypeResponse> mockResponses = List.of(new TrainingTypeResponse());
-
-        when(trainingTypeService.getAllTrainingTypes()).thenReturn(mockTypes);
-        when(trainerMapper.toTrainingTypeResponseList(mockTypes)).thenReturn(mockResponses);
+    void getTrainingTypesPayload_DelegatesToCatalog() {
+        TrainingTypeCatalog.Payload payload = new TrainingTypeCatalog.Payload(new byte[]{'[', ']'}, "\"abc\"");
+        when(trainingTypeCatalog.payload()).thenReturn(payload);
 
-        List<TrainingTypeResponse> result = trainerServiceFacade.getAllTrainingTypes();
-
-        assertEquals(mockResponses, result);
-        verify(trainingTypeService).getAllTrainingTypes();
-        verify(trainerMapper).toTrainingTypeResponseList(mockTypes);
+        assertSame(payload, trainerServiceFacade.getTrainingTypesPayload());
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,6 @@
 package com.company.gym.service;
 
 import com.company.gym.dao.TrainerDAO;
-import com.company.gym.dao.TrainingTypeDAO;
-import com.company.gym.dao.UserDAO;
 import com.company.gym.entity.Trainer;
 import com.company.gym.entity.TrainingType;
 import com.company.gym.entity.User;
@@ -29,12 +27,17 @@ public class TrainerServiceTest {
     @Mock
     private TrainerDAO trainerDAO;
     @Mock
-    private UserDAO userDAO;
-    @Mock
-    private TrainingTypeDAO trainingTypeDAO;
+    private TrainingTypeRegistry trainingTypeRegistry;
     @Mock
     private AuthService authService;
 
+    @Mock
+    private PrincipalCache principalCache;
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+    @Mock
+    private TrainerRoster trainerRoster;
+
     @InjectMocks
     private TrainerService trainerService;
 
@@ -61,7 +64,7 @@ public class TrainerServiceTest {
     @Test
     void createProfile_Success() {
         String plainPassword = "gen_password";
-        when(trainingTypeDAO.findById(anyLong())).thenReturn(mockSpecialization);
+        when(trainingTypeRegistry.findById(anyLong())).thenReturn(mockSpecialization);
         when(authService.assignUniqueUsernameAndPassword(any(User.class))).thenReturn(plainPassword);
         when(trainerDAO.save(any(Trainer.class))).thenReturn(mockTrainer);
 
@@ -71,11 +74,12 @@ public class TrainerServiceTest {
         assertEquals(mockUser.getUsername(), response.getUsername());
         assertEquals(plainPassword, response.getPassword());
         verify(trainerDAO, times(1)).save(any(Trainer.class));
+        verify(trainerRoster).invalidate();
     }
 
     @Test
     void createProfile_FailsOnMissingSpecialization() {
-        when(trainingTypeDAO.findById(anyLong())).thenReturn(null);
+        when(trainingTypeRegistry.findById(anyLong())).thenReturn(null);
 
         assertThrows(ValidationException.class,
                 () -> trainerService.createProfile("New", "Trainer", 99L));
@@ -104,14 +108,17 @@ public class TrainerServiceTest {
         String newFirstName = "UpdatedName";
         Long oldSpecializationId = mockSpecialization.getId();
 
-        when(trainerDAO.findByUsername(anyString())).thenReturn(mockTrainer);
         when(trainerDAO.findByUserNameWithTrainees(anyString())).thenReturn(mockTrainer);
 
-        Trainer result = trainerService.updateProfile(mockUser.getUsername(), newFirstName, "User", 2L);
+        Trainer result = trainerService.updateProfile(mockUser.getUsername(), newFirstName, "User", 2L, true);
 
+        assertSame(mockTrainer, result);
         assertEquals(newFirstName, mockUser.getFirstName());
         assertEquals(oldSpecializationId, mockTrainer.getSpecialization().getId());
-        verify(userDAO, times(1)).update(mockUser);
+        verify(trainerDAO, never()).findByUsername(anyString());
+        verify(principalCache, never()).invalidate(anyString());
+        verify(tokenRevocationList, never()).revoke(anyString());
+        verify(trainerRoster).invalidate();
     }
 
     @Test
@@ -121,7 +128,21 @@ public class TrainerServiceTest {
         trainerService.activateDeactivateProfile(mockUser.getUsername(), false);
 
         assertFalse(mockUser.getIsActive());
-        verify(userDAO, times(1)).update(mockUser);
+        verify(principalCache).invalidate(mockUser.getUsername());
+        verify(tokenRevocationList).revoke(mockUser.getUsername());
+        verify(trainerRoster).invalidate();
+    }
+
+    @Test
+    void activateDeactivateProfile_UnchangedStatusIsNoOp() {
+        when(trainerDAO.findByUsername(anyString())).thenReturn(mockTrainer);
+
+        trainerService.activateDeactivateProfile(mockUser.getUsername(), true);
+
+        assertTrue(mockUser.getIsActive());
+        verify(principalCache, never()).invalidate(anyString());
+        verify(tokenRevocationList, never()).revoke(anyString());
+        verify(trainerRoster, never()).invalidate();
     }
 
     @Test
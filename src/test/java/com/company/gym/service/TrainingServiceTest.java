@@ -3,6 +3,10 @@ package com.company.gym.service;
 import com.company.gym.dao.TraineeDAO;
 import com.company.gym.dao.TrainerDAO;
 import com.company.gym.dao.TrainingDAO;
+import com.company.gym.dao.TrainingTypeDAO;
+import com.company.gym.dto.projection.TrainingLinkRow;
+import com.company.gym.dto.projection.TrainingPairRow;
+import com.company.gym.dto.request.TrainingRequest;
 import com.company.gym.entity.Trainee;
 import com.company.gym.entity.Trainer;
 import com.company.gym.entity.Training;
@@ -18,10 +22,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Date;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +41,8 @@ public class TrainingServiceTest {
     private TraineeDAO traineeDAO;
     @Mock
     private TrainerDAO trainerDAO;
+    @Mock
+    private TrainingTypeDAO trainingTypeDAO;
 
     @InjectMocks
     private TrainingService trainingService;
@@ -67,16 +77,23 @@ public class TrainingServiceTest {
 
     @Test
     void createTraining_Success() {
-        when(traineeDAO.findByUsernameWithTrainers(TRAINEE_USER)).thenReturn(mockTrainee);
-        when(trainerDAO.findByUsername(TRAINER_USER)).thenReturn(mockTrainer);
-        when(trainingDAO.save(any(Training.class))).thenReturn(new Training());
+        when(trainingDAO.resolveTrainingLink(TRAINEE_USER, TRAINER_USER))
+                .thenReturn(new TrainingLinkRow(10L, 20L, 1L, true));
+        when(traineeDAO.getReference(10L)).thenReturn(mockTrainee);
+        when(trainerDAO.getReference(20L)).thenReturn(mockTrainer);
+        when(trainingTypeDAO.getReference(1L)).thenReturn(mockTrainingType);
+        when(trainingDAO.save(any(Training.class))).thenAnswer(inv -> inv.getArgument(0));
 
         Training result = trainingService.createTraining(
                 TRAINEE_USER, TRAINER_USER, TRAINING_NAME, TRAINING_DATE, TRAINING_DURATION);
 
         assertNotNull(result);
         verify(trainingDAO, times(1)).save(any(Training.class));
+        assertSame(mockTrainee, result.getTrainee());
+        assertSame(mockTrainer, result.getTrainer());
         assertEquals(mockTrainingType, result.getTrainingType());
+        verify(traineeDAO, never()).findByUsernameWithTrainers(anyString());
+        verify(trainerDAO, never()).findByUsername(anyString());
     }
 
     @Test
@@ -90,28 +107,77 @@ public class TrainingServiceTest {
 
     @Test
     void createTraining_FailsOnTraineeNotFound() {
-        when(traineeDAO.findByUsernameWithTrainers(TRAINEE_USER)).thenReturn(null);
+        when(trainingDAO.resolveTrainingLink(TRAINEE_USER, TRAINER_USER)).thenReturn(null);
+        when(traineeDAO.findByUsername(TRAINEE_USER)).thenReturn(null);
 
-        assertThrows(ValidationException.class,
+        ValidationException ex = assertThrows(ValidationException.class,
                 () -> trainingService.createTraining(TRAINEE_USER, TRAINER_USER, TRAINING_NAME, TRAINING_DATE, TRAINING_DURATION));
+        assertTrue(ex.getMessage().startsWith("Trainee not found"));
     }
 
     @Test
     void createTraining_FailsOnTrainerNotFound() {
-        when(traineeDAO.findByUsernameWithTrainers(TRAINEE_USER)).thenReturn(mockTrainee);
-        when(trainerDAO.findByUsername(TRAINER_USER)).thenReturn(null);
+        when(trainingDAO.resolveTrainingLink(TRAINEE_USER, TRAINER_USER)).thenReturn(null);
+        when(traineeDAO.findByUsername(TRAINEE_USER)).thenReturn(mockTrainee);
 
-        assertThrows(ValidationException.class,
+        ValidationException ex = assertThrows(ValidationException.class,
                 () -> trainingService.createTraining(TRAINEE_USER, TRAINER_USER, TRAINING_NAME, TRAINING_DATE, TRAINING_DURATION));
+        assertTrue(ex.getMessage().startsWith("Trainer not found"));
     }
 
     @Test
     void createTraining_FailsOnTrainerNotAssociated() {
-        mockTrainee.setTrainers(new HashSet<>());
-        when(traineeDAO.findByUsernameWithTrainers(TRAINEE_USER)).thenReturn(mockTrainee);
-        when(trainerDAO.findByUsername(TRAINER_USER)).thenReturn(mockTrainer);
+        when(trainingDAO.resolveTrainingLink(TRAINEE_USER, TRAINER_USER))
+                .thenReturn(new TrainingLinkRow(10L, 20L, 1L, false));
 
         assertThrows(ValidationException.class,
                 () -> trainingService.createTraining(TRAINEE_USER, TRAINER_USER, TRAINING_NAME, TRAINING_DATE, TRAINING_DURATION));
+        verify(trainingDAO, never()).save(any(Training.class));
+    }
+
+    @Test
+    void createTrainings_SavesLinkedItemsAndExplainsTheRest() {
+        TrainingRequest linked = batchItem(TRAINEE_USER, TRAINER_USER);
+        TrainingRequest unlinked = batchItem(TRAINEE_USER, "trainer.two");
+        TrainingRequest missingTrainee = batchItem("ghost", TRAINER_USER);
+        when(trainingDAO.findLinkedPairs(anySet(), anySet()))
+                .thenReturn(List.of(new TrainingPairRow(TRAINEE_USER, TRAINER_USER, 10L, 20L, 1L)));
+        when(traineeDAO.getReference(10L)).thenReturn(mockTrainee);
+        when(trainerDAO.getReference(20L)).thenReturn(mockTrainer);
+        when(trainingTypeDAO.getReference(1L)).thenReturn(mockTrainingType);
+        when(traineeDAO.findExistingUsernames(anySet())).thenReturn(List.of(TRAINEE_USER));
+        when(trainerDAO.findExistingUsernames(anySet())).thenReturn(List.of("trainer.two", TRAINER_USER));
+
+        Map<Integer, String> rejected = trainingService.createTrainings(List.of(linked, unlinked, missingTrainee, linked));
+
+        assertEquals(Set.of(1, 2), rejected.keySet());
+        assertTrue(rejected.get(1).contains("is not associated"));
+        assertTrue(rejected.get(2).startsWith("Trainee not found"));
+        verify(trainingDAO).saveAll(argThat(trainings -> trainings.size() == 2
+                && trainings.get(0).getTrainee() == mockTrainee
+                && trainings.get(0).getTrainingType() == mockTrainingType));
+        verify(trainingDAO, never()).save(any(Training.class));
+    }
+
+    @Test
+    void createTrainings_AllLinkedSkipsExistenceQueries() {
+        when(trainingDAO.findLinkedPairs(anySet(), anySet()))
+                .thenReturn(List.of(new TrainingPairRow(TRAINEE_USER, TRAINER_USER, 10L, 20L, 1L)));
+
+        Map<Integer, String> rejected = trainingService.createTrainings(List.of(batchItem(TRAINEE_USER, TRAINER_USER)));
+
+        assertTrue(rejected.isEmpty());
+        verify(traineeDAO, never()).findExistingUsernames(any());
+        verify(trainerDAO, never()).findExistingUsernames(any());
+    }
+
+    private TrainingRequest batchItem(String traineeUsername, String trainerUsername) {
+        TrainingRequest request = new TrainingRequest();
+        request.setTraineeUsername(traineeUsername);
+        request.setTrainerUsername(trainerUsername);
+        request.setTrainingName(TRAINING_NAME);
+        request.setTrainingDate(TRAINING_DATE);
+        request.setTrainingDuration(TRAINING_DURATION);
+        return request;
     }
-}
\ No newline at end of file
+}
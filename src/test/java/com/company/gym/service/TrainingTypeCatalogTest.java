@@ -0,0 +1,69 @@
+package com.company.gym.service;
+
+import com.company.gym.dto.response.TrainingTypeResponse;
+import com.company.gym.entity.TrainingType;
+import com.company.gym.mapper.TrainerMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TrainingTypeCatalogTest {
+
+    @Mock
+    private TrainingTypeRegistry trainingTypeRegistry;
+    @Mock
+    private TrainerMapper trainerMapper;
+
+    private TrainingTypeCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new TrainingTypeCatalog(trainingTypeRegistry, trainerMapper, new ObjectMapper());
+    }
+
+    @Test
+    void payload_RendersOncePerRegistrySnapshot() {
+        List<TrainingType> types = List.of(new TrainingType("Yoga"));
+        when(trainingTypeRegistry.findAll()).thenReturn(types);
+        when(trainerMapper.toTrainingTypeResponseList(types)).thenReturn(List.of(response(1L, "Yoga")));
+
+        TrainingTypeCatalog.Payload first = catalog.payload();
+        TrainingTypeCatalog.Payload second = catalog.payload();
+
+        assertSame(first, second);
+        assertTrue(new String(first.body(), StandardCharsets.UTF_8).contains("\"trainingTypeName\":\"Yoga\""));
+        assertTrue(first.etag().matches("\"[0-9a-f]{32}\""));
+        verify(trainerMapper, times(1)).toTrainingTypeResponseList(types);
+    }
+
+    @Test
+    void payload_ChangesEtagWhenTypesChange() {
+        List<TrainingType> before = List.of(new TrainingType("Yoga"));
+        List<TrainingType> after = List.of(new TrainingType("Yoga"), new TrainingType("Cardio"));
+        when(trainingTypeRegistry.findAll()).thenReturn(before, after);
+        when(trainerMapper.toTrainingTypeResponseList(before)).thenReturn(List.of(response(1L, "Yoga")));
+        when(trainerMapper.toTrainingTypeResponseList(after)).thenReturn(List.of(response(1L, "Yoga"), response(2L, "Cardio")));
+
+        String firstEtag = catalog.payload().etag();
+        String secondEtag = catalog.payload().etag();
+
+        assertNotEquals(firstEtag, secondEtag);
+    }
+
+    private static TrainingTypeResponse response(Long id, String name) {
+        TrainingTypeResponse response = new TrainingTypeResponse();
+        response.setId(id);
+        response.setTrainingTypeName(name);
+        return response;
+    }
+}
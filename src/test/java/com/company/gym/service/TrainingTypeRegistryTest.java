@@ -0,0 +1,83 @@
+package com.company.gym.service;
+
+import com.company.gym.dao.TrainingTypeDAO;
+import com.company.gym.entity.TrainingType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TrainingTypeRegistryTest {
+
+    @Mock
+    private TrainingTypeDAO trainingTypeDAO;
+
+    private TrainingTypeRegistry registry;
+    private TrainingType yoga;
+    private TrainingType cardio;
+
+    @BeforeEach
+    void setUp() {
+        registry = new TrainingTypeRegistry(trainingTypeDAO);
+        yoga = type(1L, "Yoga");
+        cardio = type(2L, "Cardio");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void lookups_AreServedFromOneLoad() {
+        when(trainingTypeDAO.findAll()).thenReturn(List.of(cardio, yoga));
+
+        registry.warmUp();
+
+        assertEquals(List.of(cardio, yoga), registry.findAll());
+        assertSame(yoga, registry.findById(1L));
+        assertSame(cardio, registry.findByName("Cardio"));
+        assertNull(registry.findById(99L));
+        assertNull(registry.findById(null));
+        verify(trainingTypeDAO, times(1)).findAll();
+    }
+
+    @Test
+    void findAll_ReturnsUnmodifiableList() {
+        when(trainingTypeDAO.findAll()).thenReturn(List.of(yoga));
+
+        assertThrows(UnsupportedOperationException.class, () -> registry.findAll().add(cardio));
+    }
+
+    @Test
+    void invalidate_ReloadsOnlyAfterCommit() {
+        when(trainingTypeDAO.findAll()).thenReturn(List.of(yoga), List.of(yoga, cardio));
+        registry.warmUp();
+        TransactionSynchronizationManager.initSynchronization();
+
+        registry.invalidate();
+        assertNull(registry.findById(2L));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertSame(cardio, registry.findById(2L));
+        verify(trainingTypeDAO, times(2)).findAll();
+    }
+
+    private static TrainingType type(Long id, String name) {
+        TrainingType type = new TrainingType(name);
+        type.setId(id);
+        return type;
+    }
+}
@@ -1,6 +1,5 @@
 package com.company.gym.service;
 
-import com.company.gym.dao.TrainingTypeDAO;
 import com.company.gym.entity.TrainingType;
 import com.company.gym.exception.NotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,7 +19,7 @@ import static org.mockito.Mockito.*;
 public class TrainingTypeServiceTest {
 
     @Mock
-    private TrainingTypeDAO trainingTypeDAO;
+    private TrainingTypeRegistry trainingTypeRegistry;
 
     @InjectMocks
     private TrainingTypeService trainingTypeService;
@@ -36,41 +35,41 @@ public class TrainingTypeServiceTest {
     @Test
     void getAllTrainingTypes_ReturnsList() {
         List<TrainingType> expectedList = List.of(mockType, new TrainingType("Cardio"));
-        when(trainingTypeDAO.findAll()).thenReturn(expectedList);
+        when(trainingTypeRegistry.findAll()).thenReturn(expectedList);
 
         List<TrainingType> actualList = trainingTypeService.getAllTrainingTypes();
 
         assertEquals(2, actualList.size());
         assertTrue(actualList.contains(mockType));
-        verify(trainingTypeDAO).findAll();
+        verify(trainingTypeRegistry).findAll();
     }
 
     @Test
     void getAllTrainingTypes_ReturnsEmptyList() {
-        when(trainingTypeDAO.findAll()).thenReturn(Collections.emptyList());
+        when(trainingTypeRegistry.findAll()).thenReturn(Collections.emptyList());
 
         List<TrainingType> actualList = trainingTypeService.getAllTrainingTypes();
 
         assertTrue(actualList.isEmpty());
-        verify(trainingTypeDAO).findAll();
+        verify(trainingTypeRegistry).findAll();
     }
 
     @Test
     void findTrainingTypeById_Success() {
-        when(trainingTypeDAO.findById(1L)).thenReturn(mockType);
+        when(trainingTypeRegistry.findById(1L)).thenReturn(mockType);
 
         TrainingType result = trainingTypeService.findTrainingTypeById(1L);
 
         assertNotNull(result);
         assertEquals("Yoga", result.getName());
-        verify(trainingTypeDAO).findById(1L);
+        verify(trainingTypeRegistry).findById(1L);
     }
 
     @Test
     void findTrainingTypeById_NotFound_ThrowsException() {
-        when(trainingTypeDAO.findById(99L)).thenReturn(null);
+        when(trainingTypeRegistry.findById(99L)).thenReturn(null);
 
         assertThrows(NotFoundException.class, () -> trainingTypeService.findTrainingTypeById(99L));
-        verify(trainingTypeDAO).findById(99L);
+        verify(trainingTypeRegistry).findById(99L);
     }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.company.gym.service;
+
+import com.company.gym.dao.UserDAO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UsernameAllocatorTest {
+
+    @Mock
+    private UserDAO userDAO;
+
+    private UsernameAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        allocator = new UsernameAllocator(userDAO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void allocate_ReturnsBaseWhenFree() {
+        when(userDAO.findUsernamesByBase("john.smith")).thenReturn(List.of());
+
+        assertEquals("john.smith", allocator.allocate("john.smith"));
+    }
+
+    @Test
+    void allocate_FillsFirstGapAndIgnoresLongerNames() {
+        when(userDAO.findUsernamesByBase("john.smith"))
+                .thenReturn(List.of("john.smith", "john.smith1", "john.smith3", "john.smithers"));
+
+        assertEquals("john.smith2", allocator.allocate("john.smith"));
+    }
+
+    @Test
+    void allocate_UsesSingleQueryRegardlessOfCollisions() {
+        List<String> existing = new ArrayList<>();
+        existing.add("john.smith");
+        for (int i = 1; i < 500; i++) {
+            existing.add("john.smith" + i);
+        }
+        when(userDAO.findUsernamesByBase("john.smith")).thenReturn(existing);
+
+        assertEquals("john.smith500", allocator.allocate("john.smith"));
+        verify(userDAO, times(1)).findUsernamesByBase("john.smith");
+        verify(userDAO, never()).findByUsername(anyString());
+    }
+
+    @Test
+    void allocate_KeepsReservationUntilTransactionCompletes() {
+        when(userDAO.findUsernamesByBase("john.smith")).thenReturn(List.of());
+        TransactionSynchronizationManager.initSynchronization();
+
+        String first = allocator.allocate("john.smith");
+        String second = allocator.allocate("john.smith");
+
+        assertEquals("john.smith", first);
+        assertEquals("john.smith1", second);
+        assertEquals(2, allocator.reservedCount());
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertEquals(0, allocator.reservedCount());
+    }
+
+    @Test
+    void allocate_ConcurrentRegistrationsGetDistinctNames() throws InterruptedException {
+        when(userDAO.findUsernamesByBase("john.smith")).thenReturn(List.of("john.smith"));
+        int threads = 16;
+        Set<String> allocated = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                TransactionSynchronizationManager.initSynchronization();
+                try {
+                    start.await();
+                    allocated.add(allocator.allocate("john.smith"));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    TransactionSynchronizationManager.clearSynchronization();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(threads, allocated.size());
+        assertFalse(allocated.contains("john.smith"));
+    }
+}
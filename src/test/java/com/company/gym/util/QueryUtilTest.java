@@ -37,7 +37,7 @@ public class QueryUtilTest {
 
         when(query.setParameter(anyString(), any())).thenReturn(query);
 
-        Query<Training> result = QueryUtil.getTrainingQuery(USERNAME, MOCK_DATE, MOCK_DATE, session, hql);
+        Query<Training> result = QueryUtil.getTrainingQuery(USERNAME, MOCK_DATE, MOCK_DATE, session, hql, Training.class);
 
         assertNotNull(result);
         verify(query).setParameter("username", USERNAME);
@@ -53,11 +53,42 @@ public class QueryUtilTest {
 
         when(query.setParameter(anyString(), Mockito.eq(USERNAME))).thenReturn(query);
 
-        Query<Training> result = QueryUtil.getTrainingQuery(USERNAME, null, null, session, hql);
+        Query<Training> result = QueryUtil.getTrainingQuery(USERNAME, null, null, session, hql, Training.class);
 
         assertNotNull(result);
         verify(query).setParameter("username", USERNAME);
         verify(query, never()).setParameter("fromDate", MOCK_DATE);
         verify(query, never()).setParameter("toDate", MOCK_DATE);
     }
-}
\ No newline at end of file
+
+    @Test
+    void appendKeyset_WithCursor_AddsSeekPredicateAndOrder() {
+        StringBuilder hql = new StringBuilder("SELECT t FROM Training t WHERE t.id IN (SELECT p.id FROM Training p WHERE p.trainee.id = 1");
+
+        QueryUtil.appendKeyset(hql, new TrainingCursor(1_000L, 5L));
+
+        assertTrue(hql.toString().contains("(p.trainingDate, p.id) > (:cursorDate, :cursorId)"));
+        assertTrue(hql.toString().endsWith(" ORDER BY p.trainingDate, p.id LIMIT :pageSize) ORDER BY t.trainingDate, t.id"));
+    }
+
+    @Test
+    void appendKeyset_FirstPage_OnlyOrders() {
+        StringBuilder hql = new StringBuilder("SELECT t FROM Training t WHERE t.id IN (SELECT p.id FROM Training p WHERE p.trainee.id = 1");
+
+        QueryUtil.appendKeyset(hql, null);
+
+        assertFalse(hql.toString().contains(":cursorDate"));
+        assertTrue(hql.toString().endsWith(" ORDER BY p.trainingDate, p.id LIMIT :pageSize) ORDER BY t.trainingDate, t.id"));
+    }
+
+    @Test
+    void bindKeyset_SetsCursorAndLimit() {
+        TrainingCursor cursor = new TrainingCursor(1_000L, 5L);
+
+        QueryUtil.bindKeyset(query, cursor, 51);
+
+        verify(query).setParameter("cursorDate", new Date(1_000L));
+        verify(query).setParameter("cursorId", 5L);
+        verify(query).setParameter("pageSize", 51);
+    }
+}
@@ -0,0 +1,69 @@
+package com.company.gym.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestPersistenceCounterTest {
+
+    @BeforeEach
+    void setUp() {
+        RequestPersistenceCounter.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestPersistenceCounter.setCaptureSql(false);
+        RequestPersistenceCounter.clear();
+    }
+
+    @Test
+    void counters_IncrementIndependently() {
+        RequestPersistenceCounter.sessionOpened();
+        RequestPersistenceCounter.connectionAcquired();
+        RequestPersistenceCounter.connectionAcquired();
+
+        assertEquals(1, RequestPersistenceCounter.sessions());
+        assertEquals(2, RequestPersistenceCounter.connections());
+    }
+
+    @Test
+    void reset_ZeroesCounters() {
+        RequestPersistenceCounter.sessionOpened();
+        RequestPersistenceCounter.connectionAcquired();
+
+        RequestPersistenceCounter.reset();
+
+        assertEquals(0, RequestPersistenceCounter.sessions());
+        assertEquals(0, RequestPersistenceCounter.connections());
+    }
+
+    @Test
+    void statementPrepared_KeepsSqlOnlyWhenCaptureIsOn() {
+        RequestPersistenceCounter.statementPrepared("select 1");
+        assertEquals(1, RequestPersistenceCounter.statements());
+        assertTrue(RequestPersistenceCounter.statementLog().isEmpty());
+
+        RequestPersistenceCounter.setCaptureSql(true);
+        RequestPersistenceCounter.reset();
+        RequestPersistenceCounter.statementPrepared("select 2");
+
+        assertEquals(1, RequestPersistenceCounter.statements());
+        assertEquals(List.of("select 2"), RequestPersistenceCounter.statementLog());
+    }
+
+    @Test
+    void counters_AreThreadConfined() throws InterruptedException {
+        RequestPersistenceCounter.sessionOpened();
+
+        Thread other = new Thread(RequestPersistenceCounter::sessionOpened);
+        other.start();
+        other.join();
+
+        assertEquals(1, RequestPersistenceCounter.sessions());
+    }
+}
@@ -0,0 +1,55 @@
+package com.company.gym.util;
+
+import com.company.gym.dto.projection.TrainingListRow;
+import com.company.gym.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TrainingCursorTest {
+
+    @Test
+    void encodeDecode_RoundTrip() {
+        TrainingCursor cursor = new TrainingCursor(1_700_000_000_000L, 42L);
+
+        assertEquals(cursor, TrainingCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void decode_BlankReturnsNull() {
+        assertNull(TrainingCursor.decode(null));
+        assertNull(TrainingCursor.decode(""));
+    }
+
+    @Test
+    void decode_GarbageThrowsValidationException() {
+        assertThrows(ValidationException.class, () -> TrainingCursor.decode("not-a-cursor"));
+        assertThrows(ValidationException.class, () -> TrainingCursor.decode("%%%"));
+    }
+
+    @Test
+    void pageSize_DefaultsAndCaps() {
+        assertEquals(TrainingCursor.DEFAULT_PAGE_SIZE, TrainingCursor.pageSize(null));
+        assertEquals(TrainingCursor.DEFAULT_PAGE_SIZE, TrainingCursor.pageSize(0));
+        assertEquals(10, TrainingCursor.pageSize(10));
+        assertEquals(TrainingCursor.MAX_PAGE_SIZE, TrainingCursor.pageSize(100_000));
+    }
+
+    @Test
+    void nextCursor_PointsAtLastReturnedRow() {
+        TrainingListRow first = row(1L, 1_000L);
+        TrainingListRow second = row(2L, 2_000L);
+        TrainingListRow extra = row(3L, 3_000L);
+
+        assertNull(TrainingCursor.nextCursor(List.of(first, second), 2));
+        assertEquals(new TrainingCursor(2_000L, 2L),
+                TrainingCursor.decode(TrainingCursor.nextCursor(List.of(first, second, extra), 2)));
+    }
+
+    private static TrainingListRow row(Long id, long dateMillis) {
+        return new TrainingListRow(id, "Run", new Date(dateMillis), "Cardio", 30, "John Doe");
+    }
+}